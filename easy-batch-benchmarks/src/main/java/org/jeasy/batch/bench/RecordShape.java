@@ -0,0 +1,129 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench;
+
+import org.jeasy.batch.core.mapper.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Record shapes used as benchmark input. Each shape provides a target type,
+ * its field names and a realistic raw value for each field.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public enum RecordShape {
+
+    NARROW(NarrowRecord.class,
+            new String[]{"id", "name", "active"},
+            new String[]{"42", "Lorem ipsum", "true"}),
+
+    WIDE(WideRecord.class,
+            new String[]{"id", "firstName", "lastName", "email", "phone", "street", "city", "zipCode", "country", "age",
+                    "height", "weight", "married", "children", "salary", "score", "rating", "active", "category", "comment"},
+            new String[]{"1234567890", "Foo", "Bar", "foo.bar@example.com", "+33 6 12 34 56 78", "12 rue de la Paix", "Paris", "75002", "France", "34",
+                    "1.82", "78.5", "true", "2", "52000", "0.875", "4", "true", "A", "Premium customer since 2015"}),
+
+    DATES(DateRecord.class,
+            new String[]{"id", "birthDate", "hireDate", "contractEndDate", "lastLogin", "shiftStart"},
+            new String[]{"42", "1985-03-12", "2015-09-01", "2025-08-31", "2020-01-15T10:20:30", "08:30:00"}),
+
+    DECIMALS(DecimalRecord.class,
+            new String[]{"id", "amount", "tax", "discount", "total", "exchangeRate", "quantity"},
+            new String[]{"42", "1299.99", "259.998", "-50.00", "1509.988", "1.0874", "3"});
+
+    private static final int FIXED_LENGTH_PADDING = 2;
+
+    private final Class<?> type;
+    private final String[] fieldNames;
+    private final String[] fieldValues;
+
+    RecordShape(Class<?> type, String[] fieldNames, String[] fieldValues) {
+        this.type = type;
+        this.fieldNames = fieldNames;
+        this.fieldValues = fieldValues;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String[] getFieldNames() {
+        return fieldNames.clone();
+    }
+
+    /**
+     * @return field values indexed by field name, in declaration order
+     */
+    public Map<String, String> getValues() {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            values.put(fieldNames[i], fieldValues[i]);
+        }
+        return values;
+    }
+
+    /**
+     * @param delimiter the field delimiter
+     * @return field values as a delimited line
+     */
+    public String toDelimitedLine(String delimiter) {
+        return String.join(delimiter, fieldValues);
+    }
+
+    /**
+     * @return the length of each field in a fixed length line
+     */
+    public int[] getFieldsLength() {
+        int[] fieldsLength = new int[fieldValues.length];
+        for (int i = 0; i < fieldValues.length; i++) {
+            fieldsLength[i] = fieldValues[i].length() + FIXED_LENGTH_PADDING;
+        }
+        return fieldsLength;
+    }
+
+    /**
+     * @return field values as a fixed length line, each value being right padded with spaces
+     */
+    public String toFixedLengthLine() {
+        int[] fieldsLength = getFieldsLength();
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fieldValues.length; i++) {
+            line.append(fieldValues[i]);
+            for (int j = fieldValues[i].length(); j < fieldsLength[i]; j++) {
+                line.append(' ');
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * @return a populated instance of the target type
+     * @throws Exception if field values cannot be mapped to the target type
+     */
+    public Object createInstance() throws Exception {
+        return new ObjectMapper<>(type).mapObject(getValues());
+    }
+}
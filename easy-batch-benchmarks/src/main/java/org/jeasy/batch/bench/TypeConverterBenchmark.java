@@ -0,0 +1,144 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench;
+
+import org.jeasy.batch.core.converter.BigDecimalTypeConverter;
+import org.jeasy.batch.core.converter.BooleanTypeConverter;
+import org.jeasy.batch.core.converter.DateTypeConverter;
+import org.jeasy.batch.core.converter.DoubleTypeConverter;
+import org.jeasy.batch.core.converter.IntegerTypeConverter;
+import org.jeasy.batch.core.converter.LocalDateConverter;
+import org.jeasy.batch.core.converter.LocalDateTimeConverter;
+import org.jeasy.batch.core.converter.LongTypeConverter;
+import org.jeasy.batch.core.converter.SqlTimestampTypeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the type converters of package {@code org.jeasy.batch.core.converter}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeConverterBenchmark {
+
+    // values are kept in non final fields to prevent constant folding
+    private String integerValue = "123456";
+    private String longValue = "1234567890123";
+    private String doubleValue = "1234.5678";
+    private String bigDecimalValue = "1299.99";
+    private String booleanValue = "true";
+    private String dateValue = "1985-03-12";
+    private String localDateValue = "2015-09-01";
+    private String localDateTimeValue = "2020-01-15T10:20:30";
+    private String timestampValue = "2020-01-15 10:20:30.123";
+
+    private IntegerTypeConverter integerTypeConverter;
+    private LongTypeConverter longTypeConverter;
+    private DoubleTypeConverter doubleTypeConverter;
+    private BigDecimalTypeConverter bigDecimalTypeConverter;
+    private BooleanTypeConverter booleanTypeConverter;
+    private DateTypeConverter dateTypeConverter;
+    private LocalDateConverter localDateConverter;
+    private LocalDateTimeConverter localDateTimeConverter;
+    private SqlTimestampTypeConverter sqlTimestampTypeConverter;
+
+    @Setup
+    public void setUp() {
+        integerTypeConverter = new IntegerTypeConverter();
+        longTypeConverter = new LongTypeConverter();
+        doubleTypeConverter = new DoubleTypeConverter();
+        bigDecimalTypeConverter = new BigDecimalTypeConverter();
+        booleanTypeConverter = new BooleanTypeConverter();
+        dateTypeConverter = new DateTypeConverter();
+        localDateConverter = new LocalDateConverter();
+        localDateTimeConverter = new LocalDateTimeConverter();
+        sqlTimestampTypeConverter = new SqlTimestampTypeConverter();
+    }
+
+    @Benchmark
+    public Integer convertInteger() {
+        return integerTypeConverter.convert(integerValue);
+    }
+
+    @Benchmark
+    public Long convertLong() {
+        return longTypeConverter.convert(longValue);
+    }
+
+    @Benchmark
+    public Double convertDouble() {
+        return doubleTypeConverter.convert(doubleValue);
+    }
+
+    @Benchmark
+    public BigDecimal convertBigDecimal() {
+        return bigDecimalTypeConverter.convert(bigDecimalValue);
+    }
+
+    @Benchmark
+    public Boolean convertBoolean() {
+        return booleanTypeConverter.convert(booleanValue);
+    }
+
+    @Benchmark
+    public Date convertDate() {
+        return dateTypeConverter.convert(dateValue);
+    }
+
+    @Benchmark
+    public LocalDate convertLocalDate() {
+        return localDateConverter.convert(localDateValue);
+    }
+
+    @Benchmark
+    public LocalDateTime convertLocalDateTime() {
+        return localDateTimeConverter.convert(localDateTimeValue);
+    }
+
+    @Benchmark
+    public Timestamp convertTimestamp() {
+        return sqlTimestampTypeConverter.convert(timestampValue);
+    }
+}
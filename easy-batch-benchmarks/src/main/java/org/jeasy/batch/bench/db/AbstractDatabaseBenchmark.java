@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.db;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.jeasy.batch.test.common.AbstractDatabaseTest;
+import org.jeasy.batch.test.common.Tweet;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of database benchmarks, running against the embedded database of {@link AbstractDatabaseTest}.
+ *
+ * The {@code tweet} table has a fixed set of columns, so the row width is varied through the length
+ * of the {@code message} column (up to 140 characters).
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractDatabaseBenchmark extends AbstractDatabaseTest {
+
+    private static final String HIBERNATE_CONFIGURATION = "/org/jeasy/batch/bench/db/hibernate.cfg.xml";
+    private static final String PERSISTENCE_UNIT = "tweet";
+    private static final String TEXT = "Easy Batch is a framework that aims at simplifying batch processing with Java. ";
+
+    @Param
+    public Backend backend;
+
+    @Param({"20", "140"})
+    public int messageLength;
+
+    protected SessionFactory sessionFactory;
+    protected EntityManagerFactory entityManagerFactory;
+    private String message;
+
+    protected void startDatabase() throws Exception {
+        super.setUp();
+        if (backend == Backend.HIBERNATE) {
+            sessionFactory = new Configuration().configure(HIBERNATE_CONFIGURATION).buildSessionFactory();
+        }
+        if (backend == Backend.JPA) {
+            entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT);
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        while (stringBuilder.length() < messageLength) {
+            stringBuilder.append(TEXT);
+        }
+        message = stringBuilder.substring(0, messageLength);
+    }
+
+    protected void stopDatabase() throws Exception {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        super.tearDown();
+    }
+
+    /**
+     * Create a tweet of the type expected by the current backend.
+     *
+     * @param id of the tweet
+     * @return a new tweet
+     */
+    protected Object createTweet(int id) {
+        String user = "user" + (id % 1000);
+        if (backend == Backend.JPA) {
+            return new JpaTweet(id, user, message);
+        }
+        return new Tweet(id, user, message);
+    }
+
+    protected void insertTweets(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{i, "user" + (i % 1000), message});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tweet VALUES (?,?,?)", rows);
+    }
+
+    protected void deleteTweets() {
+        jdbcTemplate.update("DELETE FROM tweet");
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.db;
+
+import org.jeasy.batch.core.reader.RecordReader;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.extensions.hibernate.HibernateRecordReader;
+import org.jeasy.batch.jdbc.JdbcRecordReader;
+import org.jeasy.batch.jpa.JpaRecordReader;
+import org.jeasy.batch.test.common.Tweet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link JdbcRecordReader}, {@link JpaRecordReader} and {@link HibernateRecordReader}
+ * with different fetch sizes.
+ *
+ * Each operation reads one batch of rows from a pre-populated table. {@link #throughput(Rows, Blackhole)}
+ * reports batches and rows per second, {@link #latency(Blackhole)} reports the distribution of the time
+ * to read a batch. The reader is reopened (outside of the measurement) when the table has been read entirely.
+ * Note that the in-memory HSQL database does not use fetch size the way a remote database does; for
+ * JPA, the fetch size is the page size of the paginated query.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseRecordReaderBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final int ROWS = 10000;
+
+    @Param({"10", "100", "1000"})
+    public int fetchSize;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private RecordReader recordReader;
+    private boolean exhausted;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        startDatabase();
+        insertTweets(ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws Exception {
+        stopDatabase();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws Exception {
+        openRecordReader();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() throws Exception {
+        recordReader.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws Exception {
+        if (exhausted) {
+            recordReader.close();
+            openRecordReader();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput(Rows rows, Blackhole blackhole) throws Exception {
+        rows.rows += readBatch(blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void latency(Blackhole blackhole) throws Exception {
+        readBatch(blackhole);
+    }
+
+    private int readBatch(Blackhole blackhole) throws Exception {
+        int count = 0;
+        while (count < batchSize) {
+            Record record = recordReader.readRecord();
+            if (record == null) {
+                exhausted = true;
+                break;
+            }
+            blackhole.consume(record.getPayload());
+            count++;
+        }
+        return count;
+    }
+
+    private void openRecordReader() throws Exception {
+        recordReader = createRecordReader();
+        recordReader.open();
+        exhausted = false;
+    }
+
+    private RecordReader createRecordReader() {
+        switch (backend) {
+            case JDBC:
+                JdbcRecordReader jdbcRecordReader = new JdbcRecordReader(embeddedDatabase, "SELECT * FROM tweet");
+                jdbcRecordReader.setFetchSize(fetchSize);
+                return jdbcRecordReader;
+            case JPA:
+                JpaRecordReader<JpaTweet> jpaRecordReader = new JpaRecordReader<>(entityManagerFactory, "SELECT t FROM JpaTweet t ORDER BY t.id", JpaTweet.class);
+                jpaRecordReader.setFetchSize(fetchSize);
+                return jpaRecordReader;
+            case HIBERNATE:
+                HibernateRecordReader<Tweet> hibernateRecordReader = new HibernateRecordReader<>(sessionFactory, "from Tweet");
+                hibernateRecordReader.setFetchSize(fetchSize);
+                return hibernateRecordReader;
+            default:
+                throw new IllegalArgumentException("Unsupported backend " + backend);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.db;
+
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.GenericRecord;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.writer.RecordWriter;
+import org.jeasy.batch.extensions.hibernate.HibernateRecordWriter;
+import org.jeasy.batch.jdbc.BeanPropertiesPreparedStatementProvider;
+import org.jeasy.batch.jdbc.JdbcRecordWriter;
+import org.jeasy.batch.jpa.JpaRecordWriter;
+import org.jeasy.batch.test.common.Tweet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link JdbcRecordWriter}, {@link JpaRecordWriter} and {@link HibernateRecordWriter}.
+ *
+ * Each operation writes one batch of new rows. {@link #throughput(Rows)} reports batches and rows
+ * per second, {@link #latency()} reports the distribution of the time to write a batch.
+ * The table is emptied and the writer reopened at each iteration.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseRecordWriterBenchmark extends AbstractDatabaseBenchmark {
+
+    private static final String INSERT_TWEET = "INSERT INTO tweet VALUES (?,?,?);";
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    private RecordWriter recordWriter;
+    private Batch batch;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        startDatabase();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws Exception {
+        stopDatabase();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws Exception {
+        deleteTweets();
+        nextId = 0;
+        recordWriter = createRecordWriter();
+        recordWriter.open();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() throws Exception {
+        recordWriter.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        batch = new Batch();
+        for (int i = 0; i < batchSize; i++) {
+            int id = nextId++;
+            batch.addRecord(new GenericRecord<>(new Header((long) id, "benchmark", new Date()), createTweet(id)));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughput(Rows rows) throws Exception {
+        recordWriter.writeRecords(batch);
+        rows.rows += batchSize;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void latency() throws Exception {
+        recordWriter.writeRecords(batch);
+    }
+
+    private RecordWriter createRecordWriter() {
+        switch (backend) {
+            case JDBC:
+                return new JdbcRecordWriter(embeddedDatabase, INSERT_TWEET, new BeanPropertiesPreparedStatementProvider(Tweet.class, "id", "user", "message"));
+            case JPA:
+                return new JpaRecordWriter(entityManagerFactory);
+            case HIBERNATE:
+                return new HibernateRecordWriter(sessionFactory);
+            default:
+                throw new IllegalArgumentException("Unsupported backend " + backend);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.macro;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generator of synthetic tweet datasets used as input of macro benchmarks.
+ *
+ * Each record has an {@code id}, a {@code user} and a {@code message} field (matching
+ * the {@code tweet} table of {@code easy-batch-test-common}), followed by
+ * {@code width - 3} extra attributes that readers and mappers have to go through.
+ * Data is generated with a fixed seed so that datasets are identical between runs.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class DatasetGenerator {
+
+    /**
+     * Supported dataset formats.
+     */
+    public enum Format {
+        FLAT_FILE("csv"), JSON("json"), XML("xml"), YAML("yml");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public static final int MIN_WIDTH = 3;
+
+    private static final long SEED = 42;
+    private static final int USERS = 1000;
+    private static final int MAX_MESSAGE_LENGTH = 140;
+    private static final String[] WORDS = {
+            "easy", "batch", "record", "reader", "writer", "processor", "job", "file", "data", "stream",
+            "java", "fast", "simple", "pipeline", "report", "metrics", "mapper", "marshaller", "hello", "world"
+    };
+
+    private final int records;
+    private final int width;
+
+    /**
+     * Create a new {@link DatasetGenerator}.
+     *
+     * @param records number of records to generate
+     * @param width number of fields of each record
+     */
+    public DatasetGenerator(int records, int width) {
+        Utils.checkArgument(records >= 1, "Number of records must be >= 1");
+        Utils.checkArgument(width >= MIN_WIDTH, "Width must be >= " + MIN_WIDTH);
+        this.records = records;
+        this.width = width;
+    }
+
+    /**
+     * Generate a dataset in the given format.
+     *
+     * @param format of the dataset
+     * @param directory in which the dataset file is created
+     * @return the path of the generated dataset file
+     * @throws IOException if the dataset file cannot be written
+     */
+    public Path generate(Format format, Path directory) throws IOException {
+        Path path = directory.resolve("tweets-" + records + "x" + width + "." + format.getExtension());
+        Random random = new Random(SEED);
+        String[] fieldNames = fieldNames();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            if (format == Format.JSON) {
+                writer.write("[");
+            } else if (format == Format.XML) {
+                writer.write("<tweets>");
+            }
+            for (int i = 0; i < records; i++) {
+                String[] values = nextRecord(i, random);
+                switch (format) {
+                    case FLAT_FILE:
+                        writeFlatFileRecord(writer, values);
+                        break;
+                    case JSON:
+                        writeJsonRecord(writer, fieldNames, values, i);
+                        break;
+                    case XML:
+                        writeXmlRecord(writer, fieldNames, values);
+                        break;
+                    case YAML:
+                        writeYamlRecord(writer, fieldNames, values, i);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported format " + format);
+                }
+            }
+            if (format == Format.JSON) {
+                writer.write("]");
+            } else if (format == Format.XML) {
+                writer.write("</tweets>");
+            }
+        }
+        return path;
+    }
+
+    private String[] fieldNames() {
+        String[] fieldNames = new String[width];
+        fieldNames[0] = "id";
+        fieldNames[1] = "user";
+        fieldNames[2] = "message";
+        for (int i = MIN_WIDTH; i < width; i++) {
+            fieldNames[i] = "attribute" + i;
+        }
+        return fieldNames;
+    }
+
+    private String[] nextRecord(int index, Random random) {
+        String[] values = new String[width];
+        values[0] = String.valueOf(index + 1);
+        values[1] = "user" + (index % USERS);
+        values[2] = nextMessage(random);
+        for (int i = MIN_WIDTH; i < width; i++) {
+            values[i] = "value" + random.nextInt(100000);
+        }
+        return values;
+    }
+
+    private String nextMessage(Random random) {
+        StringBuilder message = new StringBuilder();
+        int words = 5 + random.nextInt(10);
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (message.length() + word.length() + 1 > MAX_MESSAGE_LENGTH) {
+                break;
+            }
+            if (i > 0) {
+                message.append(' ');
+            }
+            message.append(word);
+        }
+        return message.toString();
+    }
+
+    private void writeFlatFileRecord(BufferedWriter writer, String[] values) throws IOException {
+        writer.write(String.join(",", values));
+        writer.newLine();
+    }
+
+    private void writeJsonRecord(BufferedWriter writer, String[] fieldNames, String[] values, int index) throws IOException {
+        if (index > 0) {
+            writer.write(",");
+        }
+        writer.newLine();
+        writer.write("{");
+        for (int i = 0; i < width; i++) {
+            if (i > 0) {
+                writer.write(",");
+            }
+            writer.write("\"" + fieldNames[i] + "\":");
+            writer.write(i == 0 ? values[i] : "\"" + values[i] + "\"");
+        }
+        writer.write("}");
+    }
+
+    private void writeXmlRecord(BufferedWriter writer, String[] fieldNames, String[] values) throws IOException {
+        writer.newLine();
+        writer.write("<tweet>");
+        for (int i = 0; i < width; i++) {
+            writer.write("<" + fieldNames[i] + ">" + values[i] + "</" + fieldNames[i] + ">");
+        }
+        writer.write("</tweet>");
+    }
+
+    private void writeYamlRecord(BufferedWriter writer, String[] fieldNames, String[] values, int index) throws IOException {
+        if (index > 0) {
+            writer.write("---");
+            writer.newLine();
+        }
+        for (int i = 0; i < width; i++) {
+            writer.write(fieldNames[i] + ": " + values[i]);
+            writer.newLine();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.macro;
+
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobExecutor;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.job.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.HSQL;
+
+/**
+ * End-to-end benchmark of standard job {@link Topology topologies}.
+ *
+ * Synthetic datasets are generated once, then each topology is run through a {@link JobExecutor}
+ * for a number of warmup and measured iterations. Topologies writing to a database use a fresh
+ * embedded database (created from the {@code schema.sql} script of {@code easy-batch-test-common})
+ * for each iteration. Results (throughput, peak heap and GC time) are written as JSON so that
+ * runs of two commits can be compared with {@link MacroBenchmarkComparison}.
+ *
+ * Options are passed as {@code --name=value} arguments:
+ * <ul>
+ *     <li>{@code records}: number of records per dataset (default 100000)</li>
+ *     <li>{@code width}: number of fields per record (default 10)</li>
+ *     <li>{@code batchSize}: batch size of jobs (default 100)</li>
+ *     <li>{@code warmups}: number of warmup iterations (default 2)</li>
+ *     <li>{@code iterations}: number of measured iterations (default 5)</li>
+ *     <li>{@code topologies}: comma separated list of topologies to run (default all)</li>
+ *     <li>{@code label}: label of the run, typically a commit id (default "local")</li>
+ *     <li>{@code workDirectory}: directory of generated datasets and job outputs (default target/macro-benchmark)</li>
+ *     <li>{@code output}: results file (default {@code workDirectory}/results.json)</li>
+ * </ul>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MacroBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MacroBenchmark.class.getName());
+
+    private final int records;
+    private final int width;
+    private final int batchSize;
+    private final int warmups;
+    private final int iterations;
+    private final Path workDirectory;
+
+    public MacroBenchmark(int records, int width, int batchSize, int warmups, int iterations, Path workDirectory) {
+        this.records = records;
+        this.width = width;
+        this.batchSize = batchSize;
+        this.warmups = warmups;
+        this.iterations = iterations;
+        this.workDirectory = workDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        Path workDirectory = Paths.get(options.getOrDefault("workDirectory", "target/macro-benchmark"));
+        Path output = Paths.get(options.getOrDefault("output", workDirectory.resolve("results.json").toString()));
+        String label = options.getOrDefault("label", "local");
+        List<Topology> topologies = new ArrayList<>();
+        if (options.containsKey("topologies")) {
+            for (String topology : options.get("topologies").split(",")) {
+                topologies.add(Topology.valueOf(topology.trim().toUpperCase()));
+            }
+        } else {
+            topologies.addAll(Arrays.asList(Topology.values()));
+        }
+
+        MacroBenchmark macroBenchmark = new MacroBenchmark(
+                Integer.parseInt(options.getOrDefault("records", "100000")),
+                Integer.parseInt(options.getOrDefault("width", "10")),
+                Integer.parseInt(options.getOrDefault("batchSize", "100")),
+                Integer.parseInt(options.getOrDefault("warmups", "2")),
+                Integer.parseInt(options.getOrDefault("iterations", "5")),
+                workDirectory);
+        List<MacroBenchmarkResult> results = macroBenchmark.run(topologies);
+        writeResults(label, results, output);
+        LOGGER.info("Results written to {}", output.toAbsolutePath());
+    }
+
+    /**
+     * Run the given topologies.
+     *
+     * @param topologies to run
+     * @return a result for each topology
+     * @throws Exception if a dataset cannot be generated or a job does not complete
+     */
+    public List<MacroBenchmarkResult> run(List<Topology> topologies) throws Exception {
+        Files.createDirectories(workDirectory);
+        DatasetGenerator datasetGenerator = new DatasetGenerator(records, width);
+        Map<DatasetGenerator.Format, Path> datasets = new EnumMap<>(DatasetGenerator.Format.class);
+        List<MacroBenchmarkResult> results = new ArrayList<>();
+        JobExecutor jobExecutor = new JobExecutor(1);
+        try {
+            for (Topology topology : topologies) {
+                Path dataset = datasets.get(topology.getInputFormat());
+                if (dataset == null) {
+                    LOGGER.info("Generating {} dataset of {} records with {} fields", topology.getInputFormat(), records, width);
+                    dataset = datasetGenerator.generate(topology.getInputFormat(), workDirectory);
+                    datasets.put(topology.getInputFormat(), dataset);
+                }
+                MacroBenchmarkResult result = run(topology, dataset, jobExecutor);
+                LOGGER.info("{}", result);
+                results.add(result);
+            }
+        } finally {
+            jobExecutor.shutdown();
+        }
+        return results;
+    }
+
+    private MacroBenchmarkResult run(Topology topology, Path dataset, JobExecutor jobExecutor) throws Exception {
+        double[] throughputs = new double[iterations];
+        long peakHeap = 0;
+        long gcTime = 0;
+        long gcCount = 0;
+        for (int i = -warmups; i < iterations; i++) {
+            EmbeddedDatabase database = topology.requiresDatabase() ? createDatabase() : null;
+            try {
+                Job job = topology.createJob(dataset, workDirectory, database, width, batchSize);
+                System.gc();
+                resetPeakHeapUsage();
+                long gcTimeBefore = getGcTime();
+                long gcCountBefore = getGcCount();
+                long start = System.nanoTime();
+                JobReport report = jobExecutor.execute(job);
+                long duration = System.nanoTime() - start;
+                if (report.getStatus() != JobStatus.COMPLETED) {
+                    throw new IllegalStateException("Job " + topology + " did not complete: " + report.getLastError());
+                }
+                if (i >= 0) {
+                    throughputs[i] = report.getMetrics().getWriteCount() / (duration / 1_000_000_000d);
+                    peakHeap = Math.max(peakHeap, getPeakHeapUsage());
+                    gcTime += getGcTime() - gcTimeBefore;
+                    gcCount += getGcCount() - gcCountBefore;
+                }
+            } finally {
+                if (database != null) {
+                    database.shutdown();
+                }
+            }
+        }
+        return new MacroBenchmarkResult(topology.name(), records, width, batchSize, iterations,
+                Arrays.stream(throughputs).average().orElse(0),
+                Arrays.stream(throughputs).min().orElse(0),
+                Arrays.stream(throughputs).max().orElse(0),
+                peakHeap, (double) gcTime / iterations, (double) gcCount / iterations);
+    }
+
+    private EmbeddedDatabase createDatabase() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(HSQL)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+    }
+
+    private static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeapUsage() {
+        long peakHeapUsage = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeapUsage;
+    }
+
+    private static long getGcTime() {
+        long gcTime = 0;
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTime += Math.max(0, garbageCollector.getCollectionTime());
+        }
+        return gcTime;
+    }
+
+    private static long getGcCount() {
+        long gcCount = 0;
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, garbageCollector.getCollectionCount());
+        }
+        return gcCount;
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid option '" + arg + "', expected --name=value");
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    static void writeResults(String label, List<MacroBenchmarkResult> results, Path output) throws IOException {
+        JsonArrayBuilder jsonResults = Json.createArrayBuilder();
+        for (MacroBenchmarkResult result : results) {
+            jsonResults.add(result.toJson());
+        }
+        JsonObject jsonObject = Json.createObjectBuilder()
+                .add("label", label)
+                .add("timestamp", Instant.now().toString())
+                .add("javaVersion", System.getProperty("java.version"))
+                .add("maxHeap", Runtime.getRuntime().maxMemory())
+                .add("results", jsonResults)
+                .build();
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+             JsonWriter jsonWriter = Json.createWriterFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createWriter(writer)) {
+            jsonWriter.writeObject(jsonObject);
+        }
+    }
+
+    static JsonObject readResults(Path input) throws IOException {
+        try (Reader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             JsonReader jsonReader = Json.createReader(reader)) {
+            return jsonReader.readObject();
+        }
+    }
+}
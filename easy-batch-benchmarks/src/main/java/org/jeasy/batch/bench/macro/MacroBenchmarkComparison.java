@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.macro;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compare two result files of the {@link MacroBenchmark}, typically produced from two commits.
+ *
+ * <pre>
+ * java -cp benchmarks.jar org.jeasy.batch.bench.macro.MacroBenchmarkComparison baseline.json candidate.json
+ * </pre>
+ *
+ * For each topology present in both files and run with the same parameters, the relative change
+ * of throughput, peak heap and GC time of the candidate over the baseline is printed.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MacroBenchmarkComparison {
+
+    private MacroBenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: MacroBenchmarkComparison <baseline results> <candidate results>");
+            System.exit(1);
+        }
+        JsonObject baseline = MacroBenchmark.readResults(Paths.get(args[0]));
+        JsonObject candidate = MacroBenchmark.readResults(Paths.get(args[1]));
+        System.out.println(compare(baseline, candidate));
+    }
+
+    static String compare(JsonObject baseline, JsonObject candidate) {
+        Map<String, MacroBenchmarkResult> baselineResults = results(baseline);
+        Map<String, MacroBenchmarkResult> candidateResults = results(candidate);
+        StringBuilder comparison = new StringBuilder();
+        comparison.append(String.format("Baseline: %s, candidate: %s%n", baseline.getString("label"), candidate.getString("label")));
+        comparison.append(String.format("%-20s %15s %15s %9s %12s %12s %9s %12s %12s %9s%n",
+                "Topology", "Base rec/s", "Cand rec/s", "Delta",
+                "Base heap MB", "Cand heap MB", "Delta",
+                "Base GC ms", "Cand GC ms", "Delta"));
+        for (Map.Entry<String, MacroBenchmarkResult> entry : baselineResults.entrySet()) {
+            MacroBenchmarkResult baselineResult = entry.getValue();
+            MacroBenchmarkResult candidateResult = candidateResults.get(entry.getKey());
+            if (candidateResult == null) {
+                continue;
+            }
+            if (baselineResult.getRecords() != candidateResult.getRecords()
+                    || baselineResult.getWidth() != candidateResult.getWidth()
+                    || baselineResult.getBatchSize() != candidateResult.getBatchSize()) {
+                comparison.append(String.format("%-20s skipped: runs used different records, width or batch size%n", entry.getKey()));
+                continue;
+            }
+            comparison.append(String.format("%-20s %15.0f %15.0f %8.1f%% %12d %12d %8.1f%% %12.1f %12.1f %8.1f%%%n",
+                    entry.getKey(),
+                    baselineResult.getRecordsPerSecond(), candidateResult.getRecordsPerSecond(),
+                    delta(baselineResult.getRecordsPerSecond(), candidateResult.getRecordsPerSecond()),
+                    baselineResult.getPeakHeap() / (1024 * 1024), candidateResult.getPeakHeap() / (1024 * 1024),
+                    delta(baselineResult.getPeakHeap(), candidateResult.getPeakHeap()),
+                    baselineResult.getGcTime(), candidateResult.getGcTime(),
+                    delta(baselineResult.getGcTime(), candidateResult.getGcTime())));
+        }
+        return comparison.toString();
+    }
+
+    private static Map<String, MacroBenchmarkResult> results(JsonObject jsonObject) {
+        Map<String, MacroBenchmarkResult> results = new LinkedHashMap<>();
+        for (JsonValue jsonValue : jsonObject.getJsonArray("results")) {
+            MacroBenchmarkResult result = MacroBenchmarkResult.fromJson((JsonObject) jsonValue);
+            results.put(result.getTopology(), result);
+        }
+        return results;
+    }
+
+    private static double delta(double baseline, double candidate) {
+        return baseline == 0 ? 0 : (candidate - baseline) * 100 / baseline;
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.macro;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+/**
+ * Result of a macro benchmark of a {@link Topology}, aggregated over measured iterations.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MacroBenchmarkResult {
+
+    private final String topology;
+    private final int records;
+    private final int width;
+    private final int batchSize;
+    private final int iterations;
+    private final double recordsPerSecond;
+    private final double minRecordsPerSecond;
+    private final double maxRecordsPerSecond;
+    private final long peakHeap;
+    private final double gcTime;
+    private final double gcCount;
+
+    public MacroBenchmarkResult(String topology, int records, int width, int batchSize, int iterations,
+                                double recordsPerSecond, double minRecordsPerSecond, double maxRecordsPerSecond,
+                                long peakHeap, double gcTime, double gcCount) {
+        this.topology = topology;
+        this.records = records;
+        this.width = width;
+        this.batchSize = batchSize;
+        this.iterations = iterations;
+        this.recordsPerSecond = recordsPerSecond;
+        this.minRecordsPerSecond = minRecordsPerSecond;
+        this.maxRecordsPerSecond = maxRecordsPerSecond;
+        this.peakHeap = peakHeap;
+        this.gcTime = gcTime;
+        this.gcCount = gcCount;
+    }
+
+    public String getTopology() {
+        return topology;
+    }
+
+    public int getRecords() {
+        return records;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return mean throughput over measured iterations, in records per second
+     */
+    public double getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public double getMinRecordsPerSecond() {
+        return minRecordsPerSecond;
+    }
+
+    public double getMaxRecordsPerSecond() {
+        return maxRecordsPerSecond;
+    }
+
+    /**
+     * @return maximum peak heap usage over measured iterations, in bytes
+     */
+    public long getPeakHeap() {
+        return peakHeap;
+    }
+
+    /**
+     * @return mean GC time per iteration, in milliseconds
+     */
+    public double getGcTime() {
+        return gcTime;
+    }
+
+    /**
+     * @return mean number of GC collections per iteration
+     */
+    public double getGcCount() {
+        return gcCount;
+    }
+
+    JsonObject toJson() {
+        return Json.createObjectBuilder()
+                .add("topology", topology)
+                .add("records", records)
+                .add("width", width)
+                .add("batchSize", batchSize)
+                .add("iterations", iterations)
+                .add("recordsPerSecond", recordsPerSecond)
+                .add("minRecordsPerSecond", minRecordsPerSecond)
+                .add("maxRecordsPerSecond", maxRecordsPerSecond)
+                .add("peakHeap", peakHeap)
+                .add("gcTime", gcTime)
+                .add("gcCount", gcCount)
+                .build();
+    }
+
+    static MacroBenchmarkResult fromJson(JsonObject jsonObject) {
+        return new MacroBenchmarkResult(
+                jsonObject.getString("topology"),
+                jsonObject.getInt("records"),
+                jsonObject.getInt("width"),
+                jsonObject.getInt("batchSize"),
+                jsonObject.getInt("iterations"),
+                jsonObject.getJsonNumber("recordsPerSecond").doubleValue(),
+                jsonObject.getJsonNumber("minRecordsPerSecond").doubleValue(),
+                jsonObject.getJsonNumber("maxRecordsPerSecond").doubleValue(),
+                jsonObject.getJsonNumber("peakHeap").longValue(),
+                jsonObject.getJsonNumber("gcTime").doubleValue(),
+                jsonObject.getJsonNumber("gcCount").doubleValue());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.0f records/s (min = %.0f, max = %.0f), peak heap = %d MB, gc time = %.1f ms, gc count = %.1f",
+                topology, recordsPerSecond, minRecordsPerSecond, maxRecordsPerSecond, peakHeap / (1024 * 1024), gcTime, gcCount);
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.bench.macro;
+
+import org.jeasy.batch.bench.macro.DatasetGenerator.Format;
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.writer.FileRecordWriter;
+import org.jeasy.batch.extensions.yaml.YamlFileRecordReader;
+import org.jeasy.batch.extensions.yaml.YamlRecordMapper;
+import org.jeasy.batch.flatfile.DelimitedRecordMapper;
+import org.jeasy.batch.flatfile.DelimitedRecordMarshaller;
+import org.jeasy.batch.flatfile.FlatFileRecordReader;
+import org.jeasy.batch.jdbc.BeanPropertiesPreparedStatementProvider;
+import org.jeasy.batch.jdbc.JdbcRecordWriter;
+import org.jeasy.batch.json.JsonFileRecordReader;
+import org.jeasy.batch.json.JsonRecordMapper;
+import org.jeasy.batch.json.JsonRecordMarshaller;
+import org.jeasy.batch.test.common.Tweet;
+import org.jeasy.batch.validation.BeanValidationRecordValidator;
+import org.jeasy.batch.xml.XmlFileRecordReader;
+import org.jeasy.batch.xml.XmlRecordMapper;
+
+import javax.json.bind.JsonbBuilder;
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.jeasy.batch.core.job.JobBuilder.aNewJob;
+
+/**
+ * Standard job topologies run by the {@link MacroBenchmark}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public enum Topology {
+
+    /**
+     * flat file &rarr; delimited mapper &rarr; bean validation &rarr; JDBC
+     */
+    FLAT_FILE_TO_JDBC(Format.FLAT_FILE, true) {
+        @Override
+        Job createJob(Path input, Path outputDirectory, DataSource dataSource, int width, int batchSize) throws Exception {
+            return aNewJob()
+                    .named(name())
+                    .batchSize(batchSize)
+                    .reader(new FlatFileRecordReader(input))
+                    .mapper(new DelimitedRecordMapper<>(Tweet.class, new Integer[]{0, 1, 2}, new String[]{"id", "user", "message"}, width))
+                    .validator(new BeanValidationRecordValidator())
+                    .writer(new JdbcRecordWriter(dataSource, INSERT_TWEET, new BeanPropertiesPreparedStatementProvider(Tweet.class, "id", "user", "message")))
+                    .build();
+        }
+    },
+
+    /**
+     * XML &rarr; JAXB mapper &rarr; JSON marshaller &rarr; file
+     */
+    XML_TO_JSON(Format.XML, false) {
+        @Override
+        Job createJob(Path input, Path outputDirectory, DataSource dataSource, int width, int batchSize) throws Exception {
+            return aNewJob()
+                    .named(name())
+                    .batchSize(batchSize)
+                    .reader(new XmlFileRecordReader(input, "tweet"))
+                    .mapper(new XmlRecordMapper<>(XmlTweet.class))
+                    .marshaller(new JsonRecordMarshaller<>())
+                    .writer(new FileRecordWriter(outputDirectory.resolve(name().toLowerCase() + ".json")))
+                    .build();
+        }
+    },
+
+    /**
+     * JSON &rarr; JSON-B mapper &rarr; delimited marshaller &rarr; file
+     */
+    JSON_TO_FLAT_FILE(Format.JSON, false) {
+        @Override
+        Job createJob(Path input, Path outputDirectory, DataSource dataSource, int width, int batchSize) throws Exception {
+            return aNewJob()
+                    .named(name())
+                    .batchSize(batchSize)
+                    .reader(new JsonFileRecordReader(input))
+                    .mapper(new JsonRecordMapper<>(JsonbBuilder.create(), Tweet.class))
+                    .marshaller(new DelimitedRecordMarshaller<>(Tweet.class, "id", "user", "message"))
+                    .writer(new FileRecordWriter(outputDirectory.resolve(name().toLowerCase() + ".csv")))
+                    .build();
+        }
+    },
+
+    /**
+     * YAML &rarr; map &rarr; JSON marshaller &rarr; file
+     */
+    YAML_TO_JSON(Format.YAML, false) {
+        @Override
+        Job createJob(Path input, Path outputDirectory, DataSource dataSource, int width, int batchSize) throws Exception {
+            return aNewJob()
+                    .named(name())
+                    .batchSize(batchSize)
+                    .reader(new YamlFileRecordReader(input))
+                    .mapper(new YamlRecordMapper<>(Map.class))
+                    .marshaller(new JsonRecordMarshaller<>())
+                    .writer(new FileRecordWriter(outputDirectory.resolve(name().toLowerCase() + ".json")))
+                    .build();
+        }
+    };
+
+    private static final String INSERT_TWEET = "INSERT INTO tweet VALUES (?,?,?);";
+
+    private final Format inputFormat;
+    private final boolean requiresDatabase;
+
+    Topology(Format inputFormat, boolean requiresDatabase) {
+        this.inputFormat = inputFormat;
+        this.requiresDatabase = requiresDatabase;
+    }
+
+    public Format getInputFormat() {
+        return inputFormat;
+    }
+
+    public boolean requiresDatabase() {
+        return requiresDatabase;
+    }
+
+    /**
+     * Create the job of this topology.
+     *
+     * @param input dataset to read
+     * @param outputDirectory directory where file based writers write their output
+     * @param dataSource embedded database, or null if this topology does not require a database
+     * @param width number of fields of input records
+     * @param batchSize of the job
+     * @return the job to benchmark
+     * @throws Exception if the job cannot be created
+     */
+    abstract Job createJob(Path input, Path outputDirectory, DataSource dataSource, int width, int batchSize) throws Exception;
+}
@@ -33,7 +33,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class AtomicIntegerTypeConverter implements TypeConverter<String, AtomicInteger> {
+public class AtomicIntegerTypeConverter implements TypeConverter<String, AtomicInteger>, CharSequenceConverter<AtomicInteger> {
 
     /**
      * {@inheritDoc}
@@ -42,7 +42,15 @@ public class AtomicIntegerTypeConverter implements TypeConverter<String, AtomicI
     public AtomicInteger convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return new AtomicInteger(Integer.parseInt(value));
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AtomicInteger convert(final CharSequence value, final int start, final int end) {
+        return new AtomicInteger(Numbers.parseExactInt(value, start, end));
     }
 
 }
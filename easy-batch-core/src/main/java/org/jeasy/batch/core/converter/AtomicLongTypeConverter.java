@@ -33,7 +33,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class AtomicLongTypeConverter implements TypeConverter<String, AtomicLong> {
+public class AtomicLongTypeConverter implements TypeConverter<String, AtomicLong>, CharSequenceConverter<AtomicLong> {
 
     /**
      * {@inheritDoc}
@@ -42,7 +42,15 @@ public class AtomicLongTypeConverter implements TypeConverter<String, AtomicLong
     public AtomicLong convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return new AtomicLong(Long.parseLong(value));
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AtomicLong convert(final CharSequence value, final int start, final int end) {
+        return new AtomicLong(Numbers.parseExactLong(value, start, end));
     }
 
 }
@@ -33,7 +33,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class BigIntegerTypeConverter implements TypeConverter<String, BigInteger> {
+public class BigIntegerTypeConverter implements TypeConverter<String, BigInteger>, CharSequenceConverter<BigInteger> {
 
     /**
      * {@inheritDoc}
@@ -42,7 +42,15 @@ public class BigIntegerTypeConverter implements TypeConverter<String, BigInteger
     public BigInteger convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return new BigInteger(value);
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigInteger convert(final CharSequence value, final int start, final int end) {
+        return Numbers.parseBigInteger(value, start, end);
     }
 
 }
@@ -29,14 +29,30 @@ package org.jeasy.batch.core.converter;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class BooleanTypeConverter implements TypeConverter<String, Boolean> {
+public class BooleanTypeConverter implements TypeConverter<String, Boolean>, CharSequenceConverter<Boolean>, BooleanConverter {
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Boolean convert(final String value) {
-        return Boolean.valueOf(value) || "1".equals(value) || "on".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value);
+        return value != null && toBoolean(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean convert(final CharSequence value, final int start, final int end) {
+        return toBoolean(value, start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean toBoolean(final CharSequence value, final int start, final int end) {
+        return Numbers.parseBoolean(value, start, end);
     }
 
 }
@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ByteTypeConverter implements TypeConverter<String, Byte> {
+public class ByteTypeConverter implements TypeConverter<String, Byte>, CharSequenceConverter<Byte> {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,15 @@ public class ByteTypeConverter implements TypeConverter<String, Byte> {
     public Byte convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value).byteValue();
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Byte convert(final CharSequence value, final int start, final int end) {
+        return (byte) Numbers.parseInt(value, start, end);
     }
 
 }
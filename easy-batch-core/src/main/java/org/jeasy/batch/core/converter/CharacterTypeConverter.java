@@ -32,7 +32,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class CharacterTypeConverter implements TypeConverter<String, Character> {
+public class CharacterTypeConverter implements TypeConverter<String, Character>, CharSequenceConverter<Character> {
 
     /**
      * {@inheritDoc}
@@ -41,7 +41,20 @@ public class CharacterTypeConverter implements TypeConverter<String, Character>
     public Character convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return value.charAt(0);
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Character convert(final CharSequence value, final int start, final int end) {
+        return checkedCharAt(value, start, end);
+    }
+
+    private static char checkedCharAt(final CharSequence value, final int start, final int end) {
+        Numbers.checkRange(value, start, end);
+        return value.charAt(start);
     }
 
 }
@@ -34,9 +34,12 @@ import org.jeasy.batch.core.util.Utils;
  * Converts a String date (by default in the "yyyy-MM-dd" format) to a {@link java.util.Date} type.
  * Does not accept null or empty strings.
  *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default).
+ * Since dates are mutable, a copy of the memoized date is returned. This converter is thread-safe.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DateTypeConverter implements TypeConverter<String, Date> {
+public class DateTypeConverter implements TypeConverter<String, Date>, CharSequenceConverter<Date> {
 
     /**
      * The default date format.
@@ -48,6 +51,8 @@ public class DateTypeConverter implements TypeConverter<String, Date> {
      */
     private String dateFormat;
 
+    private final ParsedValueCache<Date> cache;
+
     /**
      * Create a Date converter with the default format {@link DateTypeConverter#DEFAULT_DATE_FORMAT}
      */
@@ -61,7 +66,18 @@ public class DateTypeConverter implements TypeConverter<String, Date> {
      * @param dateFormat the date format to use
      */
     public DateTypeConverter(String dateFormat) {
+        this(dateFormat, ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a Date converter with the specified date format.
+     *
+     * @param dateFormat the date format to use
+     * @param cacheSize maximum number of memoized dates, 0 to disable memoization
+     */
+    public DateTypeConverter(String dateFormat, int cacheSize) {
         this.dateFormat = dateFormat;
+        this.cache = new ParsedValueCache<>(cacheSize);
     }
 
     /**
@@ -71,7 +87,26 @@ public class DateTypeConverter implements TypeConverter<String, Date> {
     public Date convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
+        Date date = cache.get(value);
+        if (date == null) {
+            date = parse(value);
+            cache.put(value, date);
+        }
+        return new Date(date.getTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date convert(final CharSequence value, final int start, final int end) {
+        Numbers.checkRange(value, start, end);
+        return convert(Numbers.toString(value, start, end));
+    }
+
+    private Date parse(final String value) {
         try {
+            // SimpleDateFormat is not thread-safe, parse misses with a new instance
             return new SimpleDateFormat(dateFormat).parse(value);
         } catch (ParseException e) {
             throw new IllegalArgumentException("Unable to convert value '" + value + "' to a Date object with format "
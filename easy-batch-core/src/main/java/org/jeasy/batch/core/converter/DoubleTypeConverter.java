@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DoubleTypeConverter implements TypeConverter<String, Double> {
+public class DoubleTypeConverter implements TypeConverter<String, Double>, CharSequenceConverter<Double>, DoubleConverter {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,23 @@ public class DoubleTypeConverter implements TypeConverter<String, Double> {
     public Double convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value);
+        return toDouble(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double convert(final CharSequence value, final int start, final int end) {
+        return toDouble(value, start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double toDouble(final CharSequence value, final int start, final int end) {
+        return Numbers.parseDouble(value, start, end);
     }
 
 }
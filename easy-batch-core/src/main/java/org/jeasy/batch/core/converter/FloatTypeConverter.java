@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FloatTypeConverter implements TypeConverter<String, Float> {
+public class FloatTypeConverter implements TypeConverter<String, Float>, CharSequenceConverter<Float> {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,15 @@ public class FloatTypeConverter implements TypeConverter<String, Float> {
     public Float convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value).floatValue();
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Float convert(final CharSequence value, final int start, final int end) {
+        return (float) Numbers.parseDouble(value, start, end);
     }
 
 }
@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class IntegerTypeConverter implements TypeConverter<String, Integer> {
+public class IntegerTypeConverter implements TypeConverter<String, Integer>, CharSequenceConverter<Integer>, IntConverter {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,23 @@ public class IntegerTypeConverter implements TypeConverter<String, Integer> {
     public Integer convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value).intValue();
+        return toInt(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer convert(final CharSequence value, final int start, final int end) {
+        return toInt(value, start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int toInt(final CharSequence value, final int start, final int end) {
+        return Numbers.parseInt(value, start, end);
     }
 
 }
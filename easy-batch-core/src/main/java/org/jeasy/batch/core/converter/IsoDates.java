@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.converter;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Hand-rolled parsing of fixed ISO layouts: "yyyy-MM-dd", "HH:mm:ss", "HH:mm" and
+ * "yyyy-MM-dd'T'HH:mm:ss" (with a configurable date/time separator).
+ *
+ * Methods return {@code null} when the input does not exactly match one of these layouts
+ * or is not a valid date/time, so that callers fall back to the parser of the JDK,
+ * which reports errors as usual.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class IsoDates {
+
+    static final int DATE_LENGTH = 10;
+    static final int TIME_LENGTH = 8;
+    static final int SHORT_TIME_LENGTH = 5;
+    static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+
+    private IsoDates() {
+    }
+
+    static LocalDate parseDate(final CharSequence value, final int start, final int end) {
+        if (end - start != DATE_LENGTH || value.charAt(start + 4) != '-' || value.charAt(start + 7) != '-') {
+            return null;
+        }
+        int year = digits(value, start, 4);
+        int month = digits(value, start + 5, 2);
+        int day = digits(value, start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    static LocalTime parseTime(final CharSequence value, final int start, final int end) {
+        int length = end - start;
+        if ((length != TIME_LENGTH && length != SHORT_TIME_LENGTH) || value.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hour = digits(value, start, 2);
+        int minute = digits(value, start + 3, 2);
+        int second = 0;
+        if (length == TIME_LENGTH) {
+            second = value.charAt(start + 5) == ':' ? digits(value, start + 6, 2) : -1;
+        }
+        if (hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        try {
+            return LocalTime.of(hour, minute, second);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    static LocalDateTime parseDateTime(final CharSequence value, final int start, final int end, final char separator) {
+        if (end - start != DATE_TIME_LENGTH || value.charAt(start + DATE_LENGTH) != separator) {
+            return null;
+        }
+        LocalDate date = parseDate(value, start, start + DATE_LENGTH);
+        if (date == null) {
+            return null;
+        }
+        LocalTime time = parseTime(value, start + DATE_LENGTH + 1, end);
+        return time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    // parse count digits starting at index, -1 if a character is not a digit
+    private static int digits(final CharSequence value, final int index, final int count) {
+        int number = 0;
+        for (int i = index; i < index + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
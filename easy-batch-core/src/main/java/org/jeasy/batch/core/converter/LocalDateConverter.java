@@ -23,19 +23,76 @@
  */
 package org.jeasy.batch.core.converter;
 
+import org.jeasy.batch.core.util.Utils;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 /**
  * {@link java.time.LocalDate} type converter.
- * Converts a String date in the {@link DateTimeFormatter#ISO_LOCAL_DATE} format to a {@link java.time.LocalDate} type.
+ * Converts a String date in the {@link DateTimeFormatter#ISO_LOCAL_DATE} format (or in a given pattern)
+ * to a {@link java.time.LocalDate} type.
+ *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default),
+ * and values in the ISO "yyyy-MM-dd" layout are parsed without a {@link DateTimeFormatter}.
+ * This converter is thread-safe.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LocalDateConverter implements TypeConverter<String, LocalDate> {
+public class LocalDateConverter implements TypeConverter<String, LocalDate>, CharSequenceConverter<LocalDate> {
+
+	private final DateTimeFormatter formatter; // null for the ISO format
+	private final ParsedValueCache<LocalDate> cache;
+
+	/**
+	 * Create a converter for the {@link DateTimeFormatter#ISO_LOCAL_DATE} format.
+	 */
+	public LocalDateConverter() {
+		this.formatter = null;
+		this.cache = new ParsedValueCache<>(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of dates, as defined in {@link DateTimeFormatter}
+	 */
+	public LocalDateConverter(final String pattern) {
+		this(pattern, ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of dates, as defined in {@link DateTimeFormatter}
+	 * @param cacheSize maximum number of memoized values, 0 to disable memoization
+	 */
+	public LocalDateConverter(final String pattern, final int cacheSize) {
+		Utils.checkNotNull(pattern, "pattern");
+		this.formatter = DateTimeFormatter.ofPattern(pattern);
+		this.cache = new ParsedValueCache<>(cacheSize);
+	}
 
 	@Override
 	public LocalDate convert(String value) {
-		return LocalDate.parse(value);
+		LocalDate date = cache.get(value);
+		if (date == null) {
+			date = parse(value);
+			cache.put(value, date);
+		}
+		return date;
+	}
+
+	@Override
+	public LocalDate convert(final CharSequence value, final int start, final int end) {
+		return convert(Numbers.toString(value, start, end));
+	}
+
+	private LocalDate parse(String value) {
+		if (formatter != null) {
+			return LocalDate.parse(value, formatter);
+		}
+		LocalDate date = IsoDates.parseDate(value, 0, value.length());
+		return date != null ? date : LocalDate.parse(value);
 	}
 }
@@ -23,19 +23,76 @@
  */
 package org.jeasy.batch.core.converter;
 
+import org.jeasy.batch.core.util.Utils;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * {@link LocalDateTime} type converter.
- * Converts a String date time in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format to a {@link LocalDateTime} type.
+ * Converts a String date time in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format (or in a given pattern)
+ * to a {@link LocalDateTime} type.
+ *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default),
+ * and values in the ISO "yyyy-MM-dd'T'HH:mm:ss" layout are parsed without a {@link DateTimeFormatter}.
+ * This converter is thread-safe.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LocalDateTimeConverter implements TypeConverter<String, LocalDateTime> {
+public class LocalDateTimeConverter implements TypeConverter<String, LocalDateTime>, CharSequenceConverter<LocalDateTime> {
+
+	private final DateTimeFormatter formatter; // null for the ISO format
+	private final ParsedValueCache<LocalDateTime> cache;
+
+	/**
+	 * Create a converter for the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format.
+	 */
+	public LocalDateTimeConverter() {
+		this.formatter = null;
+		this.cache = new ParsedValueCache<>(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of date times, as defined in {@link DateTimeFormatter}
+	 */
+	public LocalDateTimeConverter(final String pattern) {
+		this(pattern, ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of date times, as defined in {@link DateTimeFormatter}
+	 * @param cacheSize maximum number of memoized values, 0 to disable memoization
+	 */
+	public LocalDateTimeConverter(final String pattern, final int cacheSize) {
+		Utils.checkNotNull(pattern, "pattern");
+		this.formatter = DateTimeFormatter.ofPattern(pattern);
+		this.cache = new ParsedValueCache<>(cacheSize);
+	}
 
 	@Override
 	public LocalDateTime convert(String value) {
-		return LocalDateTime.parse(value);
+		LocalDateTime dateTime = cache.get(value);
+		if (dateTime == null) {
+			dateTime = parse(value);
+			cache.put(value, dateTime);
+		}
+		return dateTime;
+	}
+
+	@Override
+	public LocalDateTime convert(final CharSequence value, final int start, final int end) {
+		return convert(Numbers.toString(value, start, end));
+	}
+
+	private LocalDateTime parse(String value) {
+		if (formatter != null) {
+			return LocalDateTime.parse(value, formatter);
+		}
+		LocalDateTime dateTime = IsoDates.parseDateTime(value, 0, value.length(), 'T');
+		return dateTime != null ? dateTime : LocalDateTime.parse(value);
 	}
 }
@@ -23,19 +23,76 @@
  */
 package org.jeasy.batch.core.converter;
 
+import org.jeasy.batch.core.util.Utils;
+
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * {@link LocalTime} type converter.
- * Converts a String time in the {@link DateTimeFormatter#ISO_LOCAL_TIME} format to a {@link LocalTime} type.
+ * Converts a String time in the {@link DateTimeFormatter#ISO_LOCAL_TIME} format (or in a given pattern)
+ * to a {@link LocalTime} type.
+ *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default),
+ * and values in the ISO "HH:mm[:ss]" layout are parsed without a {@link DateTimeFormatter}.
+ * This converter is thread-safe.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LocalTimeConverter implements TypeConverter<String, LocalTime> {
+public class LocalTimeConverter implements TypeConverter<String, LocalTime>, CharSequenceConverter<LocalTime> {
+
+	private final DateTimeFormatter formatter; // null for the ISO format
+	private final ParsedValueCache<LocalTime> cache;
+
+	/**
+	 * Create a converter for the {@link DateTimeFormatter#ISO_LOCAL_TIME} format.
+	 */
+	public LocalTimeConverter() {
+		this.formatter = null;
+		this.cache = new ParsedValueCache<>(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of times, as defined in {@link DateTimeFormatter}
+	 */
+	public LocalTimeConverter(final String pattern) {
+		this(pattern, ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a converter for the given pattern.
+	 *
+	 * @param pattern of times, as defined in {@link DateTimeFormatter}
+	 * @param cacheSize maximum number of memoized values, 0 to disable memoization
+	 */
+	public LocalTimeConverter(final String pattern, final int cacheSize) {
+		Utils.checkNotNull(pattern, "pattern");
+		this.formatter = DateTimeFormatter.ofPattern(pattern);
+		this.cache = new ParsedValueCache<>(cacheSize);
+	}
 
 	@Override
 	public LocalTime convert(String value) {
-		return LocalTime.parse(value);
+		LocalTime time = cache.get(value);
+		if (time == null) {
+			time = parse(value);
+			cache.put(value, time);
+		}
+		return time;
+	}
+
+	@Override
+	public LocalTime convert(final CharSequence value, final int start, final int end) {
+		return convert(Numbers.toString(value, start, end));
+	}
+
+	private LocalTime parse(String value) {
+		if (formatter != null) {
+			return LocalTime.parse(value, formatter);
+		}
+		LocalTime time = IsoDates.parseTime(value, 0, value.length());
+		return time != null ? time : LocalTime.parse(value);
 	}
 }
@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LongTypeConverter implements TypeConverter<String, Long> {
+public class LongTypeConverter implements TypeConverter<String, Long>, CharSequenceConverter<Long>, LongConverter {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,23 @@ public class LongTypeConverter implements TypeConverter<String, Long> {
     public Long convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value).longValue();
+        return toLong(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long convert(final CharSequence value, final int start, final int end) {
+        return toLong(value, start, end);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long toLong(final CharSequence value, final int start, final int end) {
+        return Numbers.parseLong(value, start, end);
     }
 
 }
@@ -0,0 +1,234 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.converter;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parsing of numbers from a range of a {@link CharSequence}.
+ *
+ * Plain decimal numbers (an optional sign, digits and an optional fraction) that fit
+ * in the target type are parsed in place without allocating. Any other input (exponents,
+ * whitespaces, very long numbers, etc) falls back to the parsing methods of the JDK,
+ * so results are the same as parsing the equivalent {@code String}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class Numbers {
+
+    private static final int MAX_INT_DIGITS = 9;
+    private static final int MAX_LONG_DIGITS = 18;
+    // 10^15 < 2^53: mantissas of up to 15 digits are exact doubles
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private Numbers() {
+    }
+
+    static void checkRange(final CharSequence value, final int start, final int end) {
+        Utils.checkArgument(value != null, "Value to convert must not be null");
+        Utils.checkArgument(end > start, "Value to convert must not be empty");
+    }
+
+    /*
+     * Integer values are parsed as doubles by the String based converters (so "5.0" is a valid int),
+     * the fallbacks keep that behaviour.
+     */
+
+    static int parseInt(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        long number = parseDigits(value, start, end, MAX_INT_DIGITS);
+        if (number != Long.MIN_VALUE) {
+            return (int) number;
+        }
+        return Double.valueOf(toString(value, start, end)).intValue();
+    }
+
+    static long parseLong(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        long number = parseDigits(value, start, end, MAX_LONG_DIGITS);
+        if (number != Long.MIN_VALUE) {
+            return number;
+        }
+        return Double.valueOf(toString(value, start, end)).longValue();
+    }
+
+    static int parseExactInt(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        long number = parseDigits(value, start, end, MAX_INT_DIGITS);
+        if (number != Long.MIN_VALUE) {
+            return (int) number;
+        }
+        return Integer.parseInt(toString(value, start, end));
+    }
+
+    static long parseExactLong(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        long number = parseDigits(value, start, end, MAX_LONG_DIGITS);
+        if (number != Long.MIN_VALUE) {
+            return number;
+        }
+        return Long.parseLong(toString(value, start, end));
+    }
+
+    static BigInteger parseBigInteger(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        long number = parseDigits(value, start, end, MAX_LONG_DIGITS);
+        if (number != Long.MIN_VALUE) {
+            return BigInteger.valueOf(number);
+        }
+        return new BigInteger(toString(value, start, end));
+    }
+
+    static double parseDouble(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        int index = start;
+        boolean negative = false;
+        char first = value.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; index < end; index++) {
+            char c = value.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DOUBLE_DIGITS) {
+                    return Double.parseDouble(toString(value, start, end));
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return Double.parseDouble(toString(value, start, end));
+            }
+        }
+        if (digits == 0) {
+            return Double.parseDouble(toString(value, start, end));
+        }
+        // both operands are exact, so the division is correctly rounded
+        double result = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+        return negative ? -result : result;
+    }
+
+    static BigDecimal parseBigDecimal(final CharSequence value, final int start, final int end) {
+        checkRange(value, start, end);
+        int index = start;
+        boolean negative = false;
+        char first = value.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; index < end; index++) {
+            char c = value.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return new BigDecimal(toString(value, start, end));
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return new BigDecimal(toString(value, start, end));
+            }
+        }
+        if (digits == 0) {
+            return new BigDecimal(toString(value, start, end));
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    static boolean parseBoolean(final CharSequence value, final int start, final int end) {
+        if (value == null) {
+            return false;
+        }
+        int length = end - start;
+        if (length == 1) {
+            return value.charAt(start) == '1';
+        }
+        return regionMatches(value, start, length, "true") || regionMatches(value, start, length, "on")
+                || regionMatches(value, start, length, "yes");
+    }
+
+    static String toString(final CharSequence value, final int start, final int end) {
+        return Utils.substring(value, start, end);
+    }
+
+    /*
+     * Parse an optional sign followed by at most maxDigits digits.
+     * Returns Long.MIN_VALUE if the input is not in that form.
+     */
+    private static long parseDigits(final CharSequence value, final int start, final int end, final int maxDigits) {
+        int index = start;
+        boolean negative = false;
+        char first = value.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        int digits = end - index;
+        if (digits == 0 || digits > maxDigits) {
+            return Long.MIN_VALUE;
+        }
+        long number = 0;
+        for (; index < end; index++) {
+            char c = value.charAt(index);
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return negative ? -number : number;
+    }
+
+    private static boolean regionMatches(final CharSequence value, final int start, final int length, final String expected) {
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.converter;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe and bounded cache of parsed values keyed by their raw text.
+ *
+ * Used by date/time converters: date columns usually have a few distinct values
+ * (business dates, settlement dates, etc) repeated across many records.
+ * When the cache is full, it is cleared, which keeps it bounded without the
+ * bookkeeping of an LRU policy.
+ *
+ * @param <T> type of parsed values
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class ParsedValueCache<T> {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private final int maximumSize;
+    private final Map<String, T> values;
+
+    /**
+     * @param maximumSize of the cache, 0 to disable caching
+     */
+    ParsedValueCache(final int maximumSize) {
+        Utils.checkArgument(maximumSize >= 0, "Cache size must be positive or zero");
+        this.maximumSize = maximumSize;
+        this.values = maximumSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    T get(final String text) {
+        return values != null && text != null ? values.get(text) : null;
+    }
+
+    void put(final String text, final T value) {
+        if (values == null || text == null) {
+            return;
+        }
+        if (values.size() >= maximumSize) {
+            values.clear();
+        }
+        values.put(text, value);
+    }
+}
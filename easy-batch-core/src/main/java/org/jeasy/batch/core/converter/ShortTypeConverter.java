@@ -31,7 +31,7 @@ import org.jeasy.batch.core.util.Utils;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ShortTypeConverter implements TypeConverter<String, Short> {
+public class ShortTypeConverter implements TypeConverter<String, Short>, CharSequenceConverter<Short> {
 
     /**
      * {@inheritDoc}
@@ -40,7 +40,15 @@ public class ShortTypeConverter implements TypeConverter<String, Short> {
     public Short convert(final String value) {
         Utils.checkArgument(value != null, "Value to convert must not be null");
         Utils.checkArgument(!value.isEmpty(), "Value to convert must not be empty");
-        return Double.valueOf(value).shortValue();
+        return convert(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Short convert(final CharSequence value, final int start, final int end) {
+        return (short) Numbers.parseInt(value, start, end);
     }
 
 }
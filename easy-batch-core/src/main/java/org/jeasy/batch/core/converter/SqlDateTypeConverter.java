@@ -24,20 +24,63 @@
 package org.jeasy.batch.core.converter;
 
 import java.sql.Date;
+import java.time.LocalDate;
 
 /**
  * java.sql.Date type converter.
  * Converts a String date in the "yyyy-mm-dd" format to a {@link java.sql.Date} type.
  *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default).
+ * Since Date objects are mutable, a copy of the memoized value is returned. This converter is thread-safe.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class SqlDateTypeConverter implements TypeConverter<String, Date> {
+public class SqlDateTypeConverter implements TypeConverter<String, Date>, CharSequenceConverter<Date> {
+
+    private final ParsedValueCache<Date> cache;
+
+    /**
+     * Create a new {@link SqlDateTypeConverter}.
+     */
+    public SqlDateTypeConverter() {
+        this(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new {@link SqlDateTypeConverter}.
+     *
+     * @param cacheSize maximum number of memoized values, 0 to disable memoization
+     */
+    public SqlDateTypeConverter(final int cacheSize) {
+        this.cache = new ParsedValueCache<>(cacheSize);
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Date convert(final String value) {
+        Date cached = cache.get(value);
+        if (cached == null) {
+            cached = parse(value);
+            cache.put(value, cached);
+        }
+        return new Date(cached.getTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date convert(final CharSequence value, final int start, final int end) {
+        return convert(Numbers.toString(value, start, end));
+    }
+
+    private static Date parse(final String value) {
+        LocalDate date = value != null ? IsoDates.parseDate(value, 0, value.length()) : null;
+        if (date != null) {
+            return Date.valueOf(date);
+        }
         return Date.valueOf(value);
     }
 
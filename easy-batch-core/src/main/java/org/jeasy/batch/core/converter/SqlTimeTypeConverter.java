@@ -24,20 +24,63 @@
 package org.jeasy.batch.core.converter;
 
 import java.sql.Time;
+import java.time.LocalTime;
 
 /**
  * java.sql.Time type converter.
  * Converts a String Time in the "hh:mm:ss" format to a {@link java.sql.Time} type.
  *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default).
+ * Since Time objects are mutable, a copy of the memoized value is returned. This converter is thread-safe.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class SqlTimeTypeConverter implements TypeConverter<String, Time> {
+public class SqlTimeTypeConverter implements TypeConverter<String, Time>, CharSequenceConverter<Time> {
+
+    private final ParsedValueCache<Time> cache;
+
+    /**
+     * Create a new {@link SqlTimeTypeConverter}.
+     */
+    public SqlTimeTypeConverter() {
+        this(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new {@link SqlTimeTypeConverter}.
+     *
+     * @param cacheSize maximum number of memoized values, 0 to disable memoization
+     */
+    public SqlTimeTypeConverter(final int cacheSize) {
+        this.cache = new ParsedValueCache<>(cacheSize);
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Time convert(final String value) {
+        Time cached = cache.get(value);
+        if (cached == null) {
+            cached = parse(value);
+            cache.put(value, cached);
+        }
+        return new Time(cached.getTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Time convert(final CharSequence value, final int start, final int end) {
+        return convert(Numbers.toString(value, start, end));
+    }
+
+    private static Time parse(final String value) {
+        LocalTime time = value != null && value.length() == IsoDates.TIME_LENGTH ? IsoDates.parseTime(value, 0, value.length()) : null;
+        if (time != null) {
+            return Time.valueOf(time);
+        }
         return Time.valueOf(value);
     }
 
@@ -24,20 +24,65 @@
 package org.jeasy.batch.core.converter;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 
 /**
  * java.sql.Timestamp type converter.
  * Converts a String Timestamp in the "yyyy-mm-dd hh:mm:ss[.f...]" format to a {@link java.sql.Timestamp} type.
  *
+ * Converted values are memoized in a bounded cache keyed by the raw text (4096 values by default).
+ * Since Timestamp objects are mutable, a copy of the memoized value is returned. This converter is thread-safe.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class SqlTimestampTypeConverter implements TypeConverter<String, Timestamp> {
+public class SqlTimestampTypeConverter implements TypeConverter<String, Timestamp>, CharSequenceConverter<Timestamp> {
+
+    private final ParsedValueCache<Timestamp> cache;
+
+    /**
+     * Create a new {@link SqlTimestampTypeConverter}.
+     */
+    public SqlTimestampTypeConverter() {
+        this(ParsedValueCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new {@link SqlTimestampTypeConverter}.
+     *
+     * @param cacheSize maximum number of memoized values, 0 to disable memoization
+     */
+    public SqlTimestampTypeConverter(final int cacheSize) {
+        this.cache = new ParsedValueCache<>(cacheSize);
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Timestamp convert(final String value) {
+        Timestamp cached = cache.get(value);
+        if (cached == null) {
+            cached = parse(value);
+            cache.put(value, cached);
+        }
+        Timestamp timestamp = new Timestamp(cached.getTime());
+        timestamp.setNanos(cached.getNanos());
+        return timestamp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timestamp convert(final CharSequence value, final int start, final int end) {
+        return convert(Numbers.toString(value, start, end));
+    }
+
+    private static Timestamp parse(final String value) {
+        LocalDateTime dateTime = value != null ? IsoDates.parseDateTime(value, 0, value.length(), ' ') : null;
+        if (dateTime != null) {
+            return Timestamp.valueOf(dateTime);
+        }
         return Timestamp.valueOf(value);
     }
 
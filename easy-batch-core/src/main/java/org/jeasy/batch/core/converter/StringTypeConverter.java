@@ -28,7 +28,7 @@ package org.jeasy.batch.core.converter;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class StringTypeConverter implements TypeConverter<String, String> {
+public class StringTypeConverter implements TypeConverter<String, String>, CharSequenceConverter<String> {
 
     /**
      * {@inheritDoc}
@@ -38,4 +38,12 @@ public class StringTypeConverter implements TypeConverter<String, String> {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String convert(final CharSequence value, final int start, final int end) {
+        return value == null ? null : Numbers.toString(value, start, end);
+    }
+
 }
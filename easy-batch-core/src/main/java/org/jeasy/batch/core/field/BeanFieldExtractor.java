@@ -23,23 +23,23 @@
  */
 package org.jeasy.batch.core.field;
 
-import org.jeasy.batch.core.util.Utils;
+import org.jeasy.batch.core.mapper.BeanAccessor;
+import org.jeasy.batch.core.mapper.BeanIntrospectionException;
 
 import java.beans.IntrospectionException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Map;
 
 /**
  * Use JavaBean convention with {@link java.beans.Introspector} to extract properties values from the payload of a record.
+ * Getters are called through the compiled accessors of {@link BeanAccessor}.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 public class BeanFieldExtractor<P> implements FieldExtractor<P> {
 
     private final String[] fields;
-    private final Map<String, Method> getters;
+    private final BeanAccessor<P> beanAccessor;
 
     /**
      * Create a new {@link BeanFieldExtractor}.
@@ -49,9 +49,18 @@ public class BeanFieldExtractor<P> implements FieldExtractor<P> {
      * @throws IntrospectionException if the bean cannot be introspected
      */
     public BeanFieldExtractor(final Class<P> type, final String... fields) throws IntrospectionException {
-        this.getters = Utils.getGetters(type);
+        try {
+            this.beanAccessor = BeanAccessor.of(type);
+        } catch (BeanIntrospectionException e) {
+            if (e.getCause() instanceof IntrospectionException) {
+                throw (IntrospectionException) e.getCause();
+            }
+            throw e;
+        }
         if (fields.length == 0) {
-            this.fields = this.getters.keySet().toArray(new String[this.getters.size()]);
+            this.fields = this.beanAccessor.getPropertyNames().stream()
+                    .filter(name -> beanAccessor.getProperty(name).isReadable())
+                    .toArray(String[]::new);
         } else {
             this.fields = fields;
         }
@@ -67,6 +76,16 @@ public class BeanFieldExtractor<P> implements FieldExtractor<P> {
     }
 
     protected Object getValue(final String field, final P object) throws InvocationTargetException, IllegalAccessException {
-        return getters.get(field).invoke(object);
+        BeanAccessor.Property property = beanAccessor.getProperty(field);
+        if (property == null) {
+            throw new IllegalArgumentException(String.format("No property %s found in type %s", field, beanAccessor.getType().getName()));
+        }
+        try {
+            return property.get(object);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        }
     }
 }
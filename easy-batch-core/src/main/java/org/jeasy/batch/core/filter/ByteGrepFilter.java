@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.filter;
+
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.util.Utils;
+
+import java.nio.charset.Charset;
+
+/**
+ * Convenient filter that mimics the unix grep utility on {@link ByteRecord}s: it keeps records
+ * containing the given pattern instead of filtering them.
+ *
+ * The pattern is looked up in the bytes of records, which are not decoded. It should be encoded
+ * with the charset of records.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ByteGrepFilter implements RecordFilter<ByteRecord> {
+
+    private byte[] pattern;
+
+    /**
+     * Create a new {@link ByteGrepFilter}.
+     *
+     * @param pattern the pattern to look for
+     */
+    public ByteGrepFilter(final byte[] pattern) {
+        Utils.checkNotNull(pattern, "pattern");
+        this.pattern = pattern;
+    }
+
+    /**
+     * Create a new {@link ByteGrepFilter}.
+     *
+     * @param pattern the pattern to look for
+     * @param charset used to encode the pattern
+     */
+    public ByteGrepFilter(final String pattern, final Charset charset) {
+        this(encode(pattern, charset));
+    }
+
+    private static byte[] encode(final String pattern, final Charset charset) {
+        Utils.checkNotNull(pattern, "pattern");
+        Utils.checkNotNull(charset, "charset");
+        return pattern.getBytes(charset);
+    }
+
+    public ByteRecord processRecord(final ByteRecord record) {
+        if (!Utils.contains(record.getPayload(), pattern)) {
+            return null;
+        }
+        return record;
+    }
+
+}
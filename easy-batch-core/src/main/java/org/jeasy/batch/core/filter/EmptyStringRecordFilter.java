@@ -33,8 +33,7 @@ import org.jeasy.batch.core.record.StringRecord;
 public class EmptyStringRecordFilter implements RecordFilter<StringRecord> {
 
     public StringRecord processRecord(final StringRecord record) {
-        String payload = record.getPayload();
-        if (payload.isEmpty()) {
+        if (record.getCharSequence().length() == 0) {
             return null;
         }
         return record;
@@ -25,6 +25,8 @@ package org.jeasy.batch.core.filter;
 
 import org.jeasy.batch.core.record.StringRecord;
 
+import static org.jeasy.batch.core.util.Utils.endsWith;
+
 /**
  * Filter string records ending with one of the given suffixes.
  *
@@ -44,9 +46,9 @@ public class EndsWithStringRecordFilter implements RecordFilter<StringRecord> {
     }
 
     public StringRecord processRecord(final StringRecord record) {
-        String payload = record.getPayload();
+        CharSequence payload = record.getCharSequence();
         for (String prefix : suffixes) {
-            if (payload.endsWith(prefix)) {
+            if (endsWith(payload, prefix)) {
                 return null;
             }
         }
@@ -30,8 +30,8 @@ import org.jeasy.batch.core.record.StringRecord;
  * Convenient filter that mimics the unix grep utility: it keeps records containing the given pattern
  * instead of filtering them.
  *
- * Should be used with {@link StringRecord} type. Search is based on
- * {@link String#contains(CharSequence)}.
+ * Should be used with {@link StringRecord} type. Search is done on {@link StringRecord#getCharSequence()}
+ * with {@link Utils#contains(CharSequence, String)}, so that the payload is not copied.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
@@ -50,8 +50,7 @@ public class GrepFilter implements RecordFilter<StringRecord> {
     }
 
     public StringRecord processRecord(final StringRecord record) {
-        String payload = record.getPayload();
-        if (!payload.contains(pattern)) {
+        if (!Utils.contains(record.getCharSequence(), pattern)) {
             return null;
         }
         return record;
@@ -0,0 +1,73 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.filter;
+
+import org.jeasy.batch.core.record.ByteRecord;
+
+import java.nio.charset.Charset;
+
+import static org.jeasy.batch.core.util.Utils.startsWith;
+
+/**
+ * A {@link RecordFilter} that filters byte records starting with one of the given prefixes.
+ * Prefixes are compared to the bytes of records, which are not decoded.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class StartsWithByteRecordFilter implements RecordFilter<ByteRecord> {
+
+    private byte[][] prefixes;
+
+    /**
+     * Create a new {@link StartsWithByteRecordFilter}.
+     *
+     * @param prefixes prefixes that cause the record to be filtered.
+     */
+    public StartsWithByteRecordFilter(final byte[]... prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Create a new {@link StartsWithByteRecordFilter}.
+     *
+     * @param charset used to encode prefixes
+     * @param prefixes prefixes that cause the record to be filtered.
+     */
+    public StartsWithByteRecordFilter(final Charset charset, final String... prefixes) {
+        this.prefixes = new byte[prefixes.length][];
+        for (int i = 0; i < prefixes.length; i++) {
+            this.prefixes[i] = prefixes[i].getBytes(charset);
+        }
+    }
+
+    public ByteRecord processRecord(final ByteRecord record) {
+        for (byte[] prefix : prefixes) {
+            if (startsWith(record.getPayload(), prefix)) {
+                return null;
+            }
+        }
+        return record;
+    }
+
+}
@@ -25,6 +25,8 @@ package org.jeasy.batch.core.filter;
 
 import org.jeasy.batch.core.record.StringRecord;
 
+import static org.jeasy.batch.core.util.Utils.startsWith;
+
 /**
  * A {@link RecordFilter} that filters string records starting with one of the given prefixes.
  *
@@ -44,9 +46,9 @@ public class StartsWithStringRecordFilter implements RecordFilter<StringRecord>
     }
 
     public StringRecord processRecord(final StringRecord record) {
-        String payload = record.getPayload();
+        CharSequence payload = record.getCharSequence();
         for (String prefix : prefixes) {
-            if (payload.startsWith(prefix)) {
+            if (startsWith(payload, prefix)) {
                 return null;
             }
         }
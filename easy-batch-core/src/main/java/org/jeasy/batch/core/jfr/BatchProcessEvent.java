@@ -0,0 +1,61 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event emitted after processing a batch of records.
+ *
+ * Records are read and processed one at a time, so the event spans the whole read/process
+ * phase of the batch while {@code processTime} is the time actually spent in the processing pipeline.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@Name("org.jeasy.batch.BatchProcess")
+@Label("Batch Process")
+@Category({"Easy Batch", "Batch"})
+@Description("A batch of records has been processed")
+class BatchProcessEvent extends jdk.jfr.Event {
+
+    @Label("Job Name")
+    String jobName;
+
+    @Label("Batch Number")
+    long batchNumber;
+
+    @Label("Batch Size")
+    @Description("The number of records to write after processing")
+    long batchSize;
+
+    @Label("Process Time")
+    @Description("The time spent in the processing pipeline for this batch")
+    @Timespan(Timespan.NANOSECONDS)
+    long processTime;
+
+}
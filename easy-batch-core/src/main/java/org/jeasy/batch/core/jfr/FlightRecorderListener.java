@@ -0,0 +1,316 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jfr;
+
+import jdk.jfr.EventType;
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobMetrics;
+import org.jeasy.batch.core.job.JobParameters;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.listener.BatchListener;
+import org.jeasy.batch.core.listener.JobListener;
+import org.jeasy.batch.core.listener.PipelineListener;
+import org.jeasy.batch.core.listener.RecordReaderListener;
+import org.jeasy.batch.core.listener.RecordWriterListener;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.Record;
+
+/**
+ * Listener that emits Java Flight Recorder events for a job.
+ *
+ * Events are created only when their type is enabled in an active recording, so this
+ * listener does nothing (besides a few checks) when no recording is running.
+ * Batch jobs register this listener automatically when one of its event types is enabled
+ * at job start, see {@link FlightRecorderSupport#isEnabled()}. Events of a recording
+ * started while a job is running are emitted from the next run of the job.
+ *
+ * <strong>This listener is not thread-safe, an instance should be used by a single job.</strong>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class FlightRecorderListener implements JobListener, BatchListener,
+        RecordReaderListener, PipelineListener, RecordWriterListener {
+
+    private static final EventType JOB_START_EVENT_TYPE = EventType.getEventType(JobStartEvent.class);
+    private static final EventType JOB_END_EVENT_TYPE = EventType.getEventType(JobEndEvent.class);
+    private static final EventType BATCH_READ_EVENT_TYPE = EventType.getEventType(BatchReadEvent.class);
+    private static final EventType BATCH_PROCESS_EVENT_TYPE = EventType.getEventType(BatchProcessEvent.class);
+    private static final EventType BATCH_WRITE_EVENT_TYPE = EventType.getEventType(BatchWriteEvent.class);
+    private static final EventType RECORD_READ_EVENT_TYPE = EventType.getEventType(RecordReadEvent.class);
+    private static final EventType RECORD_PROCESS_EVENT_TYPE = EventType.getEventType(RecordProcessEvent.class);
+
+    private final Job job;
+
+    private JobEndEvent jobEndEvent;
+    private BatchReadEvent batchReadEvent;
+    private BatchProcessEvent batchProcessEvent;
+    private BatchWriteEvent batchWriteEvent;
+    private RecordReadEvent recordReadEvent;
+    private RecordProcessEvent recordProcessEvent;
+
+    private long batchNumber;
+    private long readStartTime;
+    private long processStartTime;
+
+    /**
+     * Create a new {@link FlightRecorderListener}.
+     *
+     * @param job for which events should be emitted
+     */
+    public FlightRecorderListener(final Job job) {
+        this.job = job;
+    }
+
+    static boolean isEnabled() {
+        return JOB_START_EVENT_TYPE.isEnabled() || JOB_END_EVENT_TYPE.isEnabled()
+                || BATCH_READ_EVENT_TYPE.isEnabled() || BATCH_PROCESS_EVENT_TYPE.isEnabled()
+                || BATCH_WRITE_EVENT_TYPE.isEnabled() || RECORD_READ_EVENT_TYPE.isEnabled()
+                || RECORD_PROCESS_EVENT_TYPE.isEnabled();
+    }
+
+    /*
+     * Job events
+     */
+
+    @Override
+    public void beforeJobStart(final JobParameters jobParameters) {
+        batchNumber = 0;
+        if (JOB_START_EVENT_TYPE.isEnabled()) {
+            JobStartEvent jobStartEvent = new JobStartEvent();
+            jobStartEvent.jobName = job.getName();
+            jobStartEvent.batchSize = jobParameters.getBatchSize();
+            jobStartEvent.errorThreshold = jobParameters.getErrorThreshold();
+            jobStartEvent.commit();
+        }
+        if (JOB_END_EVENT_TYPE.isEnabled()) {
+            jobEndEvent = new JobEndEvent();
+            jobEndEvent.begin();
+        }
+    }
+
+    @Override
+    public void afterJobEnd(final JobReport jobReport) {
+        if (jobEndEvent != null) {
+            jobEndEvent.end();
+            if (jobEndEvent.shouldCommit()) {
+                JobMetrics metrics = jobReport.getMetrics();
+                jobEndEvent.jobName = jobReport.getJobName();
+                jobEndEvent.status = String.valueOf(jobReport.getStatus());
+                jobEndEvent.batchSize = jobReport.getParameters().getBatchSize();
+                jobEndEvent.readCount = metrics.getReadCount();
+                jobEndEvent.writeCount = metrics.getWriteCount();
+                jobEndEvent.filterCount = metrics.getFilterCount();
+                jobEndEvent.errorCount = metrics.getErrorCount();
+                jobEndEvent.commit();
+            }
+            jobEndEvent = null;
+        }
+    }
+
+    /*
+     * Batch events
+     */
+
+    @Override
+    public void beforeBatchReading() {
+        batchNumber++;
+        if (BATCH_READ_EVENT_TYPE.isEnabled()) {
+            batchReadEvent = new BatchReadEvent();
+            batchReadEvent.begin();
+        }
+        if (BATCH_PROCESS_EVENT_TYPE.isEnabled()) {
+            batchProcessEvent = new BatchProcessEvent();
+            batchProcessEvent.begin();
+        }
+    }
+
+    @Override
+    public void afterBatchProcessing(final Batch batch) {
+        if (batchReadEvent != null) {
+            batchReadEvent.end();
+            if (batchReadEvent.shouldCommit()) {
+                batchReadEvent.jobName = job.getName();
+                batchReadEvent.batchNumber = batchNumber;
+                batchReadEvent.commit();
+            }
+            batchReadEvent = null;
+        }
+        if (batchProcessEvent != null) {
+            batchProcessEvent.end();
+            if (batchProcessEvent.shouldCommit()) {
+                batchProcessEvent.jobName = job.getName();
+                batchProcessEvent.batchNumber = batchNumber;
+                batchProcessEvent.batchSize = batch.size();
+                batchProcessEvent.commit();
+            }
+            batchProcessEvent = null;
+        }
+    }
+
+    @Override
+    public void afterBatchWriting(final Batch batch) {
+        // the batch write event is committed by the record writer callbacks
+    }
+
+    @Override
+    public void onBatchWritingException(final Batch batch, final Throwable throwable) {
+        // the batch write event is committed by the record writer callbacks
+    }
+
+    /*
+     * Record reading events
+     */
+
+    @Override
+    public void beforeRecordReading() {
+        if (batchReadEvent != null) {
+            readStartTime = System.nanoTime();
+        }
+        if (RECORD_READ_EVENT_TYPE.isEnabled()) {
+            recordReadEvent = new RecordReadEvent();
+            recordReadEvent.begin();
+        }
+    }
+
+    @Override
+    public void afterRecordReading(final Record record) {
+        if (batchReadEvent != null) {
+            batchReadEvent.readTime += System.nanoTime() - readStartTime;
+            if (record != null) {
+                batchReadEvent.batchSize++;
+            }
+        }
+        if (recordReadEvent != null) {
+            recordReadEvent.end();
+            if (record != null && recordReadEvent.shouldCommit()) {
+                recordReadEvent.jobName = job.getName();
+                setRecordHeader(recordReadEvent, record);
+                recordReadEvent.commit();
+            }
+            recordReadEvent = null;
+        }
+    }
+
+    @Override
+    public void onRecordReadingException(final Throwable throwable) {
+        recordReadEvent = null;
+    }
+
+    /*
+     * Record processing events
+     */
+
+    @Override
+    public Record beforeRecordProcessing(final Record record) {
+        if (batchProcessEvent != null) {
+            processStartTime = System.nanoTime();
+        }
+        if (RECORD_PROCESS_EVENT_TYPE.isEnabled()) {
+            recordProcessEvent = new RecordProcessEvent();
+            recordProcessEvent.begin();
+        }
+        return record;
+    }
+
+    @Override
+    public void afterRecordProcessing(final Record inputRecord, final Record outputRecord) {
+        afterRecordProcessing(inputRecord, outputRecord == null, false);
+    }
+
+    @Override
+    public void onRecordProcessingException(final Record record, final Throwable throwable) {
+        afterRecordProcessing(record, false, true);
+    }
+
+    private void afterRecordProcessing(final Record record, final boolean filtered, final boolean failed) {
+        if (batchProcessEvent != null) {
+            batchProcessEvent.processTime += System.nanoTime() - processStartTime;
+        }
+        if (recordProcessEvent != null) {
+            recordProcessEvent.end();
+            if (recordProcessEvent.shouldCommit()) {
+                recordProcessEvent.jobName = job.getName();
+                recordProcessEvent.filtered = filtered;
+                recordProcessEvent.failed = failed;
+                setRecordHeader(recordProcessEvent, record);
+                recordProcessEvent.commit();
+            }
+            recordProcessEvent = null;
+        }
+    }
+
+    /*
+     * Record writing events
+     */
+
+    @Override
+    public void beforeRecordWriting(final Batch batch) {
+        if (BATCH_WRITE_EVENT_TYPE.isEnabled()) {
+            batchWriteEvent = new BatchWriteEvent();
+            batchWriteEvent.begin();
+        }
+    }
+
+    @Override
+    public void afterRecordWriting(final Batch batch) {
+        afterRecordWriting(batch, true);
+    }
+
+    @Override
+    public void onRecordWritingException(final Batch batch, final Throwable throwable) {
+        afterRecordWriting(batch, false);
+    }
+
+    private void afterRecordWriting(final Batch batch, final boolean succeeded) {
+        if (batchWriteEvent != null) {
+            batchWriteEvent.end();
+            if (batchWriteEvent.shouldCommit()) {
+                batchWriteEvent.jobName = job.getName();
+                batchWriteEvent.batchNumber = batchNumber;
+                batchWriteEvent.batchSize = batch.size();
+                batchWriteEvent.succeeded = succeeded;
+                batchWriteEvent.commit();
+            }
+            batchWriteEvent = null;
+        }
+    }
+
+    private static void setRecordHeader(final RecordReadEvent event, final Record record) {
+        Header header = record.getHeader();
+        if (header != null) {
+            event.recordNumber = header.getNumber() != null ? header.getNumber() : -1;
+            event.recordSource = header.getSource();
+        }
+    }
+
+    private static void setRecordHeader(final RecordProcessEvent event, final Record record) {
+        Header header = record.getHeader();
+        if (header != null) {
+            event.recordNumber = header.getNumber() != null ? header.getNumber() : -1;
+            event.recordSource = header.getSource();
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jfr;
+
+import org.jeasy.batch.core.job.Job;
+
+/**
+ * Utility class to integrate jobs with Java Flight Recorder.
+ *
+ * Flight recorder is optional: all JFR related classes are loaded only if the
+ * {@code jdk.jfr} API is available in the running JVM.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public abstract class FlightRecorderSupport {
+
+    private static final boolean AVAILABLE = isFlightRecorderApiPresent();
+
+    private FlightRecorderSupport() {
+
+    }
+
+    /**
+     * Check if the flight recorder API is available in the running JVM.
+     *
+     * @return true if flight recorder is available, false otherwise
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Check if flight recorder is available and at least one event type of
+     * {@link FlightRecorderListener} is enabled in a running recording.
+     *
+     * @return true if job events should be emitted, false otherwise
+     */
+    public static boolean isEnabled() {
+        return AVAILABLE && FlightRecorderListener.isEnabled();
+    }
+
+    /**
+     * Decorate a job so that a job execution event is emitted when it is run
+     * by a job executor. If flight recorder is not available or the job execution
+     * event is not enabled, the job is returned as is.
+     *
+     * @param job to decorate
+     * @return the decorated job
+     */
+    public static Job recordExecutionOf(final Job job) {
+        if (AVAILABLE && JobExecutionRecorder.isEnabled()) {
+            return new JobExecutionRecorder(job);
+        }
+        return job;
+    }
+
+    private static boolean isFlightRecorderApiPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
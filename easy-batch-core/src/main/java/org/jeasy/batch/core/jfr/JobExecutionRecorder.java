@@ -0,0 +1,76 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jfr;
+
+import jdk.jfr.EventType;
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobReport;
+
+/**
+ * Job decorator that emits a {@link JobExecutionEvent} around the execution of a job.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class JobExecutionRecorder implements Job {
+
+    private static final EventType JOB_EXECUTION_EVENT_TYPE = EventType.getEventType(JobExecutionEvent.class);
+
+    private final Job job;
+    private final JobExecutionEvent event;
+    private final long submissionTime;
+
+    JobExecutionRecorder(final Job job) {
+        this.job = job;
+        this.event = new JobExecutionEvent();
+        this.event.begin();
+        this.submissionTime = System.nanoTime();
+    }
+
+    static boolean isEnabled() {
+        return JOB_EXECUTION_EVENT_TYPE.isEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return job.getName();
+    }
+
+    @Override
+    public JobReport call() {
+        event.queueTime = System.nanoTime() - submissionTime;
+        JobReport jobReport = null;
+        try {
+            jobReport = job.call();
+            return jobReport;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.jobName = job.getName();
+                event.status = jobReport != null ? String.valueOf(jobReport.getStatus()) : null;
+                event.commit();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jmx;
+
+import org.jeasy.batch.core.job.JobExecutor;
+import org.jeasy.batch.core.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * JMX MBean implementation of {@link JobExecutorMonitorMBean}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class JobExecutorMonitor implements JobExecutorMonitorMBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutorMonitor.class.getName());
+
+    private JobExecutor jobExecutor;
+
+    private ObjectName objectName;
+
+    public JobExecutorMonitor(final JobExecutor jobExecutor) {
+        this.jobExecutor = jobExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWorkers() {
+        return jobExecutor.getWorkers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWorkers(int workers) {
+        jobExecutor.setWorkers(workers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveWorkers() {
+        return jobExecutor.getActiveWorkers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQueuedJobs() {
+        return jobExecutor.getQueuedJobs();
+    }
+
+    public void registerJmxMBeanFor(String jobExecutorName) {
+        LOGGER.debug("Registering JMX MBean for job executor '{}'", jobExecutorName);
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(Utils.JMX_MBEAN_NAME + "type=JobExecutor,name=" + jobExecutorName);
+            if (!mbs.isRegistered(name)) {
+                mbs.registerMBean(this, name);
+                objectName = name;
+                LOGGER.debug("JMX MBean registered successfully as: {}", name.getCanonicalName());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Unable to register MBean for job executor '{}'", jobExecutorName, e);
+        }
+    }
+
+    public void unregisterJmxMBean() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            LOGGER.debug("JMX MBean {} unregistered successfully", objectName.getCanonicalName());
+        } catch (Exception e) {
+            LOGGER.error("Unable to unregister MBean {}", objectName.getCanonicalName(), e);
+        } finally {
+            objectName = null;
+        }
+    }
+}
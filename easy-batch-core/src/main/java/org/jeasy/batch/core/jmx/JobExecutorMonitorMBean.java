@@ -0,0 +1,62 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jmx;
+
+/**
+ * JMX MBean interface to monitor and resize a {@link org.jeasy.batch.core.job.JobExecutor}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface JobExecutorMonitorMBean {
+
+    /**
+     * Get the number of worker threads.
+     *
+     * @return the number of worker threads
+     */
+    int getWorkers();
+
+    /**
+     * Change the number of worker threads. Running jobs are not interrupted:
+     * extra workers are released when they finish their current job.
+     *
+     * @param workers the new number of worker threads
+     */
+    void setWorkers(int workers);
+
+    /**
+     * Get the number of workers that are currently running a job.
+     *
+     * @return the number of active workers
+     */
+    int getActiveWorkers();
+
+    /**
+     * Get the number of jobs waiting for a worker.
+     *
+     * @return the number of queued jobs
+     */
+    int getQueuedJobs();
+
+}
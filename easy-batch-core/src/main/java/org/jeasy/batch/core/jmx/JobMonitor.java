@@ -24,6 +24,7 @@
 package org.jeasy.batch.core.jmx;
 
 import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobControl;
 import org.jeasy.batch.core.job.JobReport;
 import org.jeasy.batch.core.util.Utils;
 import org.slf4j.Logger;
@@ -52,8 +53,18 @@ public class JobMonitor extends NotificationBroadcasterSupport implements JobMon
      */
     private JobReport jobReport;
 
+    /**
+     * The job control to which control operations are delegated.
+     */
+    private JobControl jobControl;
+
     public JobMonitor(final JobReport jobReport) {
+        this(jobReport, new JobControl());
+    }
+
+    public JobMonitor(final JobReport jobReport, final JobControl jobControl) {
         this.jobReport = jobReport;
+        this.jobControl = jobControl;
     }
 
     /**
@@ -117,6 +128,49 @@ public class JobMonitor extends NotificationBroadcasterSupport implements JobMon
         return jobReport.getStatus().name();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBatchSize() {
+        return jobReport.getParameters().getBatchSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBatchSize(int batchSize) {
+        LOGGER.info("Batch size change to {} requested for job '{}'", batchSize, getJobName());
+        jobControl.requestBatchSize(batchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPaused() {
+        return jobControl.isPaused();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        LOGGER.info("Pause requested for job '{}'", getJobName());
+        jobControl.pause();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        LOGGER.info("Resume requested for job '{}'", getJobName());
+        jobControl.resume();
+    }
+
     public void notifyJobReportUpdate() {
         Notification notification = new AttributeChangeNotification(
                 this,
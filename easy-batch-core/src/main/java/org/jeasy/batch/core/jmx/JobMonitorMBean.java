@@ -26,7 +26,8 @@ package org.jeasy.batch.core.jmx;
 import org.jeasy.batch.core.job.JobStatus;
 
 /**
- * JMX MBean interface to expose monitoring attributes.
+ * JMX MBean interface to expose monitoring attributes and control operations.
+ * Changes requested through control operations are applied at the next batch boundary.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
@@ -88,4 +89,35 @@ public interface JobMonitorMBean {
      */
     String getJobStatus();
 
+    /**
+     * Get the current batch size.
+     *
+     * @return the current batch size
+     */
+    int getBatchSize();
+
+    /**
+     * Change the batch size. The new batch size will be used starting from the next batch.
+     *
+     * @param batchSize the new batch size
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * Check if the job is paused (or will pause at the next batch boundary).
+     *
+     * @return true if the job is paused
+     */
+    boolean isPaused();
+
+    /**
+     * Pause the job at the next batch boundary.
+     */
+    void pause();
+
+    /**
+     * Resume a paused job.
+     */
+    void resume();
+
 }
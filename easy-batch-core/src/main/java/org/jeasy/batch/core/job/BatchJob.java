@@ -25,6 +25,8 @@ package org.jeasy.batch.core.job;
 
 import java.time.LocalDateTime;
 
+import org.jeasy.batch.core.jfr.FlightRecorderListener;
+import org.jeasy.batch.core.jfr.FlightRecorderSupport;
 import org.jeasy.batch.core.jmx.JobMonitor;
 import org.jeasy.batch.core.listener.BatchListener;
 import org.jeasy.batch.core.listener.CompositeBatchListener;
@@ -62,6 +64,8 @@ class BatchJob implements Job {
     private RecordWriter recordWriter;
     private RecordProcessor recordProcessor;
     private RecordTracker recordTracker;
+    private StageProfiler stageProfiler;
+    private boolean flightRecorderListenerRegistered;
 
     private JobListener jobListener;
     private BatchListener batchListener;
@@ -73,6 +77,7 @@ class BatchJob implements Job {
     private JobMetrics metrics;
     private JobReport report;
     private JobMonitor monitor;
+    private JobControl control;
 
     BatchJob(JobParameters parameters) {
         this.parameters = parameters;
@@ -83,7 +88,8 @@ class BatchJob implements Job {
         report.setMetrics(metrics);
         report.setJobName(name);
         report.setSystemProperties(System.getProperties());
-        monitor = new JobMonitor(report);
+        control = new JobControl();
+        monitor = new JobMonitor(report, control);
         recordReader = new NoOpRecordReader();
         recordProcessor = new CompositeRecordProcessor();
         recordWriter = new NoOpRecordWriter();
@@ -100,6 +106,15 @@ class BatchJob implements Job {
         return name;
     }
 
+    /**
+     * Get the control of this job, used to change its parameters while it is running.
+     *
+     * @return the job control
+     */
+    public JobControl getControl() {
+        return control;
+    }
+
     @Override
     public JobReport call() {
         start();
@@ -108,6 +123,10 @@ class BatchJob implements Job {
             openWriter();
             setStatus(JobStatus.STARTED);
             while (moreRecords() && !isInterrupted()) {
+                applyRuntimeChanges();
+                if (isInterrupted()) {
+                    break;
+                }
                 Batch batch = readAndProcessBatch();
                 writeBatch(batch);
             }
@@ -129,13 +148,16 @@ class BatchJob implements Job {
 
     private void start() {
         setStatus(JobStatus.STARTING);
+        registerFlightRecorderListener();
         jobListener.beforeJobStart(parameters);
         recordTracker = new RecordTracker();
         metrics.setStartTime(LocalDateTime.now());
         LOGGER.debug("Batch size: {}", parameters.getBatchSize());
         LOGGER.debug("Error threshold: {}", Utils.formatErrorThreshold(parameters.getErrorThreshold()));
         LOGGER.debug("Jmx monitoring: {}", parameters.isJmxMonitoring());
+        LOGGER.debug("Profiling: {}", parameters.isProfiling());
         registerJobMonitor();
+        initializeStageProfiler();
     }
 
     private void registerJobMonitor() {
@@ -144,6 +166,28 @@ class BatchJob implements Job {
         }
     }
 
+    private void initializeStageProfiler() {
+        if (parameters.isProfiling() && stageProfiler == null) {
+            stageProfiler = new StageProfiler();
+        }
+    }
+
+    /*
+     * The listener is registered only if a recording has enabled an event type when the job starts,
+     * so that jobs do not pay for its callbacks when no recording is running.
+     */
+    private void registerFlightRecorderListener() {
+        if (!flightRecorderListenerRegistered && FlightRecorderSupport.isEnabled()) {
+            flightRecorderListenerRegistered = true;
+            FlightRecorderListener flightRecorderListener = new FlightRecorderListener(this);
+            addJobListener(flightRecorderListener);
+            addBatchListener(flightRecorderListener);
+            addRecordReaderListener(flightRecorderListener);
+            addPipelineListener(flightRecorderListener);
+            addRecordWriterListener(flightRecorderListener);
+        }
+    }
+
     private void openReader() throws RecordReaderOpeningException {
         try {
             LOGGER.debug("Opening record reader");
@@ -174,10 +218,34 @@ class BatchJob implements Job {
         return recordTracker.moreRecords();
     }
 
+    private void applyRuntimeChanges() {
+        int batchSize = control.pollRequestedBatchSize();
+        if (batchSize > 0 && batchSize != parameters.getBatchSize()) {
+            LOGGER.info("Job '{}' batch size changed from {} to {}", name, parameters.getBatchSize(), batchSize);
+            metrics.addRuntimeChange("batch size", parameters.getBatchSize(), batchSize);
+            parameters.setBatchSize(batchSize);
+            notifyJobUpdate();
+        }
+        if (control.isPaused()) {
+            LOGGER.info("Job '{}' paused", name);
+            metrics.addRuntimeChange("paused", false, true);
+            notifyJobUpdate();
+            try {
+                control.awaitResume();
+                LOGGER.info("Job '{}' resumed", name);
+                metrics.addRuntimeChange("paused", true, false);
+                notifyJobUpdate();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private Batch readAndProcessBatch() throws RecordReadingException, ErrorThresholdExceededException {
         Batch batch = new Batch();
+        int batchSize = parameters.getBatchSize();
         batchListener.beforeBatchReading();
-        for (int i = 0; i < parameters.getBatchSize(); i++) {
+        for (int i = 0; i < batchSize; i++) {
             Record record = readRecord();
             if (record == null) {
                 recordTracker.noMoreRecords();
@@ -196,7 +264,7 @@ class BatchJob implements Job {
         try {
             LOGGER.debug("Reading next record");
             recordReaderListener.beforeRecordReading();
-            record = recordReader.readRecord();
+            record = doReadRecord();
             recordReaderListener.afterRecordReading(record);
             return record;
         } catch (Exception e) {
@@ -205,6 +273,20 @@ class BatchJob implements Job {
         }
     }
 
+    private Record doReadRecord() throws Exception {
+        if (!parameters.isProfiling()) {
+            return recordReader.readRecord();
+        }
+        Record record = null;
+        stageProfiler.start();
+        try {
+            record = recordReader.readRecord();
+            return record;
+        } finally {
+            stageProfiler.stop(metrics.getReaderMetrics(), record == null ? 0 : 1);
+        }
+    }
+
     @SuppressWarnings(value = "unchecked")
     private void processRecord(Record record, Batch batch) throws ErrorThresholdExceededException {
         Record processedRecord = null;
@@ -216,7 +298,7 @@ class BatchJob implements Job {
                 LOGGER.debug("Record {} has been filtered", record);
                 metrics.incrementFilterCount();
             } else {
-                processedRecord = recordProcessor.processRecord(preProcessedRecord);
+                processedRecord = doProcessRecord(preProcessedRecord);
                 if (processedRecord == null) {
                     LOGGER.debug("Record {} has been filtered", record);
                     metrics.incrementFilterCount();
@@ -236,12 +318,25 @@ class BatchJob implements Job {
         }
     }
 
+    @SuppressWarnings(value = "unchecked")
+    private Record doProcessRecord(Record record) throws Exception {
+        if (!parameters.isProfiling()) {
+            return recordProcessor.processRecord(record);
+        }
+        stageProfiler.start();
+        try {
+            return recordProcessor.processRecord(record);
+        } finally {
+            stageProfiler.stop(metrics.getProcessorMetrics(), 1);
+        }
+    }
+
     private void writeBatch(Batch batch) throws BatchWritingException {
         LOGGER.debug("Writing records {}", batch);
         try {
             if (!batch.isEmpty()) {
                 recordWriterListener.beforeRecordWriting(batch);
-                recordWriter.writeRecords(batch);
+                doWriteRecords(batch);
                 recordWriterListener.afterRecordWriting(batch);
                 batchListener.afterBatchWriting(batch);
                 metrics.incrementWriteCount(batch.size());
@@ -253,6 +348,19 @@ class BatchJob implements Job {
         }
     }
 
+    private void doWriteRecords(Batch batch) throws Exception {
+        if (!parameters.isProfiling()) {
+            recordWriter.writeRecords(batch);
+            return;
+        }
+        stageProfiler.start();
+        try {
+            recordWriter.writeRecords(batch);
+        } finally {
+            stageProfiler.stop(metrics.getWriterMetrics(), batch.size());
+        }
+    }
+
     private boolean isInterrupted() {
         return Thread.currentThread().isInterrupted();
     }
@@ -38,6 +38,7 @@ import java.util.List;
  * <li>The total written records is the sum of total written records</li>
  * <li>The total filtered records is the sum of total filtered records</li>
  * <li>The total error records is the sum of total error records</li>
+ * <li>The resource usage of each stage is the sum of resource usages of this stage</li>
  * <li>The final status is {@link JobStatus#COMPLETED} (if all partials are completed) or {@link JobStatus#FAILED} (if one of partials has failed).</li>
  * <li>The final name is the concatenation of partial job names.</li>
  * </ul>
@@ -73,6 +74,7 @@ public class DefaultJobReportMerger implements JobReportMerger {
             calculateWrittenRecords(finalJobReport, jobReport);
             calculateFilteredRecords(finalJobReport, jobReport);
             calculateErrorRecords(finalJobReport, jobReport);
+            calculateStageMetrics(finalJobReport, jobReport);
             setStatus(finalJobReport, jobReport);
             jobNames.add(jobReport.getJobName());
             finalJobReport.setSystemProperties(jobReport.getSystemProperties()); // works unless partial jobs are run in different JVMs..
@@ -110,6 +112,17 @@ public class DefaultJobReportMerger implements JobReportMerger {
         finalJobReport.getMetrics().incrementFilterCount(jobReport.getMetrics().getFilterCount());
     }
 
+    private void calculateStageMetrics(JobReport finalJobReport, JobReport jobReport) {
+        JobMetrics finalMetrics = finalJobReport.getMetrics();
+        JobMetrics metrics = jobReport.getMetrics();
+        finalMetrics.getReaderMetrics().increment(metrics.getReaderMetrics());
+        finalMetrics.getProcessorMetrics().increment(metrics.getProcessorMetrics());
+        finalMetrics.getWriterMetrics().increment(metrics.getWriterMetrics());
+        if (jobReport.getParameters() != null && jobReport.getParameters().isProfiling()) {
+            finalJobReport.getParameters().setProfiling(true);
+        }
+    }
+
     private String concatenate(List<String> names) {
         StringBuilder stringBuilder = new StringBuilder();
         Iterator<String> iterator = names.iterator();
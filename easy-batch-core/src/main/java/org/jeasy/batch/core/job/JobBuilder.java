@@ -187,6 +187,20 @@ public final class JobBuilder {
         return this;
     }
 
+    /**
+     * Activate profiling of job stages. When enabled, the CPU time and the number of bytes
+     * allocated by the reader, the processing pipeline and the writer are measured with the
+     * platform {@link java.lang.management.ThreadMXBean} and reported per record in job metrics.
+     * Profiling adds overhead to each record and should not be enabled by default.
+     *
+     * @param profiling true to enable profiling
+     * @return the job builder
+     */
+    public JobBuilder enableProfiling(final boolean profiling) {
+        parameters.setProfiling(profiling);
+        return this;
+    }
+
     /**
      * Set the batch size.
      *
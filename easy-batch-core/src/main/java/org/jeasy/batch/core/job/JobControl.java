@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.job;
+
+import org.jeasy.batch.core.util.Utils;
+
+/**
+ * Runtime control of a running job.
+ *
+ * Changes requested through this class are applied by the job at the next batch boundary:
+ * the current batch is always read, processed and written with the parameters it was started with.
+ * Each applied change is recorded in the job metrics, see {@link JobMetrics#getRuntimeChanges()}.
+ *
+ * This class is thread-safe.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class JobControl {
+
+    private int requestedBatchSize;
+
+    private boolean paused;
+
+    /**
+     * Request a new batch size. The new batch size will be used starting from the next batch.
+     *
+     * @param batchSize the new batch size
+     */
+    public synchronized void requestBatchSize(final int batchSize) {
+        Utils.checkArgument(batchSize >= 1, "Batch size must be >= 1");
+        this.requestedBatchSize = batchSize;
+    }
+
+    /**
+     * Request the job to pause. The job will pause at the next batch boundary.
+     */
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    /**
+     * Request a paused job to resume.
+     */
+    public synchronized void resume() {
+        paused = false;
+        notifyAll();
+    }
+
+    /**
+     * Check if a pause has been requested.
+     *
+     * @return true if the job is paused or will pause at the next batch boundary
+     */
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Get the requested batch size and clear the request.
+     *
+     * @return the requested batch size or 0 if no new batch size has been requested
+     */
+    synchronized int pollRequestedBatchSize() {
+        int batchSize = requestedBatchSize;
+        requestedBatchSize = 0;
+        return batchSize;
+    }
+
+    /**
+     * Block the calling thread until the job is resumed.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    synchronized void awaitResume() throws InterruptedException {
+        while (paused) {
+            wait();
+        }
+    }
+}
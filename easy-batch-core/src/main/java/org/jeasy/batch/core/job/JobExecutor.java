@@ -23,13 +23,19 @@
  */
 package org.jeasy.batch.core.job;
 
+import org.jeasy.batch.core.jfr.FlightRecorderSupport;
+import org.jeasy.batch.core.jmx.JobExecutorMonitor;
 import org.jeasy.batch.core.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.Runtime.getRuntime;
@@ -44,8 +50,12 @@ import static java.util.concurrent.Executors.newFixedThreadPool;
  */
 public class JobExecutor {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutor.class);
+
     private ExecutorService executorService;
 
+    private JobExecutorMonitor monitor;
+
     /**
      * Create a job executor. The number of workers will be set to the number of available processors.
      */
@@ -80,7 +90,7 @@ public class JobExecutor {
      */
     public JobReport execute(Job job) {
         try {
-            return executorService.submit(job).get();
+            return executorService.submit(FlightRecorderSupport.recordExecutionOf(job)).get();
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Unable to execute job " + job.getName(), e);
         }
@@ -93,7 +103,7 @@ public class JobExecutor {
      * @return a future of the job report
      */
     public Future<JobReport> submit(Job job) {
-        return executorService.submit(job);
+        return executorService.submit(FlightRecorderSupport.recordExecutionOf(job));
     }
 
     /**
@@ -113,18 +123,100 @@ public class JobExecutor {
      * @return the list of job reports in the same order of submission
      */
     public List<Future<JobReport>> submitAll(List<Job> jobs) {
+        List<Job> jobsToExecute = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            jobsToExecute.add(FlightRecorderSupport.recordExecutionOf(job));
+        }
         try {
-            return executorService.invokeAll(jobs);
+            return executorService.invokeAll(jobsToExecute);
         } catch (InterruptedException e) {
             throw new RuntimeException("Unable to execute jobs", e);
         }
     }
 
+    /**
+     * Get the number of worker threads.
+     *
+     * @return the number of worker threads, or -1 if the underlying executor service is not a {@link ThreadPoolExecutor}
+     */
+    public int getWorkers() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getCorePoolSize();
+        }
+        return -1;
+    }
+
+    /**
+     * Change the number of worker threads. Running jobs are not interrupted:
+     * when the number of workers is decreased, extra workers are released when they finish their current job.
+     *
+     * @param nbWorkers the new number of worker threads
+     * @throws UnsupportedOperationException if the underlying executor service is not a {@link ThreadPoolExecutor}
+     */
+    public void setWorkers(int nbWorkers) {
+        Utils.checkArgument(nbWorkers >= 1, "Number of workers must be >= 1");
+        if (!(executorService instanceof ThreadPoolExecutor)) {
+            throw new UnsupportedOperationException("Unable to resize executor service of type " + executorService.getClass().getName());
+        }
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+        int oldNbWorkers = threadPoolExecutor.getCorePoolSize();
+        if (nbWorkers > threadPoolExecutor.getMaximumPoolSize()) {
+            threadPoolExecutor.setMaximumPoolSize(nbWorkers);
+            threadPoolExecutor.setCorePoolSize(nbWorkers);
+        } else {
+            threadPoolExecutor.setCorePoolSize(nbWorkers);
+            threadPoolExecutor.setMaximumPoolSize(nbWorkers);
+        }
+        LOGGER.info("Number of workers changed from {} to {}", oldNbWorkers, nbWorkers);
+    }
+
+    /**
+     * Get the number of worker threads that are currently running a job.
+     *
+     * @return the number of active workers, or -1 if the underlying executor service is not a {@link ThreadPoolExecutor}
+     */
+    public int getActiveWorkers() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getActiveCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Get the number of jobs waiting for a worker thread.
+     *
+     * @return the number of queued jobs, or -1 if the underlying executor service is not a {@link ThreadPoolExecutor}
+     */
+    public int getQueuedJobs() {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+        return -1;
+    }
+
+    /**
+     * Register a JMX MBean to monitor and resize this job executor.
+     * The MBean is unregistered when the job executor is shutdown.
+     *
+     * @param name of the job executor
+     */
+    public void enableJmx(String name) {
+        Utils.checkNotNull(name, "job executor name");
+        if (monitor == null) {
+            monitor = new JobExecutorMonitor(this);
+            monitor.registerJmxMBeanFor(name);
+        }
+    }
+
     /**
      * Shutdown the job executor.
      */
     public void shutdown() {
         executorService.shutdown();
+        if (monitor != null) {
+            monitor.unregisterJmxMBean();
+            monitor = null;
+        }
     }
 
     /**
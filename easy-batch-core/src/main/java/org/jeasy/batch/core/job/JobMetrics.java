@@ -26,7 +26,10 @@ package org.jeasy.batch.core.job;
 import java.io.Serializable;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,6 +51,14 @@ public class JobMetrics implements Serializable {
 
     private long errorCount;
 
+    private StageMetrics readerMetrics = new StageMetrics();
+
+    private StageMetrics processorMetrics = new StageMetrics();
+
+    private StageMetrics writerMetrics = new StageMetrics();
+
+    private List<RuntimeChange> runtimeChanges = Collections.synchronizedList(new ArrayList<>());
+
     private Map<String, Object> customMetrics = new HashMap<>();
 
     public void incrementFilterCount() {
@@ -117,6 +128,53 @@ public class JobMetrics implements Serializable {
         return writeCount;
     }
 
+    /**
+     * Get resource usage of the record reader. Available only if profiling is enabled.
+     *
+     * @return record reader metrics
+     */
+    public StageMetrics getReaderMetrics() {
+        return readerMetrics;
+    }
+
+    /**
+     * Get resource usage of the processing pipeline. Available only if profiling is enabled.
+     *
+     * @return processing pipeline metrics
+     */
+    public StageMetrics getProcessorMetrics() {
+        return processorMetrics;
+    }
+
+    /**
+     * Get resource usage of the record writer. Available only if profiling is enabled.
+     *
+     * @return record writer metrics
+     */
+    public StageMetrics getWriterMetrics() {
+        return writerMetrics;
+    }
+
+    /**
+     * Record a change applied to the running job.
+     *
+     * @param name of the changed setting
+     * @param oldValue of the setting
+     * @param newValue of the setting
+     */
+    public void addRuntimeChange(String name, Object oldValue, Object newValue) {
+        runtimeChanges.add(new RuntimeChange(LocalDateTime.now(), name, String.valueOf(oldValue), String.valueOf(newValue)));
+    }
+
+    /**
+     * Get changes applied to the running job, in the order they have been applied.
+     *
+     * @return changes applied to the running job
+     */
+    public List<RuntimeChange> getRuntimeChanges() {
+        return runtimeChanges;
+    }
+
     public void addMetric(String name, Object value) {
         customMetrics.put(name, value);
     }
@@ -51,7 +51,9 @@ public class JobParameters implements Serializable {
 
     private boolean jmxMonitoring;
 
-    private int batchSize;
+    private boolean profiling;
+
+    private volatile int batchSize;
 
     public JobParameters() {
         this.errorThreshold = DEFAULT_ERROR_THRESHOLD;
@@ -74,6 +76,20 @@ public class JobParameters implements Serializable {
         this.jmxMonitoring = jmxMonitoring;
     }
 
+    /**
+     * Check if profiling is enabled. When enabled, CPU time and allocated bytes
+     * of each stage (reading, processing and writing) are reported in job metrics.
+     *
+     * @return true if profiling is enabled, false otherwise
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
     public int getBatchSize() {
         return batchSize;
     }
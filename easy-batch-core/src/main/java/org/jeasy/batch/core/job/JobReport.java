@@ -132,6 +132,16 @@ public class JobReport implements Serializable {
                 metrics.getErrorCount());
 
         final StringBuilder sb = new StringBuilder(baseReport);
+        // append stage metrics
+        if (parameters.isProfiling()) {
+            sb.append(Utils.LINE_SEPARATOR).append("\tReader: ").append(metrics.getReaderMetrics());
+            sb.append(Utils.LINE_SEPARATOR).append("\tProcessor: ").append(metrics.getProcessorMetrics());
+            sb.append(Utils.LINE_SEPARATOR).append("\tWriter: ").append(metrics.getWriterMetrics());
+        }
+        // append runtime changes
+        for (RuntimeChange runtimeChange : metrics.getRuntimeChanges()) {
+            sb.append(Utils.LINE_SEPARATOR).append("\tRuntime change: ").append(runtimeChange);
+        }
         // append custom metrics
         for (Map.Entry<String, Object> customMetric : metrics.getCustomMetrics().entrySet()) {
             sb.append(Utils.LINE_SEPARATOR).append("\t")
@@ -0,0 +1,78 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.job;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * A change applied to a running job (for example through JMX).
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class RuntimeChange implements Serializable {
+
+    private final LocalDateTime time;
+    private final String name;
+    private final String oldValue;
+    private final String newValue;
+
+    /**
+     * Create a new {@link RuntimeChange}.
+     *
+     * @param time at which the change has been applied
+     * @param name of the changed setting
+     * @param oldValue of the setting
+     * @param newValue of the setting
+     */
+    public RuntimeChange(LocalDateTime time, String name, String oldValue, String newValue) {
+        this.time = time;
+        this.name = name;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return Utils.formatTime(time) + ": " + name + " changed from " + oldValue + " to " + newValue;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.job;
+
+import java.io.Serializable;
+
+/**
+ * Resource usage of a job stage (reading, processing or writing).
+ * Stage metrics are collected only when profiling is enabled, see {@link JobParameters#isProfiling()}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class StageMetrics implements Serializable {
+
+    private long recordCount;
+
+    private long cpuTime;
+
+    private long allocatedBytes;
+
+    /**
+     * Add resource usage to this stage.
+     *
+     * @param recordCount number of records handled
+     * @param cpuTime CPU time in nanoseconds
+     * @param allocatedBytes number of bytes allocated
+     */
+    public void increment(long recordCount, long cpuTime, long allocatedBytes) {
+        this.recordCount += recordCount;
+        this.cpuTime += cpuTime;
+        this.allocatedBytes += allocatedBytes;
+    }
+
+    /**
+     * Add resource usage of another stage to this stage.
+     *
+     * @param stageMetrics to add
+     */
+    public void increment(StageMetrics stageMetrics) {
+        increment(stageMetrics.recordCount, stageMetrics.cpuTime, stageMetrics.allocatedBytes);
+    }
+
+    /**
+     * Get the number of records handled by this stage.
+     *
+     * @return the number of records handled by this stage
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Get the CPU time spent in this stage.
+     *
+     * @return the CPU time in nanoseconds
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Get the number of bytes allocated in this stage.
+     *
+     * @return the number of allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Get the CPU time per record spent in this stage.
+     *
+     * @return the CPU time per record in nanoseconds
+     */
+    public long getCpuTimePerRecord() {
+        return recordCount == 0 ? 0 : cpuTime / recordCount;
+    }
+
+    /**
+     * Get the number of bytes allocated per record in this stage.
+     *
+     * @return the number of allocated bytes per record
+     */
+    public long getAllocatedBytesPerRecord() {
+        return recordCount == 0 ? 0 : allocatedBytes / recordCount;
+    }
+
+    @Override
+    public String toString() {
+        return "records = " + recordCount +
+                ", cpu time per record = " + getCpuTimePerRecord() + "ns" +
+                ", allocated bytes per record = " + getAllocatedBytesPerRecord();
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measure CPU time and allocated bytes of the current thread around job stages
+ * using the platform {@link ThreadMXBean}.
+ *
+ * Measures that are not supported by the running JVM are reported as zero.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class StageProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StageProfiler.class);
+
+    private final ThreadMXBean threadMXBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+
+    private long cpuTime;
+    private long allocatedBytes;
+
+    StageProfiler() {
+        threadMXBean = ManagementFactory.getThreadMXBean();
+        cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        allocatedBytesSupported = isAllocatedBytesSupported(threadMXBean);
+        if (!cpuTimeSupported) {
+            LOGGER.warn("Thread CPU time measurement is not supported or not enabled, CPU time will not be reported");
+        }
+        if (!allocatedBytesSupported) {
+            LOGGER.warn("Thread allocated memory measurement is not supported or not enabled, allocated bytes will not be reported");
+        }
+    }
+
+    /**
+     * Start measuring a stage.
+     */
+    void start() {
+        cpuTime = currentCpuTime();
+        allocatedBytes = currentAllocatedBytes();
+    }
+
+    /**
+     * Stop measuring a stage and add the resources used since {@link #start()} to the given metrics.
+     *
+     * @param stageMetrics to update
+     * @param recordCount number of records handled by the stage
+     */
+    void stop(StageMetrics stageMetrics, long recordCount) {
+        long cpuTimeDelta = currentCpuTime() - cpuTime;
+        long allocatedBytesDelta = currentAllocatedBytes() - allocatedBytes;
+        stageMetrics.increment(recordCount, cpuTimeDelta, allocatedBytesDelta);
+    }
+
+    private long currentCpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long currentAllocatedBytes() {
+        if (allocatedBytesSupported) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static boolean isAllocatedBytesSupported(ThreadMXBean threadMXBean) {
+        try {
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                return sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled();
+            }
+        } catch (LinkageError e) {
+            // com.sun.management is not available on this JVM
+        }
+        return false;
+    }
+}
@@ -24,6 +24,7 @@
 package org.jeasy.batch.core.mapper;
 
 import org.jeasy.batch.core.converter.TypeConverter;
+import org.jeasy.batch.core.util.Utils;
 
 /**
  * Abstract record mapper.
@@ -37,6 +38,17 @@ public abstract class AbstractRecordMapper<T> {
      */
     protected ObjectMapper<T> objectMapper;
 
+    /**
+     * The factory of mapping plans (the object mapper, unless a generated factory is used).
+     */
+    protected MappingPlanFactory<T> mappingPlanFactory;
+
+    /**
+     * The positional mapping plan, created by subclasses on first use
+     * and reset when a custom type converter is registered.
+     */
+    protected MappingPlan<T> mappingPlan;
+
     /**
      * Create an {@link AbstractRecordMapper}.
      *
@@ -44,6 +56,19 @@ public abstract class AbstractRecordMapper<T> {
      */
     public AbstractRecordMapper(Class<T> recordClass) {
         this.objectMapper = new ObjectMapper<>(recordClass);
+        this.mappingPlanFactory = objectMapper;
+    }
+
+    /**
+     * Create an {@link AbstractRecordMapper} that maps records with plans of the given factory,
+     * usually generated at compile time for a class annotated with {@link GenerateMappers}.
+     * No introspection of the target type is done in this case.
+     *
+     * @param mappingPlanFactory the factory of mapping plans
+     */
+    public AbstractRecordMapper(MappingPlanFactory<T> mappingPlanFactory) {
+        Utils.checkNotNull(mappingPlanFactory, "mapping plan factory");
+        this.mappingPlanFactory = mappingPlanFactory;
     }
 
     /**
@@ -52,6 +77,10 @@ public abstract class AbstractRecordMapper<T> {
      * @param typeConverter the type converter to user
      */
     public void registerTypeConverter(final TypeConverter<String, ?> typeConverter) {
+        if (objectMapper == null) {
+            throw new UnsupportedOperationException("Custom type converters are not supported with a generated mapping plan factory");
+        }
         objectMapper.registerTypeConverter(typeConverter);
+        mappingPlan = null;
     }
 }
@@ -0,0 +1,491 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Compiled accessors for the constructor and the properties of a Java bean.
+ *
+ * <p>Accessors are generated once per type with {@link LambdaMetafactory}, so that
+ * creating instances and reading or writing properties costs a plain (and inlinable)
+ * method call instead of a reflective invocation. When a lambda cannot be linked
+ * against the target type (a non-public type, or a type that is not visible from
+ * the class loader of Easy Batch), accessors fall back to reflection.</p>
+ *
+ * <p>Instances are immutable, thread-safe and cached per class: use {@link #of(Class)}
+ * to get the accessor of a given type. This class is shared by the {@link ObjectMapper},
+ * the {@link org.jeasy.batch.core.field.BeanFieldExtractor} and other bean based components.</p>
+ *
+ * @param <T> type of the bean
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public final class BeanAccessor<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<BeanAccessor<?>> ACCESSORS = new ClassValue<BeanAccessor<?>>() {
+        @Override
+        protected BeanAccessor<?> computeValue(Class<?> type) {
+            return new BeanAccessor<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Instantiator instantiator;
+    private final Map<String, Property> properties;
+
+    private BeanAccessor(final Class<T> type) {
+        this.type = type;
+        this.instantiator = createInstantiator(type);
+        this.properties = Collections.unmodifiableMap(createProperties(type));
+    }
+
+    /**
+     * Get the (cached) accessor of the given type.
+     *
+     * @param type of the bean
+     * @param <T> type of the bean
+     * @return the accessor of the given type
+     * @throws BeanIntrospectionException if the type cannot be introspected
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanAccessor<T> of(final Class<T> type) throws BeanIntrospectionException {
+        return (BeanAccessor<T>) ACCESSORS.get(type);
+    }
+
+    /**
+     * Return the type of the bean.
+     *
+     * @return the type of the bean
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Create a new instance of the bean with its public no-argument constructor.
+     *
+     * @return a new instance of the bean
+     * @throws Exception if the bean cannot be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws Exception {
+        if (instantiator == null) {
+            throw new InstantiationException(format("Type %s has no public no-argument constructor", type.getName()));
+        }
+        return (T) instantiator.newInstance();
+    }
+
+    /**
+     * Return the property with the given name.
+     *
+     * @param name of the property
+     * @return the property or {@code null} if the bean has no such property
+     */
+    public Property getProperty(final String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * Return the names of the bean properties (excluding "class").
+     *
+     * @return the names of the bean properties
+     */
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    /**
+     * A property of a Java bean with compiled read and write accessors.
+     */
+    public static final class Property {
+
+        private final String name;
+        private final Class<?> type;
+        private final Getter getter;
+        private final Setter setter;
+        // compiled setter of a primitive property taking an unboxed value, if any
+        private final Object primitiveSetter;
+
+        private Property(String name, Class<?> type, Getter getter, Setter setter, Object primitiveSetter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+            this.primitiveSetter = primitiveSetter;
+        }
+
+        /**
+         * @return the name of the property
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the type of the property
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return true if the property has a public getter
+         */
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        /**
+         * @return true if the property has a public setter
+         */
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        /**
+         * Read the value of the property.
+         *
+         * @param bean to read the property from
+         * @return the (boxed if primitive) value of the property
+         * @throws Exception thrown by the getter
+         */
+        public Object get(final Object bean) throws Exception {
+            if (getter == null) {
+                throw new IllegalStateException(format("No public getter found for property %s", name));
+            }
+            return getter.get(bean);
+        }
+
+        /**
+         * Write the value of the property.
+         *
+         * @param bean to write the property to
+         * @param value to write (unboxed if the property is of a primitive type)
+         * @throws Exception thrown by the setter
+         */
+        public void set(final Object bean, final Object value) throws Exception {
+            if (setter == null) {
+                throw new IllegalStateException(format("No public setter found for property %s", name));
+            }
+            setter.set(bean, value);
+        }
+
+        /**
+         * Write the value of an {@code int} property without boxing it.
+         * Properties of other types are written with {@link #set(Object, Object)}.
+         *
+         * @param bean to write the property to
+         * @param value to write
+         * @throws Exception thrown by the setter
+         */
+        public void setInt(final Object bean, final int value) throws Exception {
+            if (primitiveSetter instanceof IntSetter) {
+                ((IntSetter) primitiveSetter).set(bean, value);
+            } else {
+                set(bean, value);
+            }
+        }
+
+        /**
+         * Write the value of a {@code long} property without boxing it.
+         * Properties of other types are written with {@link #set(Object, Object)}.
+         *
+         * @param bean to write the property to
+         * @param value to write
+         * @throws Exception thrown by the setter
+         */
+        public void setLong(final Object bean, final long value) throws Exception {
+            if (primitiveSetter instanceof LongSetter) {
+                ((LongSetter) primitiveSetter).set(bean, value);
+            } else {
+                set(bean, value);
+            }
+        }
+
+        /**
+         * Write the value of a {@code double} property without boxing it.
+         * Properties of other types are written with {@link #set(Object, Object)}.
+         *
+         * @param bean to write the property to
+         * @param value to write
+         * @throws Exception thrown by the setter
+         */
+        public void setDouble(final Object bean, final double value) throws Exception {
+            if (primitiveSetter instanceof DoubleSetter) {
+                ((DoubleSetter) primitiveSetter).set(bean, value);
+            } else {
+                set(bean, value);
+            }
+        }
+
+        /**
+         * Write the value of a {@code boolean} property without boxing it.
+         * Properties of other types are written with {@link #set(Object, Object)}.
+         *
+         * @param bean to write the property to
+         * @param value to write
+         * @throws Exception thrown by the setter
+         */
+        public void setBoolean(final Object bean, final boolean value) throws Exception {
+            if (primitiveSetter instanceof BooleanSetter) {
+                ((BooleanSetter) primitiveSetter).set(bean, value);
+            } else {
+                set(bean, value);
+            }
+        }
+    }
+
+    /*
+     * Functional interfaces implemented by generated accessors
+     */
+
+    interface Instantiator {
+        Object newInstance() throws Exception;
+    }
+
+    interface Getter {
+        Object get(Object bean) throws Exception;
+    }
+
+    interface Setter {
+        void set(Object bean, Object value) throws Exception;
+    }
+
+    interface IntSetter {
+        void set(Object bean, int value) throws Exception;
+    }
+
+    interface LongSetter {
+        void set(Object bean, long value) throws Exception;
+    }
+
+    interface DoubleSetter {
+        void set(Object bean, double value) throws Exception;
+    }
+
+    interface BooleanSetter {
+        void set(Object bean, boolean value) throws Exception;
+    }
+
+    /*
+     * Accessors creation
+     */
+
+    private static Map<String, Property> createProperties(Class<?> type) {
+        PropertyDescriptor[] propertyDescriptors;
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(type);
+            propertyDescriptors = beanInfo.getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            throw new BeanIntrospectionException("Unable to introspect type " + type.getName(), e);
+        }
+        Map<String, Property> properties = new HashMap<>();
+        for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+            String name = propertyDescriptor.getName();
+            if ("class".equals(name) || propertyDescriptor.getPropertyType() == null) { // exclude property "class" and indexed properties
+                continue;
+            }
+            Method readMethod = propertyDescriptor.getReadMethod();
+            Method writeMethod = propertyDescriptor.getWriteMethod();
+            properties.put(name, new Property(name, propertyDescriptor.getPropertyType(),
+                    readMethod != null ? createGetter(readMethod) : null,
+                    writeMethod != null ? createSetter(writeMethod) : null,
+                    writeMethod != null ? createPrimitiveSetter(writeMethod) : null));
+        }
+        return properties;
+    }
+
+    private static Instantiator createInstantiator(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (isLinkable(type)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                return (Instantiator) metafactory(Instantiator.class, "newInstance",
+                        MethodType.methodType(Object.class), handle, MethodType.methodType(type)).invoke();
+            } catch (Throwable e) {
+                // fall back to reflection
+            }
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InvocationTargetException e) {
+                throw unwrap(e);
+            }
+        };
+    }
+
+    private static Getter createGetter(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?> returnType = method.getReturnType();
+        if (isLinkable(declaringClass) && isLinkable(returnType)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                return (Getter) metafactory(Getter.class, "get",
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        MethodType.methodType(wrap(returnType), declaringClass)).invoke();
+            } catch (Throwable e) {
+                // fall back to reflection
+            }
+        }
+        trySetAccessible(method);
+        return bean -> {
+            try {
+                return method.invoke(bean);
+            } catch (InvocationTargetException e) {
+                throw unwrap(e);
+            }
+        };
+    }
+
+    private static Setter createSetter(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?> parameterType = method.getParameterTypes()[0];
+        if (isLinkable(declaringClass) && isLinkable(parameterType)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                return (Setter) metafactory(Setter.class, "set",
+                        MethodType.methodType(void.class, Object.class, Object.class), handle,
+                        MethodType.methodType(void.class, declaringClass, wrap(parameterType))).invoke();
+            } catch (Throwable e) {
+                // fall back to reflection
+            }
+        }
+        trySetAccessible(method);
+        return (bean, value) -> {
+            try {
+                method.invoke(bean, value);
+            } catch (InvocationTargetException e) {
+                throw unwrap(e);
+            }
+        };
+    }
+
+    private static Object createPrimitiveSetter(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?> parameterType = method.getParameterTypes()[0];
+        Class<?> functionalInterface;
+        if (parameterType == int.class) {
+            functionalInterface = IntSetter.class;
+        } else if (parameterType == long.class) {
+            functionalInterface = LongSetter.class;
+        } else if (parameterType == double.class) {
+            functionalInterface = DoubleSetter.class;
+        } else if (parameterType == boolean.class) {
+            functionalInterface = BooleanSetter.class;
+        } else {
+            return null;
+        }
+        if (!isLinkable(declaringClass)) {
+            return null; // primitive values will be boxed and set with the reflective setter
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            return metafactory(functionalInterface, "set",
+                    MethodType.methodType(void.class, Object.class, parameterType), handle,
+                    MethodType.methodType(void.class, declaringClass, parameterType)).invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle metafactory(Class<?> functionalInterface, String methodName, MethodType erasedType,
+                                            MethodHandle implementation, MethodType instantiatedType) throws Exception {
+        CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                MethodType.methodType(functionalInterface), erasedType, implementation, instantiatedType);
+        return callSite.getTarget();
+    }
+
+    /*
+     * Generated accessors are defined in the class loader of Easy Batch, so
+     * they can only reference public types that are visible from there.
+     */
+    private static boolean isLinkable(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getEnclosingClass()) {
+            if (!Modifier.isPublic(clazz.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, BeanAccessor.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static void trySetAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // keep default access checks
+        }
+    }
+
+    private static Exception unwrap(InvocationTargetException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof Exception ? (Exception) cause : exception;
+    }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+/**
+ * A positional mapping plan created by {@link ObjectMapper#createMappingPlan(String...)}.
+ *
+ * Each position of the plan is bound to the setter and the type converter of a field,
+ * so that mapping a record is a loop over an array of values: no intermediate
+ * {@code Map} is created and no setter or converter lookup is done per record.
+ *
+ * A plan is bound to the type converters registered in the object mapper when it was created:
+ * a new plan should be created after registering a custom type converter.
+ *
+ * @param <T> the target object type
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class DefaultMappingPlan<T> implements MappingPlan<T> {
+
+    private final ObjectMapper<T> objectMapper;
+    private final FieldBinding[] fieldBindings;
+
+    DefaultMappingPlan(ObjectMapper<T> objectMapper, FieldBinding[] fieldBindings) {
+        this.objectMapper = objectMapper;
+        this.fieldBindings = fieldBindings;
+    }
+
+    @Override
+    public T mapObject(final String[] values) throws Exception {
+        T result = objectMapper.createInstance();
+        int length = Math.min(values.length, fieldBindings.length);
+        for (int i = 0; i < length; i++) {
+            FieldBinding fieldBinding = fieldBindings[i];
+            if (fieldBinding != null) {
+                objectMapper.mapValue(result, fieldBinding, values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public T mapObject(final CharSequence record, final int[] starts, final int[] ends) throws Exception {
+        T result = objectMapper.createInstance();
+        int length = Math.min(starts.length, fieldBindings.length);
+        for (int i = 0; i < length; i++) {
+            FieldBinding fieldBinding = fieldBindings[i];
+            if (fieldBinding != null && starts[i] >= 0) {
+                objectMapper.mapValue(result, fieldBinding, record, starts[i], ends[i]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import org.jeasy.batch.core.converter.BooleanConverter;
+import org.jeasy.batch.core.converter.CharSequenceConverter;
+import org.jeasy.batch.core.converter.DoubleConverter;
+import org.jeasy.batch.core.converter.IntConverter;
+import org.jeasy.batch.core.converter.LongConverter;
+import org.jeasy.batch.core.converter.TypeConverter;
+import org.jeasy.batch.core.util.Utils;
+
+/**
+ * Binding of a field of the target type to its setter and type converter.
+ *
+ * Primitive fields are converted and set without boxing when their converter
+ * implements a primitive converter interface ({@link IntConverter}, etc).
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+abstract class FieldBinding {
+
+    final String field;
+    final BeanAccessor.Property property;
+
+    private FieldBinding(String field, BeanAccessor.Property property) {
+        this.field = field;
+        this.property = property;
+    }
+
+    /**
+     * Convert the characters of a value between {@code start} (inclusive) and {@code end} (exclusive)
+     * and set the result to the field of the given bean.
+     */
+    abstract void bind(Object bean, CharSequence value, int start, int end) throws Exception;
+
+    static FieldBinding of(String field, BeanAccessor.Property property, TypeConverter<String, ?> typeConverter) {
+        Class<?> type = property.getType();
+        if (type == int.class && typeConverter instanceof IntConverter) {
+            IntConverter converter = (IntConverter) typeConverter;
+            return new FieldBinding(field, property) {
+                @Override
+                void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                    property.setInt(bean, converter.toInt(value, start, end));
+                }
+            };
+        }
+        if (type == long.class && typeConverter instanceof LongConverter) {
+            LongConverter converter = (LongConverter) typeConverter;
+            return new FieldBinding(field, property) {
+                @Override
+                void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                    property.setLong(bean, converter.toLong(value, start, end));
+                }
+            };
+        }
+        if (type == double.class && typeConverter instanceof DoubleConverter) {
+            DoubleConverter converter = (DoubleConverter) typeConverter;
+            return new FieldBinding(field, property) {
+                @Override
+                void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                    property.setDouble(bean, converter.toDouble(value, start, end));
+                }
+            };
+        }
+        if (type == boolean.class && typeConverter instanceof BooleanConverter) {
+            BooleanConverter converter = (BooleanConverter) typeConverter;
+            return new FieldBinding(field, property) {
+                @Override
+                void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                    property.setBoolean(bean, converter.toBoolean(value, start, end));
+                }
+            };
+        }
+        if (typeConverter instanceof CharSequenceConverter) {
+            CharSequenceConverter<?> converter = (CharSequenceConverter<?>) typeConverter;
+            return new FieldBinding(field, property) {
+                @Override
+                void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                    property.set(bean, converter.convert(value, start, end));
+                }
+            };
+        }
+        return new FieldBinding(field, property) {
+            @Override
+            void bind(Object bean, CharSequence value, int start, int end) throws Exception {
+                property.set(bean, typeConverter.convert(Utils.substring(value, start, end)));
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark a Java bean for which mappers should be generated at compile time by the
+ * annotation processor of the {@code easy-batch-processor} module.
+ *
+ * For a bean {@code Foo}, the processor generates in the same package:
+ *
+ * <ul>
+ *     <li>{@code FooMappingPlanFactory}: a {@link MappingPlanFactory} to use with the
+ *     delimited, fixed length and JDBC record mappers</li>
+ *     <li>{@code FooFieldExtractor}: a {@link org.jeasy.batch.core.field.FieldExtractor} to use
+ *     with record marshallers</li>
+ *     <li>{@code FooPreparedStatementProvider}: a {@code PreparedStatementProvider} to use with the
+ *     JDBC record writer (only if the {@code easy-batch-jdbc} module is on the classpath)</li>
+ * </ul>
+ *
+ * Generated classes call getters and setters of the bean directly, without any reflection at runtime.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMappers {
+}
@@ -0,0 +1,73 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import org.jeasy.batch.core.util.Utils;
+
+/**
+ * A positional mapping plan: maps an array of raw values to an instance of the target type,
+ * where each position of the array is bound to a field of the target type.
+ *
+ * Plans are created by a {@link MappingPlanFactory}, typically an {@link ObjectMapper},
+ * or a factory generated at compile time for classes annotated with {@link GenerateMappers}.
+ *
+ * @param <T> the target object type
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface MappingPlan<T> {
+
+    /**
+     * Map values to fields of the target object type.
+     *
+     * @param values fields values, in the same order as field names of the plan.
+     *               Values beyond the number of field names are ignored.
+     * @return A populated instance of the target type.
+     * @throws Exception if values cannot be mapped to target object fields
+     */
+    T mapObject(final String[] values) throws Exception;
+
+    /**
+     * Map ranges of characters of a record to fields of the target object type.
+     *
+     * Value {@code i} is the range {@code [starts[i], ends[i])} of the record. A negative start
+     * means that there is no value at that position. Plans that can convert character ranges
+     * directly override this method to avoid creating an intermediate {@code String} per value.
+     *
+     * @param record holding the values
+     * @param starts start offsets (inclusive) of values, in the same order as field names of the plan
+     * @param ends end offsets (exclusive) of values, in the same order as field names of the plan
+     * @return A populated instance of the target type.
+     * @throws Exception if values cannot be mapped to target object fields
+     */
+    default T mapObject(final CharSequence record, final int[] starts, final int[] ends) throws Exception {
+        String[] values = new String[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] >= 0) {
+                values[i] = Utils.substring(record, starts[i], ends[i]);
+            }
+        }
+        return mapObject(values);
+    }
+
+}
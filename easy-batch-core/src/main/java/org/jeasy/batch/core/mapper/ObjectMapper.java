@@ -23,59 +23,43 @@
  */
 package org.jeasy.batch.core.mapper;
 
-import org.jeasy.batch.core.converter.AtomicIntegerTypeConverter;
-import org.jeasy.batch.core.converter.AtomicLongTypeConverter;
-import org.jeasy.batch.core.converter.BigDecimalTypeConverter;
-import org.jeasy.batch.core.converter.BigIntegerTypeConverter;
-import org.jeasy.batch.core.converter.BooleanTypeConverter;
-import org.jeasy.batch.core.converter.ByteTypeConverter;
-import org.jeasy.batch.core.converter.CharacterTypeConverter;
-import org.jeasy.batch.core.converter.DateTypeConverter;
-import org.jeasy.batch.core.converter.DoubleTypeConverter;
-import org.jeasy.batch.core.converter.FloatTypeConverter;
-import org.jeasy.batch.core.converter.GregorianCalendarTypeConverter;
-import org.jeasy.batch.core.converter.IntegerTypeConverter;
-import org.jeasy.batch.core.converter.LocalDateConverter;
-import org.jeasy.batch.core.converter.LocalDateTimeConverter;
-import org.jeasy.batch.core.converter.LocalTimeConverter;
-import org.jeasy.batch.core.converter.LongTypeConverter;
-import org.jeasy.batch.core.converter.ShortTypeConverter;
-import org.jeasy.batch.core.converter.SqlDateTypeConverter;
-import org.jeasy.batch.core.converter.SqlTimeTypeConverter;
-import org.jeasy.batch.core.converter.SqlTimestampTypeConverter;
-import org.jeasy.batch.core.converter.StringTypeConverter;
 import org.jeasy.batch.core.converter.TypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
 /**
  * A helper class that maps the payload of a record to a domain object instance.
  *
+ * Bean metadata and default type converters are shared by all mappers of the JVM, so creating
+ * a mapper for a type that has already been mapped does not introspect it nor create converters again.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ObjectMapper<T> {
+public class ObjectMapper<T> implements MappingPlanFactory<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ObjectMapper.class.getName());
 
+    // bindings of fields to default type converters, shared by all mappers of a type
+    private static final ClassValue<Map<String, FieldBinding>> DEFAULT_BINDINGS = new ClassValue<Map<String, FieldBinding>>() {
+        @Override
+        protected Map<String, FieldBinding> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private Class<T> objectType;
-    private Map<String, Method> setters;
-    private Map<Class<?>, TypeConverter<String, ?>> typeConverters;
+    private BeanAccessor<T> beanAccessor;
+    private TypeConverterRegistry typeConverters = TypeConverterRegistry.DEFAULT;
+    // bindings of fields resolved so far, local to this mapper once a type converter is registered
+    private Map<String, FieldBinding> bindings;
 
     /**
      * Create a new {@link ObjectMapper}.
@@ -84,8 +68,8 @@ public class ObjectMapper<T> {
      */
     public ObjectMapper(final Class<T> objectType) {
         this.objectType = objectType;
-        initializeTypeConverters();
-        initializeSetters();
+        this.beanAccessor = BeanAccessor.of(objectType);
+        this.bindings = DEFAULT_BINDINGS.get(objectType);
     }
 
     /**
@@ -106,108 +90,94 @@ public class ObjectMapper<T> {
             //get field raw value
             String value = values.get(field);
 
-            Method setter = setters.get(field);
-            if (setter == null) {
-                LOGGER.warn("No public setter found for field {}, this field will be set to null (if object type) or default value (if primitive type)", field);
+            FieldBinding binding = getBinding(field);
+            if (binding == null) {
                 continue;
             }
 
-            Class<?> type = setter.getParameterTypes()[0];
-            TypeConverter<String, ?> typeConverter = typeConverters.get(type);
-            if (typeConverter == null) {
-                LOGGER.warn(
-                        "Type conversion not supported for type {}, field {} will be set to null (if object type) or default value (if primitive type)",
-                        type, field);
-                continue;
-            }
+            mapValue(result, binding, value);
 
-            if (value == null) {
-                LOGGER.warn("Attempting to convert null to type {} for field {}, this field will be set to null (if object type) or default value (if primitive type)", type, field);
-                continue;
-            }
+        }
 
-            if (value.isEmpty()) {
-                LOGGER.debug("Attempting to convert an empty string to type {} for field {}, this field will be ignored", type, field);
-                continue;
+        return result;
+    }
+
+    /**
+     * Create a positional mapping plan for the given field names. Setters and type converters
+     * are resolved once when the plan is created, so that values can be mapped without
+     * building a {@code Map} and looking them up again for each record.
+     *
+     * @param fieldNames the field names, in the same order as values passed to
+     *                   {@link MappingPlan#mapObject(String[])}. A {@code null} name
+     *                   means that the value at that position is not mapped.
+     * @return a mapping plan for the given field names
+     */
+    @Override
+    public MappingPlan<T> createMappingPlan(final String... fieldNames) {
+        FieldBinding[] fieldBindings = new FieldBinding[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i] != null) {
+                fieldBindings[i] = getBinding(fieldNames[i]);
             }
+        }
+        return new DefaultMappingPlan<>(this, fieldBindings);
+    }
 
-            convertValue(result, field, value, setter, type, typeConverter);
+    private FieldBinding getBinding(String field) {
+        FieldBinding binding = bindings.get(field);
+        if (binding != null) {
+            return binding;
+        }
 
+        BeanAccessor.Property property = beanAccessor.getProperty(field);
+        if (property == null || !property.isWritable()) {
+            LOGGER.warn("No public setter found for field {}, this field will be set to null (if object type) or default value (if primitive type)", field);
+            return null;
         }
 
-        return result;
+        Class<?> type = property.getType();
+        TypeConverter<String, ?> typeConverter = typeConverters.get(type);
+        if (typeConverter == null) {
+            LOGGER.warn(
+                    "Type conversion not supported for type {}, field {} will be set to null (if object type) or default value (if primitive type)",
+                    type, field);
+            return null;
+        }
+
+        binding = FieldBinding.of(field, property, typeConverter);
+        bindings.put(field, binding);
+        return binding;
     }
 
-    private void initializeSetters() {
-        setters = new HashMap<>();
-        try {
-            BeanInfo beanInfo = Introspector.getBeanInfo(objectType);
-            PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-            getSetters(propertyDescriptors);
-        } catch (IntrospectionException e) {
-            throw new BeanIntrospectionException("Unable to introspect target type " + objectType.getName(), e);
+    void mapValue(T result, FieldBinding binding, CharSequence value) throws Exception {
+        if (value == null) {
+            LOGGER.warn("Attempting to convert null to type {} for field {}, this field will be set to null (if object type) or default value (if primitive type)", binding.property.getType(), binding.field);
+            return;
         }
+        mapValue(result, binding, value, 0, value.length());
     }
 
-    private void getSetters(PropertyDescriptor[] propertyDescriptors) {
-        for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-            setters.put(propertyDescriptor.getName(), propertyDescriptor.getWriteMethod());
+    void mapValue(T result, FieldBinding binding, CharSequence value, int start, int end) throws Exception {
+        if (start == end) {
+            LOGGER.debug("Attempting to convert an empty string to type {} for field {}, this field will be ignored", binding.property.getType(), binding.field);
+            return;
         }
-        //exclude property "class"
-        setters.remove("class");
-    }
 
-    private T createInstance() throws Exception {
         try {
-            return objectType.newInstance();
+            binding.bind(result, value, start, end);
         } catch (Exception e) {
-            throw new Exception(format("Unable to create a new instance of target type %s", objectType.getName()), e);
+            throw new Exception(format("Unable to convert %s to type %s for field %s", value.subSequence(start, end), binding.property.getType(), binding.field), e);
         }
     }
 
-    private void convertValue(Object result, String field, String value, Method setter, Class<?> type, TypeConverter<String, ?> typeConverter) throws Exception {
+    T createInstance() throws Exception {
         try {
-            Object typedValue = typeConverter.convert(value);
-            setter.invoke(result, typedValue);
+            return beanAccessor.newInstance();
         } catch (Exception e) {
-            throw new Exception(format("Unable to convert %s to type %s for field %s", value, type, field), e);
+            throw new Exception(format("Unable to create a new instance of target type %s", objectType.getName()), e);
         }
     }
 
-    private void initializeTypeConverters() {
-        typeConverters = new HashMap<>();
-        typeConverters.put(AtomicInteger.class, new AtomicIntegerTypeConverter());
-        typeConverters.put(AtomicLong.class, new AtomicLongTypeConverter());
-        typeConverters.put(BigDecimal.class, new BigDecimalTypeConverter());
-        typeConverters.put(BigInteger.class, new BigIntegerTypeConverter());
-        typeConverters.put(Boolean.class, new BooleanTypeConverter());
-        typeConverters.put(Boolean.TYPE, new BooleanTypeConverter());
-        typeConverters.put(Byte.class, new ByteTypeConverter());
-        typeConverters.put(Byte.TYPE, new ByteTypeConverter());
-        typeConverters.put(Character.class, new CharacterTypeConverter());
-        typeConverters.put(Character.TYPE, new CharacterTypeConverter());
-        typeConverters.put(Double.class, new DoubleTypeConverter());
-        typeConverters.put(Double.TYPE, new DoubleTypeConverter());
-        typeConverters.put(Float.class, new FloatTypeConverter());
-        typeConverters.put(Float.TYPE, new FloatTypeConverter());
-        typeConverters.put(Integer.class, new IntegerTypeConverter());
-        typeConverters.put(Integer.TYPE, new IntegerTypeConverter());
-        typeConverters.put(Long.class, new LongTypeConverter());
-        typeConverters.put(Long.TYPE, new LongTypeConverter());
-        typeConverters.put(Short.class, new ShortTypeConverter());
-        typeConverters.put(Short.TYPE, new ShortTypeConverter());
-        typeConverters.put(java.util.Date.class, new DateTypeConverter());
-        typeConverters.put(java.util.Calendar.class, new GregorianCalendarTypeConverter());
-        typeConverters.put(java.util.GregorianCalendar.class, new GregorianCalendarTypeConverter());
-        typeConverters.put(java.sql.Date.class, new SqlDateTypeConverter());
-        typeConverters.put(java.sql.Time.class, new SqlTimeTypeConverter());
-        typeConverters.put(java.sql.Timestamp.class, new SqlTimestampTypeConverter());
-        typeConverters.put(java.time.LocalDate.class, new LocalDateConverter());
-        typeConverters.put(java.time.LocalTime.class, new LocalTimeConverter());
-        typeConverters.put(java.time.LocalDateTime.class, new LocalDateTimeConverter());
-        typeConverters.put(String.class, new StringTypeConverter());
-    }
-
     public void registerTypeConverter(final TypeConverter<String, ?> typeConverter) {
         //retrieve the target class name of the converter
         Class<? extends TypeConverter> typeConverterClass = typeConverter.getClass();
@@ -223,7 +193,8 @@ public class ObjectMapper<T> {
         // register the converter
         try {
             Class clazz = Class.forName(getClassName(type));
-            typeConverters.put(clazz, typeConverter);
+            typeConverters = typeConverters.with(clazz, typeConverter);
+            bindings = new HashMap<>();
         } catch (ClassNotFoundException e) {
             throw new TypeConverterRegistrationException("Unable to register custom type converter " + typeConverterClass.getName(), e);
         }
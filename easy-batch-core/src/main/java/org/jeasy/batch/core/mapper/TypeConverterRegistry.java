@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import org.jeasy.batch.core.converter.AtomicIntegerTypeConverter;
+import org.jeasy.batch.core.converter.AtomicLongTypeConverter;
+import org.jeasy.batch.core.converter.BigDecimalTypeConverter;
+import org.jeasy.batch.core.converter.BigIntegerTypeConverter;
+import org.jeasy.batch.core.converter.BooleanTypeConverter;
+import org.jeasy.batch.core.converter.ByteTypeConverter;
+import org.jeasy.batch.core.converter.CharacterTypeConverter;
+import org.jeasy.batch.core.converter.DateTypeConverter;
+import org.jeasy.batch.core.converter.DoubleTypeConverter;
+import org.jeasy.batch.core.converter.FloatTypeConverter;
+import org.jeasy.batch.core.converter.GregorianCalendarTypeConverter;
+import org.jeasy.batch.core.converter.IntegerTypeConverter;
+import org.jeasy.batch.core.converter.LocalDateConverter;
+import org.jeasy.batch.core.converter.LocalDateTimeConverter;
+import org.jeasy.batch.core.converter.LocalTimeConverter;
+import org.jeasy.batch.core.converter.LongTypeConverter;
+import org.jeasy.batch.core.converter.ShortTypeConverter;
+import org.jeasy.batch.core.converter.SqlDateTypeConverter;
+import org.jeasy.batch.core.converter.SqlTimeTypeConverter;
+import org.jeasy.batch.core.converter.SqlTimestampTypeConverter;
+import org.jeasy.batch.core.converter.StringTypeConverter;
+import org.jeasy.batch.core.converter.TypeConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable registry of type converters.
+ *
+ * Default converters are created once and shared by all object mappers of the JVM
+ * (they are thread-safe). Custom converters are layered on top of the defaults:
+ * registering one creates a new registry holding only the custom converters,
+ * the defaults are never copied.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class TypeConverterRegistry {
+
+    static final TypeConverterRegistry DEFAULT = new TypeConverterRegistry(null, defaultTypeConverters());
+
+    private final TypeConverterRegistry parent;
+    private final Map<Class<?>, TypeConverter<String, ?>> typeConverters;
+
+    private TypeConverterRegistry(TypeConverterRegistry parent, Map<Class<?>, TypeConverter<String, ?>> typeConverters) {
+        this.parent = parent;
+        this.typeConverters = typeConverters;
+    }
+
+    /**
+     * @return the converter registered for the given type, or {@code null} if none
+     */
+    TypeConverter<String, ?> get(Class<?> type) {
+        TypeConverter<String, ?> typeConverter = typeConverters.get(type);
+        if (typeConverter == null && parent != null) {
+            return parent.get(type);
+        }
+        return typeConverter;
+    }
+
+    /**
+     * @return a new registry with the given converter, this registry is left unchanged
+     */
+    TypeConverterRegistry with(Class<?> type, TypeConverter<String, ?> typeConverter) {
+        // only custom converters are copied, the chain never grows beyond the defaults
+        Map<Class<?>, TypeConverter<String, ?>> customTypeConverters = new HashMap<>();
+        TypeConverterRegistry defaults = this;
+        if (parent != null) {
+            customTypeConverters.putAll(typeConverters);
+            defaults = parent;
+        }
+        customTypeConverters.put(type, typeConverter);
+        return new TypeConverterRegistry(defaults, customTypeConverters);
+    }
+
+
+    private static Map<Class<?>, TypeConverter<String, ?>> defaultTypeConverters() {
+        Map<Class<?>, TypeConverter<String, ?>> typeConverters = new HashMap<>();
+        BooleanTypeConverter booleanTypeConverter = new BooleanTypeConverter();
+        ByteTypeConverter byteTypeConverter = new ByteTypeConverter();
+        CharacterTypeConverter characterTypeConverter = new CharacterTypeConverter();
+        DoubleTypeConverter doubleTypeConverter = new DoubleTypeConverter();
+        FloatTypeConverter floatTypeConverter = new FloatTypeConverter();
+        IntegerTypeConverter integerTypeConverter = new IntegerTypeConverter();
+        LongTypeConverter longTypeConverter = new LongTypeConverter();
+        ShortTypeConverter shortTypeConverter = new ShortTypeConverter();
+        GregorianCalendarTypeConverter gregorianCalendarTypeConverter = new GregorianCalendarTypeConverter();
+        typeConverters.put(AtomicInteger.class, new AtomicIntegerTypeConverter());
+        typeConverters.put(AtomicLong.class, new AtomicLongTypeConverter());
+        typeConverters.put(BigDecimal.class, new BigDecimalTypeConverter());
+        typeConverters.put(BigInteger.class, new BigIntegerTypeConverter());
+        typeConverters.put(Boolean.class, booleanTypeConverter);
+        typeConverters.put(Boolean.TYPE, booleanTypeConverter);
+        typeConverters.put(Byte.class, byteTypeConverter);
+        typeConverters.put(Byte.TYPE, byteTypeConverter);
+        typeConverters.put(Character.class, characterTypeConverter);
+        typeConverters.put(Character.TYPE, characterTypeConverter);
+        typeConverters.put(Double.class, doubleTypeConverter);
+        typeConverters.put(Double.TYPE, doubleTypeConverter);
+        typeConverters.put(Float.class, floatTypeConverter);
+        typeConverters.put(Float.TYPE, floatTypeConverter);
+        typeConverters.put(Integer.class, integerTypeConverter);
+        typeConverters.put(Integer.TYPE, integerTypeConverter);
+        typeConverters.put(Long.class, longTypeConverter);
+        typeConverters.put(Long.TYPE, longTypeConverter);
+        typeConverters.put(Short.class, shortTypeConverter);
+        typeConverters.put(Short.TYPE, shortTypeConverter);
+        typeConverters.put(java.util.Date.class, new DateTypeConverter());
+        typeConverters.put(java.util.Calendar.class, gregorianCalendarTypeConverter);
+        typeConverters.put(java.util.GregorianCalendar.class, gregorianCalendarTypeConverter);
+        typeConverters.put(java.sql.Date.class, new SqlDateTypeConverter());
+        typeConverters.put(java.sql.Time.class, new SqlTimeTypeConverter());
+        typeConverters.put(java.sql.Timestamp.class, new SqlTimestampTypeConverter());
+        typeConverters.put(java.time.LocalDate.class, new LocalDateConverter());
+        typeConverters.put(java.time.LocalTime.class, new LocalTimeConverter());
+        typeConverters.put(java.time.LocalDateTime.class, new LocalDateTimeConverter());
+        typeConverters.put(String.class, new StringTypeConverter());
+        return Collections.unmodifiableMap(typeConverters);
+    }
+}
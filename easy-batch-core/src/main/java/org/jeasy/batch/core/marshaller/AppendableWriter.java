@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.marshaller;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import static org.jeasy.batch.core.util.Utils.checkNotNull;
+
+/**
+ * A {@link Writer} appending characters to an {@link Appendable}, for {@link StreamingRecordMarshaller}s
+ * built on libraries that write to a {@link Writer}. Flushing and closing this writer have no effect
+ * on the underlying sink.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class AppendableWriter extends Writer {
+
+    private final Appendable sink;
+
+    /**
+     * Create a new {@link AppendableWriter}.
+     *
+     * @param sink to append characters to
+     */
+    public AppendableWriter(final Appendable sink) {
+        checkNotNull(sink, "sink");
+        this.sink = sink;
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        sink.append(CharBuffer.wrap(buffer, offset, length));
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        sink.append((char) c);
+    }
+
+    @Override
+    public void write(final String string, final int offset, final int length) throws IOException {
+        sink.append(string, offset, offset + length);
+    }
+
+    @Override
+    public Writer append(final CharSequence sequence) throws IOException {
+        sink.append(sequence);
+        return this;
+    }
+
+    @Override
+    public Writer append(final CharSequence sequence, final int start, final int end) throws IOException {
+        sink.append(sequence, start, end);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // no op
+    }
+
+    @Override
+    public void close() {
+        // no op
+    }
+}
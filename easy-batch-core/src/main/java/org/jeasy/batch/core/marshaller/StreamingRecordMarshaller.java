@@ -0,0 +1,53 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.marshaller;
+
+import org.jeasy.batch.core.record.Record;
+
+/**
+ * A record marshaller that can write a marshalled record directly to a character sink.
+ *
+ * Writers that support it (like the {@link org.jeasy.batch.core.writer.NioFileRecordWriter} or the
+ * {@link org.jeasy.batch.core.writer.FileRecordWriter}) can be configured with a streaming marshaller.
+ * Records are then marshalled by the writer when they are written, instead of writing their payload,
+ * so the marshaller should not also be used as a record processor of the job. Marshalled records go
+ * straight to the output of the writer, without creating a {@code String} per record.
+ *
+ * @param <I> the type of record to marshall
+ * @param <O> the type of marshalled record
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface StreamingRecordMarshaller<I extends Record, O extends Record> extends RecordMarshaller<I, O> {
+
+    /**
+     * Marshal a record to the given sink, without line separator.
+     * Implementations must neither flush nor close the sink.
+     *
+     * @param record the record to marshal.
+     * @param sink to append the marshalled record to
+     * @throws Exception if an error occurs during record marshalling
+     */
+    void marshal(I record, Appendable sink) throws Exception;
+
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.record;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A record having raw bytes as payload, for jobs that move data without inspecting it.
+ *
+ * The bytes of the record are those between the position and the limit of the payload buffer.
+ * Components reading the payload should not modify the state of the buffer: they should use
+ * absolute gets or a {@link ByteBuffer#duplicate()}. The buffer may be a view over a buffer
+ * shared with other records, in which case records that are retained beyond the processing
+ * of their batch should be replaced by {@link #copy()}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ByteRecord extends GenericRecord<ByteBuffer> {
+
+    /**
+     * Create a new {@link ByteRecord}.
+     *
+     * @param header  the record header
+     * @param payload the record payload
+     */
+    public ByteRecord(final Header header, final ByteBuffer payload) {
+        super(header, payload);
+    }
+
+    /**
+     * Create a new {@link ByteRecord}.
+     *
+     * @param header  the record header
+     * @param payload the record payload
+     */
+    public ByteRecord(final Header header, final byte[] payload) {
+        this(header, ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Return the bytes of the record in a new array.
+     *
+     * @return a copy of the bytes of the record
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Copy this record to a {@link ByteRecord} that does not reference a shared buffer.
+     *
+     * @return a copy of this record
+     */
+    public ByteRecord copy() {
+        return new ByteRecord(header, toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return "Record: {" +
+                "header=[" + header +
+                "], payload=[" + payload.remaining() + " bytes" +
+                "]}";
+    }
+}
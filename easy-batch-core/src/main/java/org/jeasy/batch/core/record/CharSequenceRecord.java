@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.record;
+
+import static org.jeasy.batch.core.util.Utils.checkArgument;
+import static org.jeasy.batch.core.util.Utils.checkNotNull;
+
+/**
+ * A {@link StringRecord} whose payload is a view over a range of a character buffer
+ * shared with other records, typically the read buffer of a record reader.
+ *
+ * {@link #getCharSequence()} returns the view without copying characters, so that filters
+ * and mappers working on {@link CharSequence}s do not create a {@code String} per record.
+ * {@link #getPayload()} copies the characters on first access.
+ *
+ * A record keeps the whole shared buffer reachable: records that are retained beyond the
+ * processing of their batch (in a collector for example) should be replaced by {@link #copy()}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class CharSequenceRecord extends StringRecord {
+
+    private final CharSlice slice;
+
+    /**
+     * Create a new {@link CharSequenceRecord}.
+     *
+     * @param header the record header
+     * @param buffer holding the characters of the record
+     * @param offset of the first character of the record in the buffer
+     * @param length number of characters of the record
+     */
+    public CharSequenceRecord(final Header header, final char[] buffer, final int offset, final int length) {
+        super(header, null);
+        checkNotNull(buffer, "buffer");
+        checkArgument(offset >= 0 && length >= 0 && offset + length <= buffer.length,
+                "offset and length must be within the bounds of the buffer");
+        this.slice = new CharSlice(buffer, offset, length);
+    }
+
+    /**
+     * Return a view over the characters of the record, without copying them.
+     *
+     * @return a view over the characters of the record
+     */
+    @Override
+    public CharSequence getCharSequence() {
+        return slice;
+    }
+
+    /**
+     * Return the payload of the record, copied from the shared buffer on first access.
+     *
+     * @return the payload of the record
+     */
+    @Override
+    public String getPayload() {
+        if (payload == null) {
+            payload = slice.toString();
+        }
+        return payload;
+    }
+
+    /**
+     * Copy this record to a {@link StringRecord} that does not reference the shared buffer.
+     *
+     * @return a copy of this record
+     */
+    public StringRecord copy() {
+        return new StringRecord(header, getPayload());
+    }
+
+    @Override
+    public String toString() {
+        getPayload();
+        return super.toString();
+    }
+}
@@ -40,4 +40,15 @@ public class StringRecord extends GenericRecord<String> {
         super(header, payload);
     }
 
+    /**
+     * Return the payload of the record as a {@link CharSequence}. Sub classes may return
+     * a view over a shared buffer instead of a copy, so components that only inspect the
+     * payload should prefer this method over {@link #getPayload()}.
+     *
+     * @return the payload of the record as a character sequence
+     */
+    public CharSequence getCharSequence() {
+        return getPayload();
+    }
+
 }
@@ -0,0 +1,296 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.trace;
+
+import org.jeasy.batch.core.job.JobParameters;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.listener.BatchListener;
+import org.jeasy.batch.core.listener.JobListener;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Listener that records a timeline of job executions and exports it in the
+ * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome trace event format</a>.
+ *
+ * For each thread running a job, the timeline contains a span for the job, a span for the reading
+ * and processing of each batch and a span for the writing of each batch. Gaps between spans
+ * show idle workers and pipeline stalls. The trace file can be opened in {@code chrome://tracing}
+ * or in <a href="https://ui.perfetto.dev">Perfetto</a>.
+ *
+ * The same listener instance can be registered in multiple jobs (for example partitions of a job
+ * executed in parallel by a {@link org.jeasy.batch.core.job.JobExecutor}) to get a single timeline.
+ * Spans are kept in memory until the trace file is written by {@link #export()} (or {@link #close()}),
+ * which should be called once all jobs have ended. Jobs that are still running when the trace is
+ * exported only appear with the batches they have completed so far.
+ *
+ * To keep tracing cheap, batches can be sampled: only a fraction of batches
+ * (defined by the sampling rate) is recorded. Job spans are always recorded.
+ *
+ * This listener is thread-safe.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ChromeTraceListener implements JobListener, BatchListener, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChromeTraceListener.class.getName());
+
+    private static final String JOB_CATEGORY = "job";
+    private static final String BATCH_CATEGORY = "batch";
+    private static final String READ_PROCESS_SPAN = "read/process";
+    private static final String WRITE_SPAN = "write";
+
+    private final Path path;
+    private final double samplingRate;
+    private final long origin;
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    /**
+     * Create a new {@link ChromeTraceListener} that records all batches.
+     *
+     * @param path of the trace file
+     */
+    public ChromeTraceListener(final Path path) {
+        this(path, 1.0);
+    }
+
+    /**
+     * Create a new {@link ChromeTraceListener}.
+     *
+     * @param path of the trace file
+     * @param samplingRate fraction of batches to record, between 0 (only job spans) and 1 (all batches)
+     */
+    public ChromeTraceListener(final Path path, final double samplingRate) {
+        Utils.checkNotNull(path, "trace file path");
+        Utils.checkArgument(samplingRate >= 0 && samplingRate <= 1, "sampling rate must be between 0 and 1");
+        this.path = path;
+        this.samplingRate = samplingRate;
+        this.origin = System.nanoTime();
+    }
+
+    @Override
+    public void beforeJobStart(final JobParameters jobParameters) {
+        Thread thread = Thread.currentThread();
+        threadNames.put(thread.getId(), thread.getName());
+        ThreadState state = threadState.get();
+        state.jobStartTime = now();
+        state.batchNumber = 0;
+    }
+
+    @Override
+    public void afterJobEnd(final JobReport jobReport) {
+        ThreadState state = threadState.get();
+        long endTime = now();
+        Span span = new Span(jobReport.getJobName(), JOB_CATEGORY, state.jobStartTime, endTime - state.jobStartTime);
+        span.status = String.valueOf(jobReport.getStatus());
+        span.recordCount = jobReport.getMetrics().getReadCount();
+        spans.add(span);
+        threadState.remove();
+    }
+
+    @Override
+    public void beforeBatchReading() {
+        ThreadState state = threadState.get();
+        state.batchNumber++;
+        state.writeStartTime = -1;
+        state.sampled = samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+        if (state.sampled) {
+            state.batchStartTime = now();
+        }
+    }
+
+    @Override
+    public void afterBatchProcessing(final Batch batch) {
+        ThreadState state = threadState.get();
+        if (state.sampled) {
+            long endTime = now();
+            Span span = new Span(READ_PROCESS_SPAN, BATCH_CATEGORY, state.batchStartTime, endTime - state.batchStartTime);
+            span.batchNumber = state.batchNumber;
+            span.recordCount = batch.size();
+            spans.add(span);
+            state.writeStartTime = endTime;
+        }
+    }
+
+    @Override
+    public void afterBatchWriting(final Batch batch) {
+        addWriteSpan(batch, "COMPLETED");
+    }
+
+    @Override
+    public void onBatchWritingException(final Batch batch, final Throwable throwable) {
+        addWriteSpan(batch, "FAILED");
+    }
+
+    private void addWriteSpan(final Batch batch, final String status) {
+        ThreadState state = threadState.get();
+        if (state.sampled && state.writeStartTime >= 0) {
+            Span span = new Span(WRITE_SPAN, BATCH_CATEGORY, state.writeStartTime, now() - state.writeStartTime);
+            span.batchNumber = state.batchNumber;
+            span.recordCount = batch.size();
+            span.status = status;
+            spans.add(span);
+            state.writeStartTime = -1;
+        }
+    }
+
+    /**
+     * Write spans recorded so far to the trace file, replacing its previous content.
+     *
+     * @throws IOException if the trace file cannot be written
+     */
+    public synchronized void export() throws IOException {
+        LOGGER.debug("Writing execution trace to {}", path.toAbsolutePath());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[");
+            boolean first = true;
+            for (Map.Entry<Long, String> threadName : threadNames.entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                writer.write(Utils.LINE_SEPARATOR);
+                writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + threadName.getKey()
+                        + ",\"args\":{\"name\":" + quote(threadName.getValue()) + "}}");
+                first = false;
+            }
+            for (Span span : spans) {
+                if (!first) {
+                    writer.write(',');
+                }
+                writer.write(Utils.LINE_SEPARATOR);
+                writer.write(span.toJson());
+                first = false;
+            }
+            writer.write(Utils.LINE_SEPARATOR);
+            writer.write("],\"displayTimeUnit\":\"ms\"}");
+            writer.write(Utils.LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Write recorded spans to the trace file, see {@link #export()}.
+     *
+     * @throws IOException if the trace file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        export();
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static class ThreadState {
+        private long jobStartTime;
+        private long batchNumber;
+        private long batchStartTime;
+        private long writeStartTime = -1;
+        private boolean sampled;
+    }
+
+    private static class Span {
+        private final String name;
+        private final String category;
+        private final long startTime;
+        private final long duration;
+        private final long threadId;
+        private long batchNumber = -1;
+        private long recordCount = -1;
+        private String status;
+
+        private Span(String name, String category, long startTime, long duration) {
+            this.name = name;
+            this.category = category;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.threadId = Thread.currentThread().getId();
+        }
+
+        private String toJson() {
+            // timestamps and durations are expressed in microseconds in the trace event format
+            StringBuilder sb = new StringBuilder();
+            sb.append("{\"name\":").append(quote(name))
+                    .append(",\"cat\":").append(quote(category))
+                    .append(",\"ph\":\"X\",\"pid\":1,\"tid\":").append(threadId)
+                    .append(",\"ts\":").append(startTime / 1000).append('.').append(String.format("%03d", startTime % 1000))
+                    .append(",\"dur\":").append(duration / 1000).append('.').append(String.format("%03d", duration % 1000))
+                    .append(",\"args\":{");
+            boolean first = true;
+            if (batchNumber >= 0) {
+                sb.append("\"batch\":").append(batchNumber);
+                first = false;
+            }
+            if (recordCount >= 0) {
+                sb.append(first ? "" : ",").append("\"records\":").append(recordCount);
+                first = false;
+            }
+            if (status != null) {
+                sb.append(first ? "" : ",").append("\"status\":").append(quote(status));
+            }
+            return sb.append("}}").toString();
+        }
+    }
+
+}
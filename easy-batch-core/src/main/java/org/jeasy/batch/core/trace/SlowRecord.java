@@ -0,0 +1,103 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.trace;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A record that took a long time to be processed, as captured by a {@link SlowRecordDetector}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class SlowRecord implements Serializable {
+
+    private final Long number;
+    private final String source;
+    private final String payload;
+    private final String stage;
+    private final long duration;
+
+    /**
+     * Create a new {@link SlowRecord}.
+     *
+     * @param number of the record in the data source
+     * @param source of the record
+     * @param payload of the record (may be truncated)
+     * @param stage in which the record spent most of its processing time
+     * @param duration of the record processing in nanoseconds
+     */
+    public SlowRecord(Long number, String source, String payload, String stage, long duration) {
+        this.number = number;
+        this.source = source;
+        this.payload = payload;
+        this.stage = stage;
+        this.duration = duration;
+    }
+
+    /**
+     * @return the physical record number in the data source (if defined).
+     */
+    public Long getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the data source name from which this record has been read.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return the record payload, truncated to the maximum length configured in the detector.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return the stage in which the record spent most of its processing time.
+     */
+    public String getStage() {
+        return stage;
+    }
+
+    /**
+     * @return the processing duration in nanoseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "{number=" + number +
+                ", source=\"" + source + '\"' +
+                ", stage=\"" + stage + '\"' +
+                ", duration=" + TimeUnit.NANOSECONDS.toMillis(duration) + "ms" +
+                ", payload=\"" + payload + '\"' +
+                '}';
+    }
+}
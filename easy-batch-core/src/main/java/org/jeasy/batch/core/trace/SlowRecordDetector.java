@@ -0,0 +1,286 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.trace;
+
+import org.jeasy.batch.core.job.JobParameters;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.listener.JobListener;
+import org.jeasy.batch.core.listener.PipelineListener;
+import org.jeasy.batch.core.processor.RecordProcessor;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.core.util.Utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Listener that times each record through the processing pipeline and keeps the slowest ones.
+ *
+ * Only the N slowest records are kept in memory (N being the capacity of the detector), with their header
+ * number, source, a truncated payload and the stage in which they spent most of their processing time.
+ * By default, the stage is the whole processing pipeline. To find out which processor is slow, processors
+ * can be registered as named stages with {@link #stage(String, RecordProcessor)}:
+ *
+ * <pre>
+ * SlowRecordDetector detector = new SlowRecordDetector();
+ * Job job = new JobBuilder()
+ *         .reader(reader)
+ *         .processor(detector.stage("mapper", mapper))
+ *         .processor(detector.stage("validator", validator))
+ *         .writer(writer)
+ *         .pipelineListener(detector)
+ *         .jobListener(detector)
+ *         .build();
+ * </pre>
+ *
+ * When registered as a job listener, the detector attaches the slowest records of the job to its report as a
+ * custom metric named {@link #SLOWEST_RECORDS}.
+ *
+ * This listener is thread-safe and can be shared by multiple jobs running in parallel. In this case, each
+ * job report gets the slowest records of its own job, which can also be retrieved by job name with
+ * {@link #getSlowestRecords(String)}, while {@link #getSlowestRecords()} returns the slowest records of all jobs.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class SlowRecordDetector implements PipelineListener, JobListener {
+
+    /**
+     * Name of the custom metric holding the slowest records in the job report.
+     */
+    public static final String SLOWEST_RECORDS = "Slowest records";
+
+    /**
+     * Default number of slowest records to keep.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Default maximum length of captured payloads.
+     */
+    public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 100;
+
+    private static final String PIPELINE_STAGE = "pipeline";
+
+    private final int capacity;
+    private final int maxPayloadLength;
+    private final SlowestRecords slowestRecords;
+    private final Map<String, List<SlowRecord>> slowestRecordsByJob = new ConcurrentHashMap<>();
+    private final ThreadLocal<RecordTiming> timing = ThreadLocal.withInitial(RecordTiming::new);
+
+    /*
+     * A job calls its listeners from the thread running it, so the slowest records of the running job
+     * are kept per thread, from the start to the end of the job.
+     */
+    private final ThreadLocal<SlowestRecords> jobSlowestRecords = new ThreadLocal<>();
+
+    /**
+     * Create a new {@link SlowRecordDetector} with default capacity and maximum payload length.
+     */
+    public SlowRecordDetector() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_PAYLOAD_LENGTH);
+    }
+
+    /**
+     * Create a new {@link SlowRecordDetector}.
+     *
+     * @param capacity number of slowest records to keep
+     * @param maxPayloadLength maximum length of captured payloads
+     */
+    public SlowRecordDetector(final int capacity, final int maxPayloadLength) {
+        Utils.checkArgument(capacity >= 1, "capacity must be >= 1");
+        Utils.checkArgument(maxPayloadLength >= 0, "maximum payload length must be >= 0");
+        this.capacity = capacity;
+        this.maxPayloadLength = maxPayloadLength;
+        this.slowestRecords = new SlowestRecords(capacity);
+    }
+
+    /**
+     * Decorate a record processor so that its processing time is attributed to the given stage.
+     *
+     * @param name of the stage
+     * @param recordProcessor to decorate
+     * @param <I> type of input records
+     * @param <O> type of output records
+     * @return the decorated record processor
+     */
+    public <I extends Record, O extends Record> RecordProcessor<I, O> stage(final String name, final RecordProcessor<I, O> recordProcessor) {
+        Utils.checkNotNull(name, "stage name");
+        Utils.checkNotNull(recordProcessor, "record processor");
+        return record -> {
+            long startTime = System.nanoTime();
+            try {
+                return recordProcessor.processRecord(record);
+            } finally {
+                timing.get().stageProcessed(name, System.nanoTime() - startTime);
+            }
+        };
+    }
+
+    /**
+     * Get the slowest records of all jobs, from the slowest to the fastest.
+     *
+     * @return the slowest records
+     */
+    public List<SlowRecord> getSlowestRecords() {
+        return slowestRecords.toList();
+    }
+
+    /**
+     * Get the slowest records of a finished job, from the slowest to the fastest.
+     *
+     * @param jobName name of the job
+     * @return the slowest records of the job, or an empty list if no job with this name has ended
+     */
+    public List<SlowRecord> getSlowestRecords(final String jobName) {
+        return slowestRecordsByJob.getOrDefault(jobName, Collections.emptyList());
+    }
+
+    @Override
+    public Record beforeRecordProcessing(final Record record) {
+        timing.get().start();
+        return record;
+    }
+
+    @Override
+    public void afterRecordProcessing(final Record inputRecord, final Record outputRecord) {
+        recordProcessed(inputRecord);
+    }
+
+    @Override
+    public void onRecordProcessingException(final Record record, final Throwable throwable) {
+        recordProcessed(record);
+    }
+
+    @Override
+    public void beforeJobStart(final JobParameters jobParameters) {
+        jobSlowestRecords.set(new SlowestRecords(capacity));
+    }
+
+    @Override
+    public void afterJobEnd(final JobReport jobReport) {
+        SlowestRecords records = jobSlowestRecords.get();
+        jobSlowestRecords.remove();
+        List<SlowRecord> jobRecords = records != null ? records.toList() : Collections.emptyList();
+        slowestRecordsByJob.put(jobReport.getJobName(), jobRecords);
+        jobReport.getMetrics().addMetric(SLOWEST_RECORDS, jobRecords);
+    }
+
+    private void recordProcessed(final Record record) {
+        RecordTiming recordTiming = timing.get();
+        long duration = System.nanoTime() - recordTiming.startTime;
+        SlowestRecords jobRecords = jobSlowestRecords.get();
+        boolean slowForJob = jobRecords != null && jobRecords.accepts(duration);
+        if (record == null || !(slowestRecords.accepts(duration) || slowForJob)) {
+            return;
+        }
+        SlowRecord slowRecord = toSlowRecord(record, recordTiming, duration);
+        slowestRecords.add(slowRecord);
+        if (slowForJob) {
+            jobRecords.add(slowRecord);
+        }
+    }
+
+    private SlowRecord toSlowRecord(final Record record, final RecordTiming recordTiming, final long duration) {
+        Header header = record.getHeader();
+        Long number = header != null ? header.getNumber() : null;
+        String source = header != null ? header.getSource() : null;
+        String stage = recordTiming.slowestStage != null ? recordTiming.slowestStage : PIPELINE_STAGE;
+        return new SlowRecord(number, source, truncate(String.valueOf(record.getPayload())), stage, duration);
+    }
+
+    private String truncate(final String payload) {
+        if (payload.length() <= maxPayloadLength) {
+            return payload;
+        }
+        return payload.substring(0, maxPayloadLength) + "...";
+    }
+
+    private static class SlowestRecords {
+        private final int capacity;
+        private final PriorityQueue<SlowRecord> records;
+
+        /*
+         * Duration under which a record can not enter the slowest records once they are full.
+         */
+        private volatile long threshold = -1;
+
+        private SlowestRecords(final int capacity) {
+            this.capacity = capacity;
+            this.records = new PriorityQueue<>(capacity, Comparator.comparingLong(SlowRecord::getDuration));
+        }
+
+        private boolean accepts(final long duration) {
+            return duration > threshold;
+        }
+
+        private void add(final SlowRecord slowRecord) {
+            synchronized (records) {
+                if (records.size() < capacity) {
+                    records.add(slowRecord);
+                } else if (slowRecord.getDuration() > records.peek().getDuration()) {
+                    records.poll();
+                    records.add(slowRecord);
+                }
+                if (records.size() == capacity) {
+                    threshold = records.peek().getDuration();
+                }
+            }
+        }
+
+        private List<SlowRecord> toList() {
+            List<SlowRecord> list;
+            synchronized (records) {
+                list = new ArrayList<>(records);
+            }
+            list.sort(Comparator.comparingLong(SlowRecord::getDuration).reversed());
+            return Collections.unmodifiableList(list);
+        }
+    }
+
+    private static class RecordTiming {
+        private long startTime;
+        private String slowestStage;
+        private long slowestStageDuration;
+
+        private void start() {
+            startTime = System.nanoTime();
+            slowestStage = null;
+            slowestStageDuration = -1;
+        }
+
+        private void stageProcessed(final String stage, final long duration) {
+            if (duration > slowestStageDuration) {
+                slowestStage = stage;
+                slowestStageDuration = duration;
+            }
+        }
+    }
+
+}
@@ -24,6 +24,7 @@
 package org.jeasy.batch.core.util;
 
 import org.jeasy.batch.core.job.JobParameters;
+import org.jeasy.batch.core.record.CharSlice;
 import org.jeasy.batch.core.record.Record;
 
 import java.beans.BeanInfo;
@@ -31,6 +32,7 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -78,6 +80,133 @@ public abstract class Utils {
         }
     }
 
+    /**
+     * Check if a character sequence starts with the given prefix, without copying it to a {@code String}.
+     *
+     * @param sequence to check
+     * @param prefix to look for
+     * @return true if the sequence starts with the prefix
+     */
+    public static boolean startsWith(final CharSequence sequence, final String prefix) {
+        if (sequence instanceof String) {
+            return ((String) sequence).startsWith(prefix);
+        }
+        return regionMatches(sequence, 0, prefix);
+    }
+
+    /**
+     * Check if a character sequence ends with the given suffix, without copying it to a {@code String}.
+     *
+     * @param sequence to check
+     * @param suffix to look for
+     * @return true if the sequence ends with the suffix
+     */
+    public static boolean endsWith(final CharSequence sequence, final String suffix) {
+        if (sequence instanceof String) {
+            return ((String) sequence).endsWith(suffix);
+        }
+        return regionMatches(sequence, sequence.length() - suffix.length(), suffix);
+    }
+
+    /**
+     * Check if a character sequence contains the given pattern, without copying it to a {@code String}.
+     *
+     * @param sequence to check
+     * @param pattern to look for
+     * @return true if the sequence contains the pattern
+     */
+    public static boolean contains(final CharSequence sequence, final String pattern) {
+        if (sequence instanceof String) {
+            return ((String) sequence).contains(pattern);
+        }
+        if (pattern.isEmpty()) {
+            return true;
+        }
+        char first = pattern.charAt(0);
+        int last = sequence.length() - pattern.length();
+        for (int i = 0; i <= last; i++) {
+            if (sequence.charAt(i) == first && regionMatches(sequence, i, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy a range of a character sequence to a {@code String}, without creating an intermediate
+     * sub sequence for {@code String}s and {@link CharSlice}s.
+     *
+     * @param sequence to copy characters from
+     * @param start index of the first character (inclusive)
+     * @param end index of the last character (exclusive)
+     * @return the characters of the range
+     */
+    public static String substring(final CharSequence sequence, final int start, final int end) {
+        if (sequence instanceof String) {
+            return ((String) sequence).substring(start, end);
+        }
+        if (sequence instanceof CharSlice) {
+            return ((CharSlice) sequence).substring(start, end);
+        }
+        return sequence.subSequence(start, end).toString();
+    }
+
+    /**
+     * Check if the remaining bytes of a buffer start with the given prefix, without changing the position of the buffer.
+     *
+     * @param buffer to check
+     * @param prefix to look for
+     * @return true if the remaining bytes start with the prefix
+     */
+    public static boolean startsWith(final ByteBuffer buffer, final byte[] prefix) {
+        return regionMatches(buffer, buffer.position(), prefix);
+    }
+
+    /**
+     * Check if the remaining bytes of a buffer contain the given pattern, without changing the position of the buffer.
+     *
+     * @param buffer to check
+     * @param pattern to look for
+     * @return true if the remaining bytes contain the pattern
+     */
+    public static boolean contains(final ByteBuffer buffer, final byte[] pattern) {
+        if (pattern.length == 0) {
+            return true;
+        }
+        byte first = pattern[0];
+        int last = buffer.limit() - pattern.length;
+        for (int i = buffer.position(); i <= last; i++) {
+            if (buffer.get(i) == first && regionMatches(buffer, i, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final ByteBuffer buffer, final int offset, final byte[] bytes) {
+        if (offset + bytes.length > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(final CharSequence sequence, final int offset, final String string) {
+        if (offset < 0 || offset + string.length() > sequence.length()) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (sequence.charAt(offset + i) != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static Map<String, Method> getGetters(final Class type) throws IntrospectionException {
         Map<String, Method> getters = new HashMap<>();
         BeanInfo beanInfo = Introspector.getBeanInfo(type);
@@ -0,0 +1,309 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.job.JobParameters;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.job.JobStatus;
+import org.jeasy.batch.core.listener.JobListener;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.core.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * A {@link NioFileRecordWriter} that makes its output file appear atomically, once the job has completed.
+ *
+ * Records are written to a staged file in the same directory as the output file ({@code out.csv.tmp}
+ * for {@code out.csv}). Every N batches (see {@link #setCheckpointInterval(int)}), the staged file
+ * is forced to the storage device and its length is saved in a journal, with the number of the last
+ * written record. When the job completes, the staged file is moved to the output file in a single
+ * atomic rename, so consumers never see a truncated output file.
+ *
+ * If the job fails or the JVM crashes, the staged file and the journal are kept. When the job is
+ * run again, the staged file is truncated back to the last checkpoint and records that were already
+ * written (whose number is lower than or equal to the number saved in the journal) are skipped,
+ * so that writing resumes after the last checkpoint instead of starting over. This requires the
+ * reader to read the same records, in the same order, with the same record numbers.
+ *
+ * This writer must also be registered as a {@link JobListener} of the job, in order to commit its output
+ * when the job completes. The journal is a properties file which can be shared with other components
+ * (like a listener recording the job status): properties of this writer are prefixed with {@code output.}.
+ * Appending to the output file and rolling output files are not supported.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class AtomicFileRecordWriter extends NioFileRecordWriter implements JobListener {
+
+    /**
+     * Journal property of the length of the staged file at the last checkpoint.
+     */
+    public static final String COMMITTED_LENGTH_KEY = "output.committed.length";
+
+    /**
+     * Journal property of the number of the last record written before the last checkpoint.
+     */
+    public static final String COMMITTED_RECORD_KEY = "output.committed.record";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AtomicFileRecordWriter.class);
+
+    private final Path path;
+    private final Path stagedPath;
+    private final Path journal;
+    private int checkpointInterval = 1;
+    private int batchesSinceCheckpoint;
+    private long committedLength;
+    private long committedRecordNumber;
+    private long lastRecordNumber;
+
+    /**
+     * Create a new {@link AtomicFileRecordWriter} with a journal next to the output file
+     * ({@code out.csv.journal} for {@code out.csv}).
+     *
+     * @param path the output file.
+     */
+    public AtomicFileRecordWriter(final Path path) {
+        this(path, path.resolveSibling(path.getFileName() + ".journal"));
+    }
+
+    /**
+     * Create a new {@link AtomicFileRecordWriter}.
+     *
+     * @param path the output file.
+     * @param journal the properties file in which checkpoints are saved.
+     */
+    public AtomicFileRecordWriter(final Path path, final Path journal) {
+        super(path);
+        Utils.checkNotNull(journal, "journal");
+        this.path = path;
+        this.stagedPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.journal = journal;
+    }
+
+    /**
+     * Set the number of batches between two checkpoints. Defaults to 1.
+     * @param checkpointInterval number of batches between two checkpoints
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        Utils.checkArgument(checkpointInterval > 0, "The checkpoint interval must be greater than zero");
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public void setAppend(boolean append) {
+        throw new UnsupportedOperationException("Appending to an atomically written file is not supported");
+    }
+
+    @Override
+    public void setMaxFileSize(long maxFileSize) {
+        throw new UnsupportedOperationException("Rolling atomically written files is not supported");
+    }
+
+    @Override
+    public void setMaxRecordsPerFile(long maxRecordsPerFile) {
+        throw new UnsupportedOperationException("Rolling atomically written files is not supported");
+    }
+
+    /**
+     * Return the staged file, which is moved to the output file when the job completes.
+     * @return the staged file
+     */
+    @Override
+    public Path getCurrentPath() {
+        return stagedPath;
+    }
+
+    /**
+     * Return the number of the last record written before the last checkpoint of a previous run,
+     * or 0 if the previous run has completed. Records up to this number are skipped.
+     * @return the number of the last committed record
+     */
+    public long getCommittedRecordNumber() {
+        return committedRecordNumber;
+    }
+
+    @Override
+    public void open() throws Exception {
+        Properties properties = readJournal();
+        committedLength = Long.parseLong(properties.getProperty(COMMITTED_LENGTH_KEY, "0"));
+        committedRecordNumber = Long.parseLong(properties.getProperty(COMMITTED_RECORD_KEY, "0"));
+        lastRecordNumber = committedRecordNumber;
+        batchesSinceCheckpoint = 0;
+        if (committedLength > 0) {
+            long stagedLength = Files.exists(stagedPath) ? Files.size(stagedPath) : -1;
+            if (stagedLength < committedLength) {
+                throw new IOException("Unable to resume writing to " + stagedPath + ": its length (" + stagedLength
+                        + " bytes) is less than the committed length of " + committedLength + " bytes");
+            }
+            LOGGER.info("Resuming writing to {} after record {}", stagedPath, committedRecordNumber);
+        }
+        super.open();
+    }
+
+    // the staged file is truncated to the committed length, which is 0 for a new run
+    @Override
+    protected FileChannel openChannel(final Path file) throws IOException {
+        FileChannel channel = FileChannel.open(stagedPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(committedLength);
+        channel.position(committedLength);
+        return channel;
+    }
+
+    @Override
+    public void writeRecords(Batch batch) throws Exception {
+        Batch pending = new Batch();
+        for (Record record : batch) {
+            // records written before the last checkpoint of a previous run
+            if (record.getHeader().getNumber() > committedRecordNumber) {
+                pending.addRecord(record);
+                lastRecordNumber = record.getHeader().getNumber();
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        super.writeRecords(pending);
+        if (++batchesSinceCheckpoint >= checkpointInterval) {
+            checkpoint();
+        }
+    }
+
+    private void checkpoint() throws IOException {
+        long length = sync();
+        Properties properties = readJournal();
+        properties.setProperty(COMMITTED_LENGTH_KEY, String.valueOf(length));
+        properties.setProperty(COMMITTED_RECORD_KEY, String.valueOf(lastRecordNumber));
+        writeJournal(properties);
+        batchesSinceCheckpoint = 0;
+    }
+
+    @Override
+    public void beforeJobStart(JobParameters jobParameters) {
+        // no op
+    }
+
+    /**
+     * Move the staged file to the output file if the job has completed. Otherwise, the staged
+     * file and the journal are kept to resume writing on the next run. If the staged file cannot
+     * be moved, the status of the job is set to {@link JobStatus#FAILED}.
+     *
+     * @param jobReport The job execution report
+     */
+    @Override
+    public void afterJobEnd(JobReport jobReport) {
+        if (jobReport.getStatus() != JobStatus.COMPLETED) {
+            LOGGER.info("Job has not completed, {} is kept to resume writing on the next run", stagedPath);
+            return;
+        }
+        try {
+            commit();
+        } catch (IOException e) {
+            LOGGER.error("Unable to move {} to {}", stagedPath, path, e);
+            jobReport.setStatus(JobStatus.FAILED);
+            jobReport.setLastError(e);
+        }
+    }
+
+    /*
+     * The checkpoint is cleared before the staged file is moved: a crash in between leaves a complete
+     * staged file without checkpoint, which is rewritten from scratch on the next run. Clearing it after
+     * the move would leave a checkpoint pointing to a staged file that does not exist anymore.
+     */
+    private void commit() throws IOException {
+        // data written after the last checkpoint may not have been forced yet
+        try (FileChannel channel = FileChannel.open(stagedPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Properties properties = readJournal();
+        properties.remove(COMMITTED_LENGTH_KEY);
+        properties.remove(COMMITTED_RECORD_KEY);
+        if (properties.isEmpty()) {
+            Files.deleteIfExists(journal);
+            syncDirectory(journal);
+        } else {
+            writeJournal(properties);
+        }
+        committedLength = 0;
+        committedRecordNumber = 0;
+        move(stagedPath, path);
+        syncDirectory(path);
+    }
+
+    private Properties readJournal() throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(journal)) {
+            try (InputStream inputStream = Files.newInputStream(journal)) {
+                properties.load(inputStream);
+            }
+        }
+        return properties;
+    }
+
+    // the journal is replaced atomically, so that a crash leaves either the previous or the new checkpoint
+    private void writeJournal(final Properties properties) throws IOException {
+        Path stagedJournal = journal.resolveSibling(journal.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(stagedJournal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            properties.store(outputStream, "checkpoint of " + path);
+            outputStream.flush();
+            channel.force(true);
+        }
+        move(stagedJournal, journal);
+        syncDirectory(journal);
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // a rename is only durable once the directory holding the file is forced to the storage device
+    private static void syncDirectory(final Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms (like Windows)
+            LOGGER.debug("Unable to force directory {}", directory, e);
+        }
+    }
+
+}
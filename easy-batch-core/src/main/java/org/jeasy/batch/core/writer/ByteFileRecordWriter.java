@@ -0,0 +1,65 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.record.ByteRecord;
+
+import java.nio.file.Path;
+
+/**
+ * A {@link NioFileRecordWriter} for {@link ByteRecord}s, with a smaller write buffer.
+ *
+ * Bytes of records are written unchanged, without any charset decoding or encoding, so that
+ * pass-through jobs (like copying a file with filtering) do not transcode their data. The line
+ * separator can be set as raw bytes with {@link #setLineSeparator(byte[])}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ByteFileRecordWriter extends NioFileRecordWriter {
+
+    /**
+     * The default size in bytes of the write buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Create a new {@link ByteFileRecordWriter}.
+     *
+     * @param path the output file.
+     */
+    public ByteFileRecordWriter(final Path path) {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new {@link ByteFileRecordWriter}.
+     *
+     * @param path the output file.
+     * @param bufferSize size in bytes of the write buffer.
+     */
+    public ByteFileRecordWriter(final Path path, final int bufferSize) {
+        super(path, bufferSize);
+    }
+
+}
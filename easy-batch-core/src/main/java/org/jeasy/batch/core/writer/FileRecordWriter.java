@@ -29,6 +29,7 @@ import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
 import org.jeasy.batch.core.record.Batch;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.util.Utils;
@@ -36,6 +37,9 @@ import org.jeasy.batch.core.util.Utils;
 /**
  * A writer that writes records to a file.
  *
+ * Records can be marshalled by this writer with a {@link StreamingRecordMarshaller}
+ * (see {@link #setMarshaller(StreamingRecordMarshaller)}).
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class FileRecordWriter implements RecordWriter {
@@ -46,6 +50,7 @@ public class FileRecordWriter implements RecordWriter {
     private String lineSeparator = Utils.LINE_SEPARATOR;
     private boolean append;
     private OutputStreamWriter outputStreamWriter;
+    private StreamingRecordMarshaller marshaller;
     private Path path;
 
     /**
@@ -97,6 +102,15 @@ public class FileRecordWriter implements RecordWriter {
         this.append = append;
     }
 
+    /**
+     * Marshal records to the writer of the output file with the given marshaller.
+     * @param marshaller to marshal records with
+     */
+    public void setMarshaller(StreamingRecordMarshaller marshaller) {
+        Utils.checkNotNull(marshaller, "marshaller");
+        this.marshaller = marshaller;
+    }
+
     @Override
     public void open() throws Exception {
         outputStreamWriter = new OutputStreamWriter(new FileOutputStream(path.toFile(), append), charset);
@@ -108,9 +122,14 @@ public class FileRecordWriter implements RecordWriter {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void writeRecords(Batch batch) throws Exception {
         for (Record record : batch) {
-            outputStreamWriter.write(record.getPayload().toString());
+            if (marshaller != null) {
+                marshaller.marshal(record, outputStreamWriter);
+            } else {
+                outputStreamWriter.write(record.getPayload().toString());
+            }
             outputStreamWriter.write(lineSeparator);
         }
         outputStreamWriter.flush();
@@ -0,0 +1,468 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A writer that writes records to a file through a {@link FileChannel}.
+ *
+ * Records are encoded into a large reusable buffer (1MB by default) which is written to the file
+ * when it is full and at the end of each batch, so that writing a batch costs a few system calls.
+ * String records are encoded from {@link StringRecord#getCharSequence()}, and records with a
+ * {@link ByteBuffer} payload (like {@link org.jeasy.batch.core.record.ByteRecord}) are written unchanged.
+ * Other payloads are written using their {@code toString()} representation, followed by a line separator.
+ *
+ * Records can also be marshalled by this writer with a {@link StreamingRecordMarshaller} (see
+ * {@link #setMarshaller(StreamingRecordMarshaller)}): the marshaller then appends each record to a sink
+ * which encodes characters straight into the write buffer, without an intermediate {@code String}.
+ *
+ * Durability is configured with a {@link SyncPolicy}. By default, written data is left to the operating
+ * system and may be lost if the machine crashes.
+ *
+ * Output files can be rolled once they reach a maximum size or number of records. In this case,
+ * the first file is the given path and next files are named after it with an index: records are
+ * written to {@code out.csv}, then {@code out-1.csv}, {@code out-2.csv}, etc. A file is rolled when
+ * the next record is written, so it may exceed the maximum size by at most one record.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class NioFileRecordWriter implements RecordWriter {
+
+    /**
+     * The default size in bytes of the write buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int SINK_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Policy to force written data to the storage device.
+     */
+    public enum SyncPolicy {
+
+        /**
+         * Written data is never forced to the storage device.
+         */
+        NONE,
+
+        /**
+         * Written data is forced to the storage device every N batches (see {@link #setSyncInterval(int)}),
+         * when a file is rolled and when the writer is closed.
+         */
+        PERIODIC,
+
+        /**
+         * Written data is forced to the storage device when a file is rolled and when the writer is closed.
+         */
+        ON_CLOSE
+    }
+
+    private final Path path;
+    private final int bufferSize;
+    private Charset charset = Charset.defaultCharset();
+    private String lineSeparator = Utils.LINE_SEPARATOR;
+    private byte[] lineSeparatorBytes;
+    private boolean append;
+    private SyncPolicy syncPolicy = SyncPolicy.NONE;
+    private int syncInterval = 1;
+    private long maxFileSize;
+    private long maxRecordsPerFile;
+    private StreamingRecordMarshaller marshaller;
+
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private CharsetEncoder encoder;
+    private byte[] encodedLineSeparator;
+    private EncodingSink sink;
+    private Path currentPath;
+    private int fileIndex;
+    // bytes written to the channel of the current file, not including buffered bytes
+    private long writtenBytes;
+    private long recordsInFile;
+    private int batchesSinceSync;
+    private boolean rollPending;
+
+    /**
+     * Create a new {@link NioFileRecordWriter}.
+     *
+     * @param path the output file.
+     */
+    public NioFileRecordWriter(final Path path) {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new {@link NioFileRecordWriter}.
+     *
+     * @param path the output file.
+     * @param bufferSize size in bytes of the write buffer.
+     */
+    public NioFileRecordWriter(final Path path, final int bufferSize) {
+        Utils.checkNotNull(path, "path");
+        Utils.checkArgument(bufferSize >= 16, "The buffer size must be at least 16 bytes");
+        this.path = path;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Set the charset of the output file
+     * @param charset of the output file
+     */
+    public void setCharset(Charset charset) {
+        Utils.checkNotNull(charset, "charset");
+        this.charset = charset;
+    }
+
+    /**
+     * Set the line separator
+     * @param lineSeparator to use
+     */
+    public void setLineSeparator(String lineSeparator) {
+        Utils.checkNotNull(lineSeparator, "line separator");
+        this.lineSeparator = lineSeparator;
+        this.lineSeparatorBytes = null;
+    }
+
+    /**
+     * Set the line separator, written as is after each record regardless of the charset.
+     * @param lineSeparator to use
+     */
+    public void setLineSeparator(byte[] lineSeparator) {
+        Utils.checkNotNull(lineSeparator, "line separator");
+        this.lineSeparatorBytes = lineSeparator.clone();
+    }
+
+    /**
+     * Parameter to open the writer in append mode.
+     * @param append true if the writer should be opened in append mode.
+     */
+    public void setAppend(boolean append) {
+        this.append = append;
+    }
+
+    /**
+     * Set the policy to force written data to the storage device. Defaults to {@link SyncPolicy#NONE}.
+     * @param syncPolicy to use
+     */
+    public void setSyncPolicy(SyncPolicy syncPolicy) {
+        Utils.checkNotNull(syncPolicy, "sync policy");
+        this.syncPolicy = syncPolicy;
+    }
+
+    /**
+     * Set the number of batches between two syncs with the {@link SyncPolicy#PERIODIC} policy. Defaults to 1.
+     * @param syncInterval number of batches between two syncs
+     */
+    public void setSyncInterval(int syncInterval) {
+        Utils.checkArgument(syncInterval > 0, "The sync interval must be greater than zero");
+        this.syncInterval = syncInterval;
+    }
+
+    /**
+     * Roll the output file once it reaches the given size. Defaults to 0 (no size limit).
+     * @param maxFileSize in bytes of an output file
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        Utils.checkArgument(maxFileSize >= 0, "The maximum file size must not be negative");
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Roll the output file once it contains the given number of records. Defaults to 0 (no limit).
+     * @param maxRecordsPerFile maximum number of records of an output file
+     */
+    public void setMaxRecordsPerFile(long maxRecordsPerFile) {
+        Utils.checkArgument(maxRecordsPerFile >= 0, "The maximum number of records per file must not be negative");
+        this.maxRecordsPerFile = maxRecordsPerFile;
+    }
+
+    /**
+     * Marshal records with the given marshaller, whose characters are encoded into the write buffer.
+     * @param marshaller to marshal records with
+     */
+    public void setMarshaller(StreamingRecordMarshaller marshaller) {
+        Utils.checkNotNull(marshaller, "marshaller");
+        this.marshaller = marshaller;
+    }
+
+    /**
+     * Return the file currently written.
+     * @return the file currently written
+     */
+    public Path getCurrentPath() {
+        return currentPath;
+    }
+
+    @Override
+    public void open() throws Exception {
+        encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        encodedLineSeparator = lineSeparatorBytes != null ? lineSeparatorBytes : lineSeparator.getBytes(charset);
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+        sink = new EncodingSink();
+        fileIndex = 0;
+        batchesSinceSync = 0;
+        rollPending = false;
+        openFile(path);
+    }
+
+    @Override
+    public void writeRecords(Batch batch) throws Exception {
+        for (Record record : batch) {
+            if (rollPending) {
+                roll();
+            }
+            write(record);
+            recordsInFile++;
+            rollPending = (maxRecordsPerFile > 0 && recordsInFile >= maxRecordsPerFile)
+                    || (maxFileSize > 0 && writtenBytes + buffer.position() >= maxFileSize);
+        }
+        flush();
+        if (syncPolicy == SyncPolicy.PERIODIC && ++batchesSinceSync >= syncInterval) {
+            sync();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (channel != null && channel.isOpen()) {
+            try {
+                flush();
+                if (syncPolicy != SyncPolicy.NONE) {
+                    sync();
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(final Record record) throws Exception {
+        if (marshaller != null) {
+            sink.startRecord();
+            marshaller.marshal(record, sink);
+            sink.endRecord();
+        } else if (record instanceof StringRecord) {
+            encode(CharBuffer.wrap(((StringRecord) record).getCharSequence()));
+        } else {
+            Object payload = record.getPayload();
+            if (payload instanceof ByteBuffer) {
+                write(((ByteBuffer) payload).duplicate());
+            } else {
+                encode(CharBuffer.wrap(payload.toString()));
+            }
+        }
+        write(ByteBuffer.wrap(encodedLineSeparator));
+    }
+
+    private void encode(final CharBuffer chars) throws IOException {
+        encoder.reset();
+        CoderResult result;
+        while ((result = encoder.encode(chars, buffer, true)).isOverflow()) {
+            flush();
+        }
+        throwIfError(result);
+        while ((result = encoder.flush(buffer)).isOverflow()) {
+            flush();
+        }
+        throwIfError(result);
+    }
+
+    private static void throwIfError(final CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    private void write(final ByteBuffer bytes) throws IOException {
+        if (bytes.remaining() > buffer.remaining()) {
+            flush();
+            if (bytes.remaining() > buffer.capacity()) {
+                // larger than the buffer, no need to copy it
+                writeFully(bytes);
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            writtenBytes += channel.write(bytes);
+        }
+    }
+
+    /**
+     * Force data written to the current file to the storage device. Buffered data is not written.
+     *
+     * @return the number of bytes of the current file written to the storage device
+     * @throws IOException if data can not be forced to the storage device
+     */
+    protected long sync() throws IOException {
+        channel.force(false);
+        batchesSinceSync = 0;
+        return writtenBytes;
+    }
+
+    private void roll() throws IOException {
+        flush();
+        if (syncPolicy != SyncPolicy.NONE) {
+            sync();
+        }
+        channel.close();
+        openFile(rolledPath(++fileIndex));
+        rollPending = false;
+    }
+
+    /**
+     * Open the channel to write records of an output file to. Records are written at the
+     * position of the returned channel, which should be the end of the file.
+     *
+     * @param file to open
+     * @return a channel positioned where records should be written
+     * @throws IOException if the file can not be opened
+     */
+    protected FileChannel openChannel(final Path file) throws IOException {
+        return append ?
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND) :
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void openFile(final Path file) throws IOException {
+        channel = openChannel(file);
+        currentPath = file;
+        writtenBytes = channel.size();
+        recordsInFile = 0;
+    }
+
+    // out.csv -> out-1.csv
+    private Path rolledPath(final int index) {
+        String fileName = path.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        String rolledFileName = extension > 0 ?
+                fileName.substring(0, extension) + "-" + index + fileName.substring(extension) :
+                fileName + "-" + index;
+        return path.resolveSibling(rolledFileName);
+    }
+
+    /*
+     * Appendable encoding characters into the write buffer, through a small buffer of characters.
+     * The encoder is reset at the start of each record.
+     */
+    private final class EncodingSink implements Appendable {
+
+        private final CharBuffer chars = CharBuffer.allocate(SINK_BUFFER_SIZE);
+
+        @Override
+        public Appendable append(final CharSequence sequence) throws IOException {
+            CharSequence characters = sequence == null ? "null" : sequence;
+            return append(characters, 0, characters.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence sequence, int start, final int end) throws IOException {
+            CharSequence characters = sequence == null ? "null" : sequence;
+            while (start < end) {
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+                int count = Math.min(end - start, chars.remaining());
+                if (characters instanceof String) {
+                    chars.put((String) characters, start, start + count);
+                } else if (characters instanceof CharBuffer) {
+                    // indexes of a char buffer are relative to its position
+                    CharBuffer source = ((CharBuffer) characters).duplicate();
+                    source.limit(source.position() + start + count);
+                    source.position(source.position() + start);
+                    chars.put(source);
+                } else {
+                    for (int i = start; i < start + count; i++) {
+                        chars.put(characters.charAt(i));
+                    }
+                }
+                start += count;
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            chars.put(c);
+            return this;
+        }
+
+        void startRecord() {
+            chars.clear();
+            encoder.reset();
+        }
+
+        void endRecord() throws IOException {
+            encode(true);
+            CoderResult result;
+            while ((result = encoder.flush(buffer)).isOverflow()) {
+                flush();
+            }
+            throwIfError(result);
+        }
+
+        // a high surrogate at the end of the characters is kept until the next characters are appended
+        private void encode(final boolean endOfInput) throws IOException {
+            chars.flip();
+            CoderResult result;
+            while ((result = encoder.encode(chars, buffer, endOfInput)).isOverflow()) {
+                flush();
+            }
+            throwIfError(result);
+            chars.compact();
+        }
+    }
+}
@@ -43,4 +43,12 @@ public class BigIntegerTypeConverterTest extends BaseConverterTest<BigInteger> {
         assertThat(converter.convert("5").intValue()).isEqualTo(5);
     }
 
+    @Test
+    public void whenInputIsWiderThanLong_ThenShouldReturnBigInteger() {
+        String value = "123456789012345678901234567890";
+        assertThat(converter.convert(value)).isEqualTo(new BigInteger(value));
+        assertThat(((BigIntegerTypeConverter) converter).convert("x-" + value + "-x", 2, 32)).isEqualTo(new BigInteger(value));
+        assertThat(converter.convert("-" + value)).isEqualTo(new BigInteger("-" + value));
+    }
+
 }
@@ -58,4 +58,11 @@ public class BooleanTypeConverterTest {
         assertThat(booleanTypeConverter.convert("foobar")).isFalse();
     }
 
+    @Test
+    public void whenInputIsARangeOfACharSequence_ThenShouldReturnTheBooleanOfThatRange() {
+        assertThat(booleanTypeConverter.toBoolean("a;Yes;b", 2, 5)).isTrue();
+        assertThat(booleanTypeConverter.toBoolean("a;1;b", 2, 3)).isTrue();
+        assertThat(booleanTypeConverter.toBoolean("a;no;b", 2, 4)).isFalse();
+    }
+
 }
@@ -51,4 +51,13 @@ public class DateTypeConverterTest extends BaseConverterTest<Date> {
         converter.convert("foo");
     }
 
+    @Test
+    public void whenTheSameValueIsConvertedTwice_ThenShouldReturnEqualButDistinctDates() {
+        Date date = converter.convert("2015-01-01");
+        Date otherDate = converter.convert("2015-01-01");
+
+        assertThat(otherDate).isEqualTo(date).isNotSameAs(date);
+        date.setTime(0);
+        assertThat(converter.convert("2015-01-01")).isEqualTo(otherDate);
+    }
 }
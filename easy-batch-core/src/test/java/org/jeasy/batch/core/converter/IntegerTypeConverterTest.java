@@ -42,4 +42,13 @@ public class IntegerTypeConverterTest extends BaseConverterTest<Integer> {
         assertThat(converter.convert("5.0")).isEqualTo(5);
     }
 
+    @Test
+    public void whenInputIsARangeOfACharSequence_ThenShouldReturnTheIntegerOfThatRange() {
+        IntegerTypeConverter integerTypeConverter = new IntegerTypeConverter();
+        StringBuilder value = new StringBuilder("a;-42;b");
+
+        assertThat(integerTypeConverter.toInt(value, 2, 5)).isEqualTo(-42);
+        assertThat(integerTypeConverter.convert(value, 2, 5)).isEqualTo(-42);
+    }
+
 }
@@ -47,4 +47,23 @@ public class LocalDateConverterTest {
 	public void whenValueIsInvalid_ThenShouldThrowADateTimeParseException() {
 		converter.convert("foo");
 	}
+
+	@Test(expected = DateTimeParseException.class)
+	public void whenDateDoesNotExist_ThenShouldThrowADateTimeParseException() {
+		converter.convert("2020-02-30");
+	}
+
+	@Test
+	public void whenAPatternIsSpecified_ThenShouldReturnValidLocalDate() {
+		LocalDateConverter localDateConverter = new LocalDateConverter("dd/MM/yyyy");
+
+		assertThat(localDateConverter.convert("20/01/2020")).isEqualTo(LocalDate.of(2020, 1, 20));
+	}
+
+	@Test
+	public void whenTheSameValueIsConvertedTwice_ThenShouldReturnTheMemoizedDate() {
+		assertThat(converter.convert("2020-01-20")).isSameAs(converter.convert("2020-01-20"));
+		assertThat(new LocalDateConverter("yyyy-MM-dd", 0).convert("2020-01-20"))
+				.isNotSameAs(new LocalDateConverter("yyyy-MM-dd", 0).convert("2020-01-20"));
+	}
 }
@@ -47,4 +47,17 @@ public class LocalDateTimeConverterTest {
 	public void whenValueIsInvalid_ThenShouldThrowADateTimeParseException() {
 		converter.convert("foo");
 	}
+
+	@Test
+	public void whenInputValueHasFractionOfSeconds_ThenShouldReturnValidLocalDateTime() {
+		assertThat(converter.convert("2020-01-20T10:15:20.123")).isEqualTo(LocalDateTime.of(2020, 1, 20, 10, 15, 20, 123000000));
+		assertThat(converter.convert("2020-01-20T10:15")).isEqualTo(LocalDateTime.of(2020, 1, 20, 10, 15));
+	}
+
+	@Test
+	public void whenAPatternIsSpecified_ThenShouldReturnValidLocalDateTime() {
+		LocalDateTimeConverter localDateTimeConverter = new LocalDateTimeConverter("yyyyMMdd HHmmss");
+
+		assertThat(localDateTimeConverter.convert("20200120 101520")).isEqualTo(LocalDateTime.of(2020, 1, 20, 10, 15, 20));
+	}
 }
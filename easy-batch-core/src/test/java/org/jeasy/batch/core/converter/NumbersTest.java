@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.converter;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NumbersTest {
+
+    private static final String[] NUMBERS = {
+            "0", "-0", "+0", "7", "-7", "+7", "123456789", "-123456789", "2147483647", "-2147483648", "2147483648",
+            "9007199254740993", "123456789012345678", "1234567890123456789", "0.1", "-0.1", "1.5", "5.0", "5.", ".5",
+            "3.141592653589793", "1234.5678", "-99999.999", "0.000000000000001", "1e3", "-1.5E-3", " 42 "
+    };
+
+    @Test
+    public void parsedDoublesShouldBeTheSameAsTheJdkOnes() {
+        for (String number : NUMBERS) {
+            assertThat(Numbers.parseDouble(number, 0, number.length()))
+                    .as(number).isEqualTo(Double.parseDouble(number));
+        }
+    }
+
+    @Test
+    public void parsedIntsAndLongsShouldBeTheSameAsTheStringBasedConverterOnes() {
+        for (String number : NUMBERS) {
+            assertThat(Numbers.parseInt(number, 0, number.length()))
+                    .as(number).isEqualTo(Double.valueOf(number).intValue());
+        }
+        assertThat(Numbers.parseLong("123456789012345678", 0, 18)).isEqualTo(123456789012345678L);
+        assertThat(Numbers.parseLong("-5.0", 0, 4)).isEqualTo(-5L);
+    }
+
+    @Test
+    public void parsedBigDecimalsShouldBeTheSameAsTheJdkOnes() {
+        for (String number : NUMBERS) {
+            if (number.trim().equals(number)) {
+                assertThat(Numbers.parseBigDecimal(number, 0, number.length()))
+                        .as(number).isEqualByComparingTo(new BigDecimal(number))
+                        .hasFieldOrPropertyWithValue("scale", new BigDecimal(number).scale());
+            }
+        }
+    }
+
+    @Test
+    public void numbersShouldBeParsedFromARange() {
+        String value = "id=42;amount=-12.50;rate=0.25";
+
+        assertThat(Numbers.parseInt(value, 3, 5)).isEqualTo(42);
+        assertThat(Numbers.parseBigDecimal(value, 13, 19)).isEqualTo(new BigDecimal("-12.50"));
+        assertThat(Numbers.parseDouble(value, 25, 29)).isEqualTo(0.25);
+    }
+
+    @Test
+    public void invalidNumbersShouldBeRejected() {
+        assertThatThrownBy(() -> Numbers.parseInt("12a", 0, 3)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Numbers.parseDouble("-", 0, 1)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Numbers.parseBigDecimal("1.2.3", 0, 5)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Numbers.parseExactInt("5.0", 0, 3)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Numbers.parseLong("12", 1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.filter;
+
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.record.Header;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteGrepFilterTest {
+
+    private ByteGrepFilter grepFilter;
+
+    @Before
+    public void setUp() {
+        grepFilter = new ByteGrepFilter("java", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void whenRecordContainsPattern_ThenItShouldNotBeFiltered() {
+        ByteRecord record = record("java rocks!");
+        assertThat(grepFilter.processRecord(record)).isEqualTo(record);
+    }
+
+    @Test
+    public void whenRecordDoesNotContainPattern_ThenItShouldBeFiltered() {
+        assertThat(grepFilter.processRecord(record("c++ .."))).isNull();
+    }
+
+    @Test
+    public void patternShouldOnlyBeLookedUpInRemainingBytesOfThePayload() {
+        ByteBuffer buffer = ByteBuffer.wrap("c++ ..java rocks!".getBytes(StandardCharsets.UTF_8));
+        ByteRecord first = new ByteRecord(header(), ByteBuffer.wrap(buffer.array(), 0, 8).slice());
+        ByteRecord second = new ByteRecord(header(), ByteBuffer.wrap(buffer.array(), 6, 11).slice());
+
+        assertThat(grepFilter.processRecord(first)).isNull();
+        assertThat(grepFilter.processRecord(second)).isEqualTo(second);
+        assertThat(second.getPayload().position()).isZero();
+    }
+
+    @Test
+    public void startsWithFilterShouldFilterRecordsStartingWithPrefix() {
+        StartsWithByteRecordFilter filter = new StartsWithByteRecordFilter(StandardCharsets.UTF_8, "#", "//");
+
+        assertThat(filter.processRecord(record("# comment"))).isNull();
+        assertThat(filter.processRecord(record("// comment"))).isNull();
+        assertThat(filter.processRecord(record("data"))).isNotNull();
+    }
+
+    @Test
+    public void emptyFilterShouldFilterEmptyRecords() {
+        EmptyByteRecordFilter filter = new EmptyByteRecordFilter();
+
+        assertThat(filter.processRecord(record(""))).isNull();
+        assertThat(filter.processRecord(record(" "))).isNotNull();
+    }
+
+    private ByteRecord record(String payload) {
+        return new ByteRecord(header(), payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Header header() {
+        return new Header(1L, "test", new Date());
+    }
+
+}
@@ -23,6 +23,8 @@
  */
 package org.jeasy.batch.core.filter;
 
+import org.jeasy.batch.core.record.CharSequenceRecord;
+import org.jeasy.batch.core.record.Header;
 import org.jeasy.batch.core.record.StringRecord;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,6 +32,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Date;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -48,20 +52,31 @@ public class GrepFilterTest {
 
     @Test
     public void whenRecordContainsPattern_ThenItShouldNotBeFiltered() {
-        when(record.getPayload()).thenReturn("java rocks!");
+        when(record.getCharSequence()).thenReturn("java rocks!");
         assertThat(grepFilter.processRecord(record)).isEqualTo(record);
     }
 
     @Test
     public void whenRecordDoesNotContainPattern_ThenItShouldBeFiltered() {
-        when(record.getPayload()).thenReturn("c++ ..");
+        when(record.getCharSequence()).thenReturn("c++ ..");
         assertThat(grepFilter.processRecord(record)).isNull();
     }
 
     @Test
     public void patternLookupShouldBeCaseSensitive() {
-        when(record.getPayload()).thenReturn("JAVA rocks!");
+        when(record.getCharSequence()).thenReturn("JAVA rocks!");
         assertThat(grepFilter.processRecord(record)).isNull();
     }
 
+    @Test
+    public void patternShouldBeLookedUpInCharSequenceRecordsWithoutCopyingThem() {
+        char[] buffer = "c++ ..java rocks!".toCharArray();
+        CharSequenceRecord first = new CharSequenceRecord(new Header(1L, "test", new Date()), buffer, 0, 6);
+        CharSequenceRecord second = new CharSequenceRecord(new Header(2L, "test", new Date()), buffer, 6, 11);
+
+        assertThat(grepFilter.processRecord(first)).isNull();
+        assertThat(grepFilter.processRecord(second)).isEqualTo(second);
+        assertThat(second.getCharSequence()).isNotInstanceOf(String.class);
+    }
+
 }
@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.core.job.JobExecutor;
+import org.jeasy.batch.core.reader.IterableRecordReader;
+import org.jeasy.batch.core.writer.StandardOutputRecordWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderListenerTest {
+
+    private Recording recording;
+    private Path dump;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(FlightRecorderSupport.isAvailable());
+        recording = new Recording();
+        recording.enable("org.jeasy.batch.JobStart");
+        recording.enable("org.jeasy.batch.JobEnd");
+        recording.enable("org.jeasy.batch.BatchRead");
+        recording.enable("org.jeasy.batch.BatchProcess");
+        recording.enable("org.jeasy.batch.BatchWrite");
+        recording.enable("org.jeasy.batch.RecordProcess");
+        recording.enable("org.jeasy.batch.JobExecution");
+        dump = Files.createTempFile("easy-batch", ".jfr");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recording != null) {
+            recording.close();
+        }
+        if (dump != null) {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    public void whenARecordingIsActive_thenJobAndBatchEventsShouldBeEmitted() throws Exception {
+        // given
+        Job job = new JobBuilder()
+                .named("test-job")
+                .reader(new IterableRecordReader(asList("foo", "bar", "baz")))
+                .writer(new StandardOutputRecordWriter())
+                .batchSize(2)
+                .build();
+        recording.start();
+
+        // when
+        JobExecutor jobExecutor = new JobExecutor(1);
+        jobExecutor.execute(job);
+        jobExecutor.shutdown();
+        recording.stop();
+        recording.dump(dump);
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(eventsOfType(events, "org.jeasy.batch.JobStart")).hasSize(1);
+        assertThat(eventsOfType(events, "org.jeasy.batch.JobExecution")).hasSize(1);
+        List<RecordedEvent> jobEndEvents = eventsOfType(events, "org.jeasy.batch.JobEnd");
+        assertThat(jobEndEvents).hasSize(1);
+        assertThat(jobEndEvents.get(0).getString("jobName")).isEqualTo("test-job");
+        assertThat(jobEndEvents.get(0).getString("status")).isEqualTo("COMPLETED");
+        assertThat(jobEndEvents.get(0).getLong("readCount")).isEqualTo(3);
+        List<RecordedEvent> batchReadEvents = eventsOfType(events, "org.jeasy.batch.BatchRead");
+        assertThat(batchReadEvents).hasSize(2);
+        assertThat(batchReadEvents.get(0).getLong("batchSize")).isEqualTo(2);
+        assertThat(batchReadEvents.get(1).getLong("batchSize")).isEqualTo(1);
+        assertThat(eventsOfType(events, "org.jeasy.batch.BatchProcess")).hasSize(2);
+        assertThat(eventsOfType(events, "org.jeasy.batch.BatchWrite")).hasSize(2);
+        assertThat(eventsOfType(events, "org.jeasy.batch.RecordProcess")).hasSize(3);
+        assertThat(eventsOfType(events, "org.jeasy.batch.RecordRead")).isEmpty(); // disabled by default
+    }
+
+    private List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String type) {
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(type)) {
+                result.add(event);
+            }
+        }
+        result.sort((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()));
+        return result;
+    }
+}
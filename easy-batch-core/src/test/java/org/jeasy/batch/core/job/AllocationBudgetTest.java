@@ -0,0 +1,72 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.job;
+
+import org.jeasy.batch.core.reader.IterableRecordReader;
+import org.jeasy.batch.test.common.AllocationMeter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Upper bounds of bytes allocated per record on the core record path.
+ * If this test fails, either remove the new allocations from the hot path,
+ * or raise the budget if they are really needed.
+ */
+public class AllocationBudgetTest {
+
+    private static final int RECORDS = 10000;
+
+    // in bytes per record (271 measured). This test runs in its own fork without escape analysis
+    // (see the allocation-budget execution in the pom), so that the measure does not depend on
+    // how the JIT compiled the record path.
+    private static final long READ_PROCESS_WRITE_BUDGET = 280;
+
+    private List<String> dataSource;
+
+    @Before
+    public void setUp() {
+        assumeTrue(AllocationMeter.isSupported());
+        dataSource = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            dataSource.add("record" + i);
+        }
+    }
+
+    @Test
+    public void readProcessWriteShouldStayWithinAllocationBudget() throws Exception {
+        long allocatedBytesPerRecord = AllocationMeter.allocatedBytesPerRecord(() -> new JobBuilder()
+                .reader(new IterableRecordReader(dataSource))
+                .processor(record -> record)
+                .batchSize(100)
+                .build()
+                .call(), RECORDS);
+        assertThat(allocatedBytesPerRecord).isLessThanOrEqualTo(READ_PROCESS_WRITE_BUDGET);
+    }
+}
@@ -46,11 +46,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.management.AttributeChangeNotification;
+import javax.management.JMException;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -260,6 +263,81 @@ public class BatchJobTest {
         assertThat(jobReport.getLastError()).isNull();
     }
 
+    @Test
+    public void whenProfilingIsEnabled_thenStageMetricsShouldBeReported() throws Exception {
+        job = new JobBuilder()
+                .reader(reader)
+                .processor(firstProcessor)
+                .writer(writer)
+                .enableProfiling(true)
+                .build();
+
+        JobReport jobReport = job.call();
+
+        JobMetrics metrics = jobReport.getMetrics();
+        assertThat(metrics.getReaderMetrics().getRecordCount()).isEqualTo(2);
+        assertThat(metrics.getProcessorMetrics().getRecordCount()).isEqualTo(2);
+        assertThat(metrics.getWriterMetrics().getRecordCount()).isEqualTo(2);
+        assertThat(metrics.getReaderMetrics().getCpuTime()).isGreaterThanOrEqualTo(0);
+        assertThat(metrics.getReaderMetrics().getAllocatedBytes()).isGreaterThanOrEqualTo(0);
+        assertThat(jobReport.toString()).contains("Reader: records = 2", "Processor: records = 2", "Writer: records = 2");
+    }
+
+    @Test
+    public void whenProfilingIsNotEnabled_thenStageMetricsShouldNotBeCollected() throws Exception {
+        JobReport jobReport = job.call();
+
+        JobMetrics metrics = jobReport.getMetrics();
+        assertThat(metrics.getReaderMetrics().getRecordCount()).isEqualTo(0);
+        assertThat(metrics.getProcessorMetrics().getRecordCount()).isEqualTo(0);
+        assertThat(metrics.getWriterMetrics().getRecordCount()).isEqualTo(0);
+        assertThat(jobReport.toString()).doesNotContain("Reader:");
+    }
+
+    @Test
+    public void whenBatchSizeIsChangedAtRuntime_thenTheNewBatchSizeShouldBeUsedFromTheNextBatch() throws Exception {
+        BatchJob batchJob = (BatchJob) new JobBuilder()
+                .reader(reader)
+                .writer(writer)
+                .batchSize(1)
+                .build();
+        batchJob.addBatchListener(new BatchSizeChangingListener(batchJob.getControl()));
+
+        JobReport jobReport = batchJob.call();
+
+        assertThat(jobReport.getParameters().getBatchSize()).isEqualTo(5);
+        List<RuntimeChange> runtimeChanges = jobReport.getMetrics().getRuntimeChanges();
+        assertThat(runtimeChanges).hasSize(1);
+        assertThat(runtimeChanges.get(0).getName()).isEqualTo("batch size");
+        assertThat(runtimeChanges.get(0).getOldValue()).isEqualTo("1");
+        assertThat(runtimeChanges.get(0).getNewValue()).isEqualTo("5");
+        verify(writer, times(2)).writeRecords(any(Batch.class));
+        assertThat(jobReport.toString()).contains("batch size changed from 1 to 5");
+    }
+
+    @Test
+    public void whenJobIsPausedAtRuntime_thenItShouldWaitUntilResumed() throws Exception {
+        BatchJob batchJob = (BatchJob) new JobBuilder()
+                .named("paused-job")
+                .reader(reader)
+                .writer(writer)
+                .batchSize(1)
+                .enableJmx(true)
+                .build();
+        batchJob.addBatchListener(new PausingListener(batchJob));
+
+        JobReport jobReport = batchJob.call();
+
+        assertThat(jobReport.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(jobReport.getMetrics().getWriteCount()).isEqualTo(2);
+        List<RuntimeChange> runtimeChanges = jobReport.getMetrics().getRuntimeChanges();
+        assertThat(runtimeChanges).hasSize(2);
+        assertThat(runtimeChanges.get(0).getName()).isEqualTo("paused");
+        assertThat(runtimeChanges.get(0).getNewValue()).isEqualTo("true");
+        assertThat(runtimeChanges.get(1).getNewValue()).isEqualTo("false");
+        assertThat(runtimeChanges.get(1).getTime()).isAfterOrEqualTo(runtimeChanges.get(0).getTime());
+    }
+
     @Test
     public void whenErrorThresholdIsExceeded_ThenTheJobShouldBeAborted() throws Exception {
         when(firstProcessor.processRecord(record1)).thenThrow(exception);
@@ -758,4 +836,85 @@ public class BatchJobTest {
         assertThat(recordCollector2.getRecords()).hasSize(1000000);
     }
 
+
+    private static class BatchSizeChangingListener implements BatchListener {
+
+        private JobControl control;
+
+        BatchSizeChangingListener(JobControl control) {
+            this.control = control;
+        }
+
+        @Override
+        public void beforeBatchReading() {
+        }
+
+        @Override
+        public void afterBatchProcessing(Batch batch) {
+        }
+
+        @Override
+        public void afterBatchWriting(Batch batch) {
+            control.requestBatchSize(5);
+        }
+
+        @Override
+        public void onBatchWritingException(Batch batch, Throwable throwable) {
+        }
+    }
+
+    /*
+     * Pauses the job after its first batch and resumes it from another thread once the job reports
+     * the pause, which it does through a JMX notification before waiting to be resumed.
+     */
+    private static class PausingListener implements BatchListener {
+
+        private BatchJob job;
+        private boolean pausedOnce;
+
+        PausingListener(BatchJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void beforeBatchReading() {
+        }
+
+        @Override
+        public void afterBatchProcessing(Batch batch) {
+        }
+
+        @Override
+        public void afterBatchWriting(Batch batch) {
+            if (pausedOnce) {
+                return;
+            }
+            pausedOnce = true;
+            CountDownLatch jobPaused = new CountDownLatch(1);
+            try {
+                ObjectName name = new ObjectName(JMX_MBEAN_NAME + "name=" + job.getName());
+                ManagementFactory.getPlatformMBeanServer().addNotificationListener(name, (notification, handback) -> {
+                    JobReport report = (JobReport) ((AttributeChangeNotification) notification).getNewValue();
+                    if (!report.getMetrics().getRuntimeChanges().isEmpty()) {
+                        jobPaused.countDown();
+                    }
+                }, null, null);
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+            job.getControl().pause();
+            new Thread(() -> {
+                try {
+                    jobPaused.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                job.getControl().resume();
+            }).start();
+        }
+
+        @Override
+        public void onBatchWritingException(Batch batch, Throwable throwable) {
+        }
+    }
 }
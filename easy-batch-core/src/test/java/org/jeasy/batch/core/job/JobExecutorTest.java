@@ -29,11 +29,16 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.management.Attribute;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.batch.core.util.Utils.JMX_MBEAN_NAME;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -93,4 +98,50 @@ public class JobExecutorTest {
         //then
         verify(executorService).shutdown();
     }
+
+    @Test
+    public void setWorkers() {
+        //given
+        JobExecutor executor = new JobExecutor(2);
+
+        //when
+        executor.setWorkers(4);
+
+        //then
+        assertThat(executor.getWorkers()).isEqualTo(4);
+
+        //when
+        executor.setWorkers(1);
+
+        //then
+        assertThat(executor.getWorkers()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    public void setWorkersShouldFailWhenExecutorServiceCanNotBeResized() {
+        assertThatThrownBy(() -> jobExecutor.setWorkers(4)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(jobExecutor.getWorkers()).isEqualTo(-1);
+    }
+
+    @Test
+    public void enableJmx() throws Exception {
+        //given
+        JobExecutor executor = new JobExecutor(2);
+        ObjectName objectName = new ObjectName(JMX_MBEAN_NAME + "type=JobExecutor,name=executor");
+
+        //when
+        executor.enableJmx("executor");
+
+        //then
+        assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Workers")).isEqualTo(2);
+        ManagementFactory.getPlatformMBeanServer().setAttribute(objectName, new Attribute("Workers", 3));
+        assertThat(executor.getWorkers()).isEqualTo(3);
+
+        //when
+        executor.shutdown();
+
+        //then
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)).isFalse();
+    }
 }
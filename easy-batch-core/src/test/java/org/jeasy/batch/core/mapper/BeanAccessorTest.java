@@ -0,0 +1,137 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import org.jeasy.batch.core.beans.Person;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BeanAccessorTest {
+
+    @Test
+    public void accessorsShouldBeCachedPerType() {
+        assertThat(BeanAccessor.of(Person.class)).isSameAs(BeanAccessor.of(Person.class));
+    }
+
+    @Test
+    public void propertiesShouldBeReadAndWrittenThroughCompiledAccessors() throws Exception {
+        BeanAccessor<Person> accessor = BeanAccessor.of(Person.class);
+
+        Person person = accessor.newInstance();
+        accessor.getProperty("firstName").set(person, "foo");
+        accessor.getProperty("age").set(person, 30);
+        accessor.getProperty("married").set(person, true);
+
+        assertThat(person.getFirstName()).isEqualTo("foo");
+        assertThat(person.getAge()).isEqualTo(30);
+        assertThat(person.isMarried()).isTrue();
+        assertThat(accessor.getProperty("age").get(person)).isEqualTo(30);
+        assertThat(accessor.getProperty("age").getType()).isEqualTo(int.class);
+    }
+
+    @Test
+    public void primitivePropertiesShouldBeWrittenWithoutBoxing() throws Exception {
+        BeanAccessor<Person> accessor = BeanAccessor.of(Person.class);
+
+        Person person = accessor.newInstance();
+        accessor.getProperty("age").setInt(person, 30);
+        accessor.getProperty("married").setBoolean(person, true);
+
+        assertThat(person.getAge()).isEqualTo(30);
+        assertThat(person.isMarried()).isTrue();
+    }
+
+    @Test
+    public void propertyClassShouldBeExcluded() {
+        BeanAccessor<Person> accessor = BeanAccessor.of(Person.class);
+
+        assertThat(accessor.getProperty("class")).isNull();
+        assertThat(accessor.getPropertyNames()).doesNotContain("class").contains("firstName", "age");
+    }
+
+    @Test
+    public void nonPublicTypesShouldFallBackToReflection() throws Exception {
+        BeanAccessor<HiddenBean> accessor = BeanAccessor.of(HiddenBean.class);
+
+        HiddenBean bean = new HiddenBean();
+        accessor.getProperty("name").set(bean, "foo");
+
+        assertThat(accessor.getProperty("name").get(bean)).isEqualTo("foo");
+    }
+
+    @Test
+    public void exceptionsThrownByAccessorsShouldBePropagatedAsIs() {
+        BeanAccessor<FailingBean> accessor = BeanAccessor.of(FailingBean.class);
+
+        assertThatThrownBy(() -> accessor.getProperty("value").set(new FailingBean(), "foo"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid value foo");
+    }
+
+    @Test
+    public void readOnlyPropertiesShouldNotBeWritable() {
+        BeanAccessor<FailingBean> accessor = BeanAccessor.of(FailingBean.class);
+
+        assertThat(accessor.getProperty("readOnly").isReadable()).isTrue();
+        assertThat(accessor.getProperty("readOnly").isWritable()).isFalse();
+        assertThatThrownBy(() -> accessor.getProperty("readOnly").set(new FailingBean(), "foo"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void typesWithoutDefaultConstructorShouldNotBeInstantiable() {
+        BeanAccessor<NoDefaultConstructorBean> accessor = BeanAccessor.of(NoDefaultConstructorBean.class);
+
+        assertThatThrownBy(accessor::newInstance).isInstanceOf(InstantiationException.class);
+    }
+
+    private static class HiddenBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class FailingBean {
+        public void setValue(String value) {
+            throw new IllegalArgumentException("invalid value " + value);
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+    }
+
+    public static class NoDefaultConstructorBean {
+        public NoDefaultConstructorBean(String value) {
+        }
+    }
+}
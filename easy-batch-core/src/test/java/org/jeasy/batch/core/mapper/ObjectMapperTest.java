@@ -146,7 +146,51 @@ public class ObjectMapperTest {
         assertThat(person.getAge()).isEqualTo(0);
     }
 
-}
+    @Test
+    public void whenValuesAreMappedWithAMappingPlan_ThenTheMappedObjectShouldBeCorrectlyPopulated() throws Exception {
+
+        ObjectMapper<Person> mapper = new ObjectMapper<>(Person.class);
+        MappingPlan<Person> mappingPlan = mapper.createMappingPlan("firstName", null, "age", "nickName", "married");
+
+        Person person = mappingPlan.mapObject(new String[]{"foo", "ignored", "30", "FB", "true"});
+
+        assertThat(person.getFirstName()).isEqualTo("foo");
+        assertThat(person.getLastName()).isNull();
+        assertThat(person.getAge()).isEqualTo(30);
+        assertThat(person.isMarried()).isTrue();
+    }
+
+    @Test
+    public void whenValuesAreMappedWithAMappingPlan_ThenMissingAndEmptyValuesShouldBeIgnored() throws Exception {
+
+        ObjectMapper<Person> mapper = new ObjectMapper<>(Person.class);
+        MappingPlan<Person> mappingPlan = mapper.createMappingPlan("firstName", "lastName", "age");
 
+        Person person = mappingPlan.mapObject(new String[]{"", null});
 
+        assertThat(person.getFirstName()).isNull();
+        assertThat(person.getLastName()).isNull();
+        assertThat(person.getAge()).isEqualTo(0);
+    }
+
+    @Test
+    public void whenACustomTypeConverterIsRegistered_ThenOtherMappersOfTheSameTypeShouldNotBeAffected() throws Exception {
+
+        ObjectMapper<Person> customMapper = new ObjectMapper<>(Person.class);
+        customMapper.registerTypeConverter(new TypeConverter<String, String>() {
+            @Override
+            public String convert(String value) {
+                return value.toUpperCase();
+            }
+        });
+        ObjectMapper<Person> defaultMapper = new ObjectMapper<>(Person.class);
+
+        Map<String, String> values = new HashMap<>();
+        values.put("firstName", "foo");
 
+        assertThat(customMapper.mapObject(values).getFirstName()).isEqualTo("FOO");
+        assertThat(defaultMapper.mapObject(values).getFirstName()).isEqualTo("foo");
+        assertThat(new ObjectMapper<>(Person.class).createMappingPlan("firstName").mapObject(new String[]{"foo"}).getFirstName()).isEqualTo("foo");
+    }
+
+}
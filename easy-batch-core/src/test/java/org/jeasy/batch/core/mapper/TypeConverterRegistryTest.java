@@ -0,0 +1,58 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.mapper;
+
+import org.jeasy.batch.core.converter.IntegerTypeConverter;
+import org.jeasy.batch.core.converter.StringTypeConverter;
+import org.jeasy.batch.core.converter.TypeConverter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeConverterRegistryTest {
+
+    @Test
+    public void defaultRegistryShouldContainBuiltInConverters() {
+        assertThat(TypeConverterRegistry.DEFAULT.get(int.class)).isInstanceOf(IntegerTypeConverter.class);
+        assertThat(TypeConverterRegistry.DEFAULT.get(Integer.class)).isSameAs(TypeConverterRegistry.DEFAULT.get(int.class));
+        assertThat(TypeConverterRegistry.DEFAULT.get(String.class)).isInstanceOf(StringTypeConverter.class);
+        assertThat(TypeConverterRegistry.DEFAULT.get(Object.class)).isNull();
+    }
+
+    @Test
+    public void customConvertersShouldBeLayeredOnTopOfDefaultsWithoutChangingThem() {
+        TypeConverter<String, String> stringConverter = value -> value;
+        TypeConverter<String, Object> objectConverter = value -> value;
+
+        TypeConverterRegistry custom = TypeConverterRegistry.DEFAULT.with(String.class, stringConverter);
+        TypeConverterRegistry moreCustom = custom.with(Object.class, objectConverter);
+
+        assertThat(custom.get(String.class)).isSameAs(stringConverter);
+        assertThat(custom.get(Object.class)).isNull();
+        assertThat(custom.get(int.class)).isSameAs(TypeConverterRegistry.DEFAULT.get(int.class));
+        assertThat(moreCustom.get(String.class)).isSameAs(stringConverter);
+        assertThat(moreCustom.get(Object.class)).isSameAs(objectConverter);
+        assertThat(TypeConverterRegistry.DEFAULT.get(String.class)).isInstanceOf(StringTypeConverter.class);
+    }
+}
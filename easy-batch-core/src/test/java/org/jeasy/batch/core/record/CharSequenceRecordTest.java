@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.record;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CharSequenceRecordTest {
+
+    private char[] buffer;
+    private Header header;
+
+    @Before
+    public void setUp() {
+        buffer = "foo,bar\nbaz".toCharArray();
+        header = new Header(1L, "test", new Date());
+    }
+
+    @Test
+    public void charSequenceShouldBeAViewOverTheSharedBuffer() {
+        CharSequenceRecord record = new CharSequenceRecord(header, buffer, 4, 3);
+
+        CharSequence charSequence = record.getCharSequence();
+        buffer[4] = 'c';
+
+        assertThat(charSequence.length()).isEqualTo(3);
+        assertThat(charSequence.charAt(0)).isEqualTo('c');
+        assertThat(charSequence.subSequence(1, 3).toString()).isEqualTo("ar");
+        assertThat(charSequence.toString()).isEqualTo("car");
+    }
+
+    @Test
+    public void payloadShouldBeCopiedOnFirstAccess() {
+        CharSequenceRecord record = new CharSequenceRecord(header, buffer, 0, 7);
+
+        String payload = record.getPayload();
+        buffer[0] = 'g';
+
+        assertThat(payload).isEqualTo("foo,bar");
+        assertThat(record.getPayload()).isSameAs(payload);
+    }
+
+    @Test
+    public void copyShouldNotReferenceTheSharedBuffer() {
+        CharSequenceRecord record = new CharSequenceRecord(header, buffer, 8, 3);
+
+        StringRecord copy = record.copy();
+        buffer[8] = 'z';
+
+        assertThat(copy).isNotInstanceOf(CharSequenceRecord.class);
+        assertThat(copy.getHeader()).isSameAs(header);
+        assertThat(copy.getPayload()).isEqualTo("baz");
+    }
+
+    @Test
+    public void charSequenceShouldRejectIndexesOutOfTheSlice() {
+        CharSequence charSequence = new CharSequenceRecord(header, buffer, 4, 3).getCharSequence();
+
+        assertThatThrownBy(() -> charSequence.charAt(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> charSequence.subSequence(2, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sliceShouldBeWithinTheBoundsOfTheBuffer() {
+        new CharSequenceRecord(header, buffer, 8, 4);
+    }
+}
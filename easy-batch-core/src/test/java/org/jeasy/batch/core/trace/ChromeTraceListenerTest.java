@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.trace;
+
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.core.job.JobExecutor;
+import org.jeasy.batch.core.reader.IterableRecordReader;
+import org.jeasy.batch.core.writer.StandardOutputRecordWriter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChromeTraceListenerTest {
+
+    private final Path path = Paths.get("target/trace.json");
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void whenJobsEnd_thenTheTraceFileShouldContainJobAndBatchSpans() throws Exception {
+        // given
+        ChromeTraceListener listener = new ChromeTraceListener(path);
+        Job job1 = newJob("job1", listener);
+        Job job2 = newJob("job2", listener);
+
+        // when
+        JobExecutor jobExecutor = new JobExecutor(2);
+        jobExecutor.submitAll(job1, job2);
+        jobExecutor.shutdown();
+        jobExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        listener.close();
+
+        // then
+        String trace = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        assertThat(trace).startsWith("{\"traceEvents\":[");
+        assertThat(trace).contains("\"name\":\"thread_name\"");
+        assertThat(trace).contains("\"name\":\"job1\"", "\"name\":\"job2\"");
+        assertThat(countOccurrences(trace, "\"name\":\"read/process\"")).isEqualTo(4);
+        assertThat(countOccurrences(trace, "\"name\":\"write\"")).isEqualTo(4);
+    }
+
+    @Test
+    public void whenSamplingRateIsZero_thenOnlyJobSpansShouldBeRecorded() throws Exception {
+        // given
+        ChromeTraceListener listener = new ChromeTraceListener(path, 0);
+        Job job = newJob("job", listener);
+
+        // when
+        job.call();
+        listener.export();
+
+        // then
+        String trace = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        assertThat(trace).contains("\"name\":\"job\"");
+        assertThat(trace).doesNotContain("read/process", "\"name\":\"write\"");
+    }
+
+    @Test
+    public void whenJobsEnd_thenTheTraceFileShouldOnlyBeWrittenWhenExported() throws Exception {
+        // given
+        ChromeTraceListener listener = new ChromeTraceListener(path);
+
+        // when
+        newJob("job1", listener).call();
+        newJob("job2", listener).call();
+
+        // then
+        assertThat(path).doesNotExist();
+        listener.close();
+        String trace = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        assertThat(trace).contains("\"name\":\"job1\"", "\"name\":\"job2\"");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenSamplingRateIsInvalid_thenShouldThrowAnIllegalArgumentException() {
+        new ChromeTraceListener(path, 2);
+    }
+
+    private Job newJob(String name, ChromeTraceListener listener) {
+        return new JobBuilder()
+                .named(name)
+                .reader(new IterableRecordReader(asList("foo", "bar", "baz")))
+                .writer(new StandardOutputRecordWriter())
+                .jobListener(listener)
+                .batchListener(listener)
+                .batchSize(2)
+                .build();
+    }
+
+    private int countOccurrences(String string, String substring) {
+        int count = 0;
+        int index = string.indexOf(substring);
+        while (index >= 0) {
+            count++;
+            index = string.indexOf(substring, index + 1);
+        }
+        return count;
+    }
+}
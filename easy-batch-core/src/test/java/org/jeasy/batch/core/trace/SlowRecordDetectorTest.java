@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.trace;
+
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.processor.RecordProcessor;
+import org.jeasy.batch.core.reader.IterableRecordReader;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.core.writer.StandardOutputRecordWriter;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowRecordDetectorTest {
+
+    @Test
+    public void slowestRecordsShouldBeCapturedAndAttachedToTheJobReport() {
+        // given
+        SlowRecordDetector detector = new SlowRecordDetector(2, 5);
+        RecordProcessor<Record, Record> sleepingProcessor = record -> {
+            Thread.sleep(Long.parseLong(record.getPayload().toString().substring(0, 2)));
+            return record;
+        };
+        Job job = new JobBuilder()
+                .reader(new IterableRecordReader(asList("10 foo", "50 slow record", "01 bar", "30 baz")))
+                .processor(detector.stage("sleeper", sleepingProcessor))
+                .writer(new StandardOutputRecordWriter())
+                .pipelineListener(detector)
+                .jobListener(detector)
+                .build();
+
+        // when
+        JobReport jobReport = job.call();
+
+        // then
+        List<SlowRecord> slowestRecords = detector.getSlowestRecords();
+        assertThat(slowestRecords).hasSize(2);
+        SlowRecord slowestRecord = slowestRecords.get(0);
+        assertThat(slowestRecord.getNumber()).isEqualTo(2);
+        assertThat(slowestRecord.getPayload()).isEqualTo("50 sl...");
+        assertThat(slowestRecord.getStage()).isEqualTo("sleeper");
+        assertThat(slowestRecord.getDuration()).isGreaterThanOrEqualTo(50_000_000);
+        assertThat(slowestRecords.get(1).getNumber()).isEqualTo(4);
+        assertThat(jobReport.getMetrics().getCustomMetrics().get(SlowRecordDetector.SLOWEST_RECORDS)).isEqualTo(slowestRecords);
+    }
+
+    @Test
+    public void whenNoStageIsRegistered_thenTheStageShouldBeThePipeline() {
+        // given
+        SlowRecordDetector detector = new SlowRecordDetector();
+        Job job = new JobBuilder()
+                .reader(new IterableRecordReader(asList("foo", "bar")))
+                .writer(new StandardOutputRecordWriter())
+                .pipelineListener(detector)
+                .build();
+
+        // when
+        job.call();
+
+        // then
+        List<SlowRecord> slowestRecords = detector.getSlowestRecords();
+        assertThat(slowestRecords).hasSize(2);
+        assertThat(slowestRecords).extracting(SlowRecord::getStage).containsOnly("pipeline");
+    }
+
+    @Test
+    public void whenTheDetectorIsSharedByMultipleJobs_thenEachJobReportShouldHoldItsOwnSlowestRecords() {
+        // given
+        SlowRecordDetector detector = new SlowRecordDetector(2, 10);
+        Job job1 = sharingJob("job1", detector, "foo", "bar");
+        Job job2 = sharingJob("job2", detector, "baz");
+
+        // when
+        JobReport jobReport1 = job1.call();
+        JobReport jobReport2 = job2.call();
+
+        // then
+        assertThat(jobReport1.getMetrics().getCustomMetrics().get(SlowRecordDetector.SLOWEST_RECORDS))
+                .isEqualTo(detector.getSlowestRecords("job1"));
+        assertThat(detector.getSlowestRecords("job1")).extracting(SlowRecord::getPayload).containsOnly("foo", "bar");
+        assertThat(jobReport2.getMetrics().getCustomMetrics().get(SlowRecordDetector.SLOWEST_RECORDS))
+                .isEqualTo(detector.getSlowestRecords("job2"));
+        assertThat(detector.getSlowestRecords("job2")).extracting(SlowRecord::getPayload).containsExactly("baz");
+        assertThat(detector.getSlowestRecords()).hasSize(2);
+        assertThat(detector.getSlowestRecords("unknown")).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenCapacityIsInvalid_thenShouldThrowAnIllegalArgumentException() {
+        new SlowRecordDetector(0, 10);
+    }
+
+    private Job sharingJob(String name, SlowRecordDetector detector, String... records) {
+        return new JobBuilder()
+                .named(name)
+                .reader(new IterableRecordReader(asList(records)))
+                .writer(new StandardOutputRecordWriter())
+                .pipelineListener(detector)
+                .jobListener(detector)
+                .build();
+    }
+}
@@ -96,4 +96,18 @@ public class UtilsTest {
         assertThat(list).containsExactly(payload1, payload2);
     }
 
+    @Test
+    public void testCharSequenceLookups() throws Exception {
+        CharSequence sequence = new StringBuilder("java rocks!");
+
+        assertThat(Utils.startsWith(sequence, "java")).isTrue();
+        assertThat(Utils.startsWith(sequence, "rocks")).isFalse();
+        assertThat(Utils.endsWith(sequence, "rocks!")).isTrue();
+        assertThat(Utils.endsWith(sequence, "java")).isFalse();
+        assertThat(Utils.contains(sequence, "a r")).isTrue();
+        assertThat(Utils.contains(sequence, "")).isTrue();
+        assertThat(Utils.contains(sequence, "rocks!!")).isFalse();
+        assertThat(Utils.endsWith("", "java")).isFalse();
+    }
+
 }
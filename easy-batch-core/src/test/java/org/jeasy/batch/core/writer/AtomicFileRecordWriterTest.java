@@ -0,0 +1,182 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.job.Job;
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.core.job.JobReport;
+import org.jeasy.batch.core.job.JobStatus;
+import org.jeasy.batch.core.reader.IterableRecordReader;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link AtomicFileRecordWriter}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class AtomicFileRecordWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path path;
+    private Path stagedPath;
+    private Path journal;
+
+    @Before
+    public void setUp() {
+        path = temporaryFolder.getRoot().toPath().resolve("out.csv");
+        stagedPath = path.resolveSibling("out.csv.tmp");
+        journal = path.resolveSibling("out.csv.journal");
+    }
+
+    @Test
+    public void outputFileShouldAppearWhenJobCompletes() throws Exception {
+        AtomicFileRecordWriter writer = newWriter();
+        Job job = new JobBuilder()
+                .batchSize(2)
+                .reader(new IterableRecordReader(Arrays.asList("a", "b", "c")))
+                .writer(writer)
+                .jobListener(writer)
+                .build();
+
+        JobReport report = job.call();
+
+        assertThat(report.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(path).hasContent("a\nb\nc\n");
+        assertThat(stagedPath).doesNotExist();
+        assertThat(journal).doesNotExist();
+    }
+
+    @Test
+    public void writingShouldResumeAfterLastCheckpointOfAFailedRun() throws Exception {
+        // first run: the first batch is committed, the second one is partially written before a crash
+        AtomicFileRecordWriter writer = newWriter();
+        writer.open();
+        writer.writeRecords(new Batch(record(1, "a"), record(2, "b")));
+        writer.close();
+        Files.write(stagedPath, "c\npartial".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        writer.afterJobEnd(report(JobStatus.FAILED));
+
+        assertThat(path).doesNotExist();
+        assertThat(journal).exists();
+
+        // second run: records are read again from the beginning
+        writer = newWriter();
+        writer.open();
+        assertThat(writer.getCommittedRecordNumber()).isEqualTo(2);
+        writer.writeRecords(new Batch(record(1, "a"), record(2, "b")));
+        writer.writeRecords(new Batch(record(3, "c"), record(4, "d")));
+        writer.close();
+        writer.afterJobEnd(report(JobStatus.COMPLETED));
+
+        assertThat(path).hasContent("a\nb\nc\nd\n");
+        assertThat(stagedPath).doesNotExist();
+        assertThat(journal).doesNotExist();
+    }
+
+    @Test
+    public void otherJournalPropertiesShouldBeKept() throws Exception {
+        Path sharedJournal = temporaryFolder.newFile("job.journal").toPath();
+        Files.write(sharedJournal, "job.status=STARTED\n".getBytes(StandardCharsets.UTF_8));
+        AtomicFileRecordWriter writer = new AtomicFileRecordWriter(path, sharedJournal);
+        writer.setLineSeparator("\n");
+        writer.open();
+        writer.writeRecords(new Batch(record(1, "a")));
+
+        assertThat(new String(Files.readAllBytes(sharedJournal), StandardCharsets.UTF_8))
+                .contains("job.status=STARTED")
+                .contains(AtomicFileRecordWriter.COMMITTED_LENGTH_KEY + "=2")
+                .contains(AtomicFileRecordWriter.COMMITTED_RECORD_KEY + "=1");
+
+        writer.close();
+        writer.afterJobEnd(report(JobStatus.COMPLETED));
+
+        assertThat(new String(Files.readAllBytes(sharedJournal), StandardCharsets.UTF_8))
+                .contains("job.status=STARTED")
+                .doesNotContain(AtomicFileRecordWriter.COMMITTED_LENGTH_KEY);
+    }
+
+    @Test
+    public void whenStagedFileCannotBeMoved_thenJobShouldFail() throws Exception {
+        // a non empty directory cannot be replaced by the staged file
+        Files.createDirectories(path.resolve("sub"));
+        AtomicFileRecordWriter writer = newWriter();
+        writer.open();
+        writer.writeRecords(new Batch(record(1, "a")));
+        writer.close();
+        JobReport report = report(JobStatus.COMPLETED);
+
+        writer.afterJobEnd(report);
+
+        assertThat(report.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(report.getLastError()).isInstanceOf(IOException.class);
+        assertThat(stagedPath).exists();
+        // the checkpoint is cleared before the move, the next run starts over
+        assertThat(journal).doesNotExist();
+    }
+
+    @Test(expected = Exception.class)
+    public void whenStagedFileIsShorterThanTheCheckpoint_thenOpenShouldFail() throws Exception {
+        AtomicFileRecordWriter writer = newWriter();
+        writer.open();
+        writer.writeRecords(new Batch(record(1, "a")));
+        writer.close();
+        Files.delete(stagedPath);
+
+        newWriter().open();
+    }
+
+    private AtomicFileRecordWriter newWriter() {
+        AtomicFileRecordWriter writer = new AtomicFileRecordWriter(path);
+        writer.setLineSeparator("\n");
+        return writer;
+    }
+
+    private StringRecord record(long number, String payload) {
+        return new StringRecord(new Header(number, "test", new Date()), payload);
+    }
+
+    private JobReport report(JobStatus status) {
+        JobReport report = new JobReport();
+        report.setStatus(status);
+        return report;
+    }
+}
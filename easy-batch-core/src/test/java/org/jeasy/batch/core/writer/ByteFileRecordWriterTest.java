@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.record.Header;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.batch.core.util.Utils.LINE_SEPARATOR;
+
+/**
+ * Test class for {@link ByteFileRecordWriter}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ByteFileRecordWriterTest {
+
+    private final Path path = Paths.get("target/test-bytes.txt");
+
+    @Mock
+    private Header header;
+
+    private ByteFileRecordWriter writer;
+
+    @Before
+    public void setUp() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void testFileWriting() throws Exception {
+        writer = new ByteFileRecordWriter(path);
+        writer.open();
+
+        writer.writeRecords(new Batch(record("foo"), record("bar")));
+
+        assertThat(path).hasContent("foo" + LINE_SEPARATOR + "bar" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void recordsLargerThanTheBufferShouldBeWrittenInOrder() throws Exception {
+        writer = new ByteFileRecordWriter(path, 16);
+        writer.setLineSeparator(new byte[]{'\n'});
+        writer.open();
+
+        writer.writeRecords(new Batch(record("a"), record("larger than the write buffer"), record("b")));
+        writer.writeRecords(new Batch(record("c")));
+
+        assertThat(path).hasContent("a\nlarger than the write buffer\nb\nc\n");
+    }
+
+    @Test
+    public void onlyRemainingBytesOfPayloadsShouldBeWritten() throws Exception {
+        writer = new ByteFileRecordWriter(path);
+        writer.setLineSeparator(new byte[]{'\n'});
+        writer.open();
+        ByteBuffer payload = ByteBuffer.wrap("skipped:written".getBytes(StandardCharsets.UTF_8));
+        payload.position(8);
+
+        writer.writeRecords(new Batch(new ByteRecord(header, payload)));
+
+        assertThat(path).hasContent("written\n");
+        assertThat(payload.position()).isEqualTo(8);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        writer.close();
+        Files.delete(path);
+    }
+
+    private ByteRecord record(String payload) {
+        return new ByteRecord(header, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.core.writer;
+
+import org.jeasy.batch.core.marshaller.AppendableWriter;
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.record.CharSequenceRecord;
+import org.jeasy.batch.core.record.GenericRecord;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.batch.core.util.Utils.LINE_SEPARATOR;
+
+/**
+ * Test class for {@link NioFileRecordWriter}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class NioFileRecordWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Header header = new Header(1L, "test", new Date());
+
+    private NioFileRecordWriter writer;
+
+    @Test
+    public void testFileWriting() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("out.txt");
+        writer = new NioFileRecordWriter(path);
+        writer.open();
+
+        writer.writeRecords(new Batch(new StringRecord(header, "foo"), new StringRecord(header, "bar")));
+
+        assertThat(path).hasContent("foo" + LINE_SEPARATOR + "bar" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void allPayloadTypesShouldBeWrittenThroughASmallBuffer() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("out.txt");
+        writer = new NioFileRecordWriter(path, 16);
+        writer.setCharset(StandardCharsets.UTF_8);
+        writer.setLineSeparator("\n");
+        writer.setSyncPolicy(NioFileRecordWriter.SyncPolicy.PERIODIC);
+        writer.open();
+
+        char[] buffer = "ignored, été comme hiver".toCharArray();
+        writer.writeRecords(new Batch(
+                new CharSequenceRecord(header, buffer, 9, 15),
+                new ByteRecord(header, "bytes".getBytes(StandardCharsets.UTF_8)),
+                new GenericRecord<>(header, 42)));
+        writer.writeRecords(new Batch(new StringRecord(header, "a record larger than the buffer")));
+        writer.close();
+
+        assertThat(path).usingCharset(StandardCharsets.UTF_8)
+                .hasContent("été comme hiver\nbytes\n42\na record larger than the buffer\n");
+    }
+
+    @Test
+    public void filesShouldBeRolledByRecordCount() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("out.csv");
+        writer = new NioFileRecordWriter(path);
+        writer.setLineSeparator("\n");
+        writer.setMaxRecordsPerFile(2);
+        writer.open();
+
+        writer.writeRecords(new Batch(record("a"), record("b"), record("c")));
+        writer.writeRecords(new Batch(record("d")));
+        writer.close();
+
+        assertThat(path).hasContent("a\nb\n");
+        assertThat(path.resolveSibling("out-1.csv")).hasContent("c\nd\n");
+        // no empty file is created after the last record
+        assertThat(path.resolveSibling("out-2.csv")).doesNotExist();
+        assertThat(writer.getCurrentPath()).isEqualTo(path.resolveSibling("out-1.csv"));
+    }
+
+    @Test
+    public void filesShouldBeRolledBySize() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("out");
+        writer = new NioFileRecordWriter(path);
+        writer.setLineSeparator("\n");
+        writer.setMaxFileSize(6);
+        writer.setSyncPolicy(NioFileRecordWriter.SyncPolicy.ON_CLOSE);
+        writer.open();
+
+        writer.writeRecords(new Batch(record("foo"), record("bar"), record("bazqux"), record("x")));
+        writer.close();
+
+        assertThat(path).hasContent("foo\nbar\n");
+        assertThat(path.resolveSibling("out-1")).hasContent("bazqux\n");
+        assertThat(path.resolveSibling("out-2")).hasContent("x\n");
+    }
+
+    @Test
+    public void charactersWrittenByAMarshallerShouldBeEncodedInOrder() throws Exception {
+        Path path = temporaryFolder.newFile().toPath();
+        writer = new NioFileRecordWriter(path, 1024);
+        writer.setCharset(StandardCharsets.UTF_8);
+        writer.setLineSeparator("\n");
+        // larger than the buffers of the writer, written as arrays of characters
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            payload.append("café").append(i);
+        }
+        writer.setMarshaller(new StreamingRecordMarshaller<StringRecord, StringRecord>() {
+            @Override
+            public void marshal(StringRecord record, Appendable sink) throws Exception {
+                new AppendableWriter(sink).write(record.getPayload().toCharArray());
+            }
+
+            @Override
+            public StringRecord processRecord(StringRecord record) {
+                return record;
+            }
+        });
+        writer.open();
+
+        writer.writeRecords(new Batch(record(payload.toString()), record("last")));
+        writer.close();
+
+        assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).isEqualTo(payload + "\nlast\n");
+    }
+
+    @Test
+    public void recordsShouldBeAppendedToExistingFile() throws Exception {
+        Path path = temporaryFolder.newFile().toPath();
+        Files.write(path, "existing\n".getBytes(StandardCharsets.UTF_8));
+        writer = new NioFileRecordWriter(path);
+        writer.setLineSeparator("\n");
+        writer.setAppend(true);
+        writer.open();
+
+        writer.writeRecords(new Batch(record("new")));
+
+        assertThat(path).hasContent("existing\nnew\n");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        writer.close();
+    }
+
+    private StringRecord record(String payload) {
+        return new StringRecord(header, payload);
+    }
+}
@@ -42,6 +42,7 @@ import java.io.StringReader;
 public class ApacheCommonCsvRecordMapper<P> extends AbstractRecordMapper<P> implements RecordMapper<StringRecord, Record<P>> {
 
     private CSVFormat csvFormat = CSVFormat.newFormat(',');
+    private String[] columns;
 
     /**
      * Create a new {@link ApacheCommonCsvRecordMapper}.
@@ -51,6 +52,7 @@ public class ApacheCommonCsvRecordMapper<P> extends AbstractRecordMapper<P> impl
      */
     public ApacheCommonCsvRecordMapper(Class<P> recordClass, String... columns) {
         super(recordClass);
+        this.columns = columns;
         csvFormat = csvFormat.withHeader(columns);
     }
 
@@ -60,7 +62,17 @@ public class ApacheCommonCsvRecordMapper<P> extends AbstractRecordMapper<P> impl
         CSVParser csvParser = csvFormat.parse(new StringReader(payload));
         CSVRecord csvRecord = csvParser.iterator().next();
         csvParser.close();
-        return new GenericRecord<>(record.getHeader(), objectMapper.mapObject(csvRecord.toMap()));
+        if (columns.length == 0) {
+            return new GenericRecord<>(record.getHeader(), objectMapper.mapObject(csvRecord.toMap()));
+        }
+        if (mappingPlan == null) {
+            mappingPlan = mappingPlanFactory.createMappingPlan(columns);
+        }
+        String[] values = new String[csvRecord.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = csvRecord.get(i);
+        }
+        return new GenericRecord<>(record.getHeader(), mappingPlan.mapObject(values));
     }
 
     /*
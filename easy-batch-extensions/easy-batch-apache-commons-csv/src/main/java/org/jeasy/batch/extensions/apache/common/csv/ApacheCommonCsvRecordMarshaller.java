@@ -28,19 +28,21 @@ import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.QuoteMode;
 import org.jeasy.batch.core.field.BeanFieldExtractor;
 import org.jeasy.batch.core.field.FieldExtractor;
-import org.jeasy.batch.core.marshaller.RecordMarshaller;
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
 
 import java.beans.IntrospectionException;
-import java.io.StringWriter;
 
 /**
  * Marshals a POJO to CSV format using <a href="http://commons.apache.org/proper/commons-csv/">Apache Common CSV</a>.
  *
+ * When marshalling to a sink, the {@link CSVPrinter} is reused as long as records are marshalled
+ * to the same sink.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ApacheCommonCsvRecordMarshaller<P> implements RecordMarshaller<Record<P>, StringRecord> {
+public class ApacheCommonCsvRecordMarshaller<P> implements StreamingRecordMarshaller<Record<P>, StringRecord> {
 
     /**
      * Default delimiter.
@@ -53,6 +55,8 @@ public class ApacheCommonCsvRecordMarshaller<P> implements RecordMarshaller<Reco
 
     private final FieldExtractor<P> fieldExtractor;
     private CSVFormat csvFormat;
+    private CSVPrinter csvPrinter;
+    private Appendable sink;
 
     /**
      * Create a new {@link ApacheCommonCsvRecordMarshaller}.
@@ -108,13 +112,19 @@ public class ApacheCommonCsvRecordMarshaller<P> implements RecordMarshaller<Reco
 
     @Override
     public StringRecord processRecord(final Record<P> record) throws Exception {
-        StringWriter stringWriter = new StringWriter();
-        CSVPrinter csvPrinter = new CSVPrinter(stringWriter, csvFormat);
-        Iterable<Object> iterable = fieldExtractor.extractFields(record.getPayload());
-        csvPrinter.printRecord(iterable);
-        csvPrinter.flush();
-        csvPrinter.close();
-        return new StringRecord(record.getHeader(), stringWriter.toString());
+        StringBuilder stringBuilder = new StringBuilder();
+        new CSVPrinter(stringBuilder, csvFormat).printRecord(fieldExtractor.extractFields(record.getPayload()));
+        return new StringRecord(record.getHeader(), stringBuilder.toString());
+    }
+
+    @Override
+    public void marshal(final Record<P> record, final Appendable sink) throws Exception {
+        // the printer is neither flushed nor closed, since it would flush or close the sink
+        if (sink != this.sink) {
+            this.csvPrinter = new CSVPrinter(sink, csvFormat);
+            this.sink = sink;
+        }
+        csvPrinter.printRecord(fieldExtractor.extractFields(record.getPayload()));
     }
 
 }
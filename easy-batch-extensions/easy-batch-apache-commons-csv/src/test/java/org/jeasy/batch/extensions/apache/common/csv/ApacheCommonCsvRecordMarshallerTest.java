@@ -58,4 +58,19 @@ public class ApacheCommonCsvRecordMarshallerTest {
 
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void marshalToSink() throws Exception {
+        Foo foo = new Foo();
+        foo.setFirstName("foo");
+        foo.setLastName("bar");
+        when(record.getPayload()).thenReturn(foo);
+        StringBuilder sink = new StringBuilder();
+
+        marshaller.marshal(record, sink);
+        sink.append('|');
+        marshaller.marshal(record, sink);
+
+        assertThat(sink.toString()).isEqualTo("'foo';'bar';'false'|'foo';'bar';'false'");
+    }
 }
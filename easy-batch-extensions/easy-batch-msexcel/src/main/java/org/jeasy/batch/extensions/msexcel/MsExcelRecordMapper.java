@@ -25,14 +25,12 @@ package org.jeasy.batch.extensions.msexcel;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
+import org.jeasy.batch.core.mapper.MappingPlan;
 import org.jeasy.batch.core.mapper.ObjectMapper;
 import org.jeasy.batch.core.mapper.RecordMapper;
 import org.jeasy.batch.core.record.GenericRecord;
 import org.jeasy.batch.core.record.Record;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Mapper that unmarshal MS Excel records to Java objects.
  *
@@ -41,7 +39,7 @@ import java.util.Map;
 public class MsExcelRecordMapper<P> implements RecordMapper<MsExcelRecord, Record<P>> {
 
     private String[] fields;
-    private ObjectMapper<P> objectMapper;
+    private MappingPlan<P> mappingPlan;
 
     /**
      * Create a new {@link MsExcelRecordMapper}.
@@ -51,21 +49,21 @@ public class MsExcelRecordMapper<P> implements RecordMapper<MsExcelRecord, Recor
      */
     public MsExcelRecordMapper(final Class<P> type, final String... fields) {
         this.fields = fields;
-        objectMapper = new ObjectMapper<>(type);
+        mappingPlan = new ObjectMapper<>(type).createMappingPlan(fields);
     }
 
     public Record<P> processRecord(MsExcelRecord msExcelRecord) throws Exception {
-        P unmarshalledObject = objectMapper.mapObject(toMap(msExcelRecord.getPayload()));
+        P unmarshalledObject = mappingPlan.mapObject(toValues(msExcelRecord.getPayload()));
         return new GenericRecord<>(msExcelRecord.getHeader(), unmarshalledObject);
     }
 
-    private Map<String, String> toMap(final Row row) {
-        Map<String, String> map = new HashMap<>();
+    private String[] toValues(final Row row) {
+        String[] values = new String[fields.length];
         for (int i = 0; i < fields.length; ++i) {
             Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            map.put(fields[i], getCellValue(cell));
+            values[i] = getCellValue(cell);
         }
-        return map;
+        return values;
     }
 
     private String getCellValue(Cell cell) {
@@ -0,0 +1,172 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.reader.AbstractFileRecordReader;
+import org.jeasy.batch.core.reader.RecordReader;
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+/**
+ * A {@link RecordReader} implementation that reads lines of a flat file as {@link ByteRecord}s.
+ *
+ * Lines are not decoded: the file is read into shared buffers of bytes and each record is a view
+ * over a range of one of them, without its line terminator. This reader is intended for pass-through
+ * jobs which do not inspect the content of records, like copying a file with a
+ * {@link org.jeasy.batch.core.filter.ByteGrepFilter} to a {@link org.jeasy.batch.core.writer.ByteFileRecordWriter}.
+ *
+ * A buffer is never overwritten once records have been created over it: a new buffer is allocated
+ * when the current one is full, and old buffers are garbage collected once their records are written.
+ * Records that are retained after being written should be copied with {@link ByteRecord#copy()}.
+ *
+ * Lines are terminated by a line feed, a carriage return or a carriage return followed by a line feed,
+ * so the file should be encoded in a charset in which these are single ASCII bytes, like UTF-8 or ISO-8859-1.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ByteFlatFileRecordReader extends AbstractFileRecordReader {
+
+    /**
+     * The default number of bytes of shared buffers.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final int bufferSize;
+    private byte[] buffer;
+    private InputStream inputStream;
+    private int lineStart;
+    private int position;
+    private int limit;
+    // true if the last line ended with a carriage return, which may be followed by a line feed
+    private boolean skipLineFeed;
+    private long currentRecordNumber;
+    private String dataSourceName;
+
+    /**
+     * Create a new {@link ByteFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     */
+    public ByteFlatFileRecordReader(final Path path) {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new {@link ByteFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param bufferSize number of bytes of shared buffers. Buffers are enlarged for lines that do not fit.
+     */
+    public ByteFlatFileRecordReader(final Path path, final int bufferSize) {
+        super(path);
+        Utils.checkArgument(bufferSize > 0, "The buffer size must be greater than zero");
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void open() throws Exception {
+        currentRecordNumber = 0;
+        buffer = new byte[bufferSize];
+        lineStart = 0;
+        position = 0;
+        limit = 0;
+        skipLineFeed = false;
+        dataSourceName = path.toAbsolutePath().toString();
+        inputStream = Files.newInputStream(path);
+    }
+
+    @Override
+    public ByteRecord readRecord() throws IOException {
+        lineStart = position;
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == LINE_FEED) {
+                position++;
+            }
+            lineStart = position;
+        }
+        while (true) {
+            while (position < limit) {
+                byte current = buffer[position];
+                if (current == LINE_FEED || current == CARRIAGE_RETURN) {
+                    ByteRecord record = newRecord(position - lineStart);
+                    position++;
+                    skipLineFeed = current == CARRIAGE_RETURN;
+                    return record;
+                }
+                position++;
+            }
+            if (!fill()) {
+                // last line without line terminator
+                return position > lineStart ? newRecord(position - lineStart) : null;
+            }
+        }
+    }
+
+    private ByteRecord newRecord(final int length) {
+        Header header = new Header(++currentRecordNumber, dataSourceName, new Date());
+        return new ByteRecord(header, ByteBuffer.wrap(buffer, lineStart, length).slice());
+    }
+
+    /*
+     * Read more bytes after the limit. When the buffer is full, the current line is moved
+     * to a new buffer: the previous one is still used by records and must not be overwritten.
+     */
+    private boolean fill() throws IOException {
+        if (limit == buffer.length) {
+            int lineLength = limit - lineStart;
+            byte[] newBuffer = new byte[Math.max(bufferSize, lineLength * 2)];
+            System.arraycopy(buffer, lineStart, newBuffer, 0, lineLength);
+            buffer = newBuffer;
+            position -= lineStart;
+            limit = lineLength;
+            lineStart = 0;
+        }
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inputStream != null) {
+            inputStream.close();
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.listener.BatchListener;
+import org.jeasy.batch.core.reader.AbstractFileRecordReader;
+import org.jeasy.batch.core.reader.RecordReader;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.CharSequenceRecord;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+
+/**
+ * A {@link RecordReader} implementation that reads lines of a flat file as {@link CharSequenceRecord}s.
+ *
+ * Lines are not copied to a {@code String} per record: the file is decoded into shared buffers of
+ * characters and each record is a view over a range of one of them. Filters and mappers working on
+ * {@link org.jeasy.batch.core.record.StringRecord#getCharSequence()} (like the {@link DelimitedRecordMapper},
+ * the {@link FixedLengthRecordMapper} or the {@code GrepFilter}) process records without copying them.
+ *
+ * A buffer is not overwritten while records created over it may still be in use: when the current buffer
+ * is full, reading goes on in a new one. By default, full buffers are left to the garbage collector, which
+ * costs one allocation per buffer but lets records be retained after being written. Records retained after
+ * being written should then be copied with {@link CharSequenceRecord#copy()}, so that they do not keep their
+ * whole buffer in memory.
+ *
+ * To avoid these allocations, register this reader as a {@link BatchListener} of the job: full buffers
+ * are then recycled once the batch that was being read when they were filled has been written. In this
+ * case, records <strong>must not</strong> be used once their batch has been written (neither by a
+ * writer keeping references to them, nor by a listener), unless they were copied.
+ *
+ * Lines are terminated by a line feed, a carriage return or a carriage return followed by a line feed.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class CharSequenceFlatFileRecordReader extends AbstractFileRecordReader implements BatchListener {
+
+    /**
+     * The default number of characters of shared buffers.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final int bufferSize;
+    // full buffers which may still be used by records of the batch being read
+    private final Deque<char[]> fullBuffers = new ArrayDeque<>();
+    // buffers of written records, which can be reused
+    private final Deque<char[]> freeBuffers = new ArrayDeque<>();
+    private char[] buffer;
+    private Reader reader;
+    private int lineStart;
+    private int position;
+    private int limit;
+    // true if the last line ended with a carriage return, which may be followed by a line feed
+    private boolean skipLineFeed;
+    private long currentRecordNumber;
+    private String dataSourceName;
+
+    /**
+     * Create a new {@link CharSequenceFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     */
+    public CharSequenceFlatFileRecordReader(final Path path) {
+        this(path, Charset.defaultCharset());
+    }
+
+    /**
+     * Create a new {@link CharSequenceFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     */
+    public CharSequenceFlatFileRecordReader(final Path path, final Charset charset) {
+        this(path, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new {@link CharSequenceFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     * @param bufferSize number of characters of shared buffers. Buffers are enlarged for lines that do not fit.
+     */
+    public CharSequenceFlatFileRecordReader(final Path path, final Charset charset, final int bufferSize) {
+        super(path, charset);
+        Utils.checkArgument(bufferSize > 0, "The buffer size must be greater than zero");
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void open() throws Exception {
+        currentRecordNumber = 0;
+        fullBuffers.clear();
+        freeBuffers.clear();
+        buffer = new char[bufferSize];
+        lineStart = 0;
+        position = 0;
+        limit = 0;
+        skipLineFeed = false;
+        dataSourceName = path.toAbsolutePath().toString();
+        reader = new InputStreamReader(Files.newInputStream(path), charset);
+    }
+
+    @Override
+    public CharSequenceRecord readRecord() throws IOException {
+        lineStart = position;
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == '\n') {
+                position++;
+            }
+            lineStart = position;
+        }
+        while (true) {
+            while (position < limit) {
+                char current = buffer[position];
+                if (current == '\n' || current == '\r') {
+                    CharSequenceRecord record = newRecord(position - lineStart);
+                    position++;
+                    skipLineFeed = current == '\r';
+                    return record;
+                }
+                position++;
+            }
+            if (!fill()) {
+                // last line without line terminator
+                return position > lineStart ? newRecord(position - lineStart) : null;
+            }
+        }
+    }
+
+    private CharSequenceRecord newRecord(final int length) {
+        Header header = new Header(++currentRecordNumber, dataSourceName, new Date());
+        return new CharSequenceRecord(header, buffer, lineStart, length);
+    }
+
+    /*
+     * Read more characters after the limit. When the buffer is full, the current line is moved
+     * to a new buffer: the previous one is still used by records and must not be overwritten.
+     */
+    private boolean fill() throws IOException {
+        if (limit == buffer.length) {
+            int lineLength = limit - lineStart;
+            char[] newBuffer = newBuffer(Math.max(bufferSize, lineLength * 2));
+            if (buffer.length == bufferSize) {
+                fullBuffers.add(buffer);
+            }
+            System.arraycopy(buffer, lineStart, newBuffer, 0, lineLength);
+            buffer = newBuffer;
+            position -= lineStart;
+            limit = lineLength;
+            lineStart = 0;
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    // only buffers of the default size are recycled, enlarged ones are left to the garbage collector
+    private char[] newBuffer(final int size) {
+        if (size == bufferSize && !freeBuffers.isEmpty()) {
+            return freeBuffers.poll();
+        }
+        return new char[size];
+    }
+
+    @Override
+    public void beforeBatchReading() {
+        // no op
+    }
+
+    @Override
+    public void afterBatchProcessing(final Batch batch) {
+        // no op
+    }
+
+    /**
+     * Recycle buffers filled up to the end of the written batch. Records of this batch and
+     * of previous ones must not be used anymore.
+     *
+     * @param batch the batch of records that has been written
+     */
+    @Override
+    public void afterBatchWriting(final Batch batch) {
+        freeBuffers.addAll(fullBuffers);
+        fullBuffers.clear();
+    }
+
+    @Override
+    public void onBatchWritingException(final Batch batch, final Throwable throwable) {
+        // no op, records of the batch may still be used by error handlers
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+}
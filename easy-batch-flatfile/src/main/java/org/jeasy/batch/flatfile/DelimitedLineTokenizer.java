@@ -0,0 +1,294 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Single pass tokenizer of delimited lines, following RFC 4180 for qualified fields.
+ *
+ * The delimiter and the qualifier are matched literally (no regular expressions).
+ * When a qualifier is set, every field must be enclosed with it. Delimiters may appear
+ * inside qualified fields and a doubled qualifier stands for one qualifier character.
+ * A qualifier which is not followed by a delimiter (or by the end of the line) is kept as is.
+ *
+ * Only retained columns are extracted, other columns are scanned but no string is created for them.
+ * Optionally, scanning stops after the last retained column, so that the cost of tokenizing a line
+ * depends on the columns that are used and not on the width of the line.
+ *
+ * Lines can also be split into ranges of characters with {@link #tokenizeRanges(CharSequence, int[], boolean)},
+ * in which case no string is created at all.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class DelimitedLineTokenizer {
+
+    private final String delimiter;
+    private final String qualifier;
+    private final boolean trimWhitespaces;
+
+    private String[] tokens = new String[16];
+    private int[] starts = newRanges(16);
+    private int[] ends = newRanges(16);
+    private int rangesCount;
+    private boolean ranges;
+    private boolean escaped;
+
+    DelimitedLineTokenizer(String delimiter, String qualifier, boolean trimWhitespaces) {
+        this.delimiter = delimiter;
+        this.qualifier = qualifier;
+        this.trimWhitespaces = trimWhitespaces;
+    }
+
+    /**
+     * Split a line into tokens.
+     *
+     * @param line to tokenize
+     * @param retainedColumns indexes of columns to extract in ascending order, or {@code null} to extract all columns
+     * @return an array with a token for each column of the line, {@code null} for columns that are not retained
+     * @throws Exception if a field is not enclosed with the qualifier
+     */
+    String[] tokenize(final CharSequence line, final int[] retainedColumns) throws Exception {
+        return tokenize(line, retainedColumns, false);
+    }
+
+    /**
+     * Split a line into tokens.
+     *
+     * @param line to tokenize
+     * @param retainedColumns indexes of columns to extract in ascending order, or {@code null} to extract all columns
+     * @param stopAfterLastRetainedColumn true to stop scanning the line after the last retained column. In this case,
+     *                                    the returned array has no element for columns after the last retained one
+     * @return an array with a token for each column of the line, {@code null} for columns that are not retained
+     * @throws Exception if a field is not enclosed with the qualifier
+     */
+    String[] tokenize(final CharSequence line, final int[] retainedColumns, final boolean stopAfterLastRetainedColumn) throws Exception {
+        ranges = false;
+        int columns = scan(line, retainedColumns, stopAfterLastRetainedColumn);
+        return Arrays.copyOf(tokens, columns);
+    }
+
+    /**
+     * Split a line into ranges of characters, available with {@link #getStarts()} and {@link #getEnds()}
+     * until the next call. Retained columns are the same as with {@link #tokenize(CharSequence, int[], boolean)}.
+     *
+     * A qualified field with an escaped qualifier can not be represented as a range of the line:
+     * in this case, -1 is returned and the line should be split with {@link #tokenize(CharSequence, int[], boolean)}.
+     *
+     * @param line to tokenize
+     * @param retainedColumns indexes of columns to extract in ascending order, or {@code null} to extract all columns
+     * @param stopAfterLastRetainedColumn true to stop scanning the line after the last retained column
+     * @return the number of columns of the line, or -1 if a retained field has an escaped qualifier
+     * @throws Exception if a field is not enclosed with the qualifier
+     */
+    int tokenizeRanges(final CharSequence line, final int[] retainedColumns, final boolean stopAfterLastRetainedColumn) throws Exception {
+        ranges = true;
+        escaped = false;
+        int columns = scan(line, retainedColumns, stopAfterLastRetainedColumn);
+        // columns of the previous line which are beyond the end of this one have no value
+        Arrays.fill(starts, columns, Math.max(columns, rangesCount), -1);
+        rangesCount = columns;
+        return escaped ? -1 : columns;
+    }
+
+    /**
+     * @return start offsets (inclusive) of columns of the last line split into ranges, -1 for columns
+     * that are not retained or that are beyond the end of the line
+     */
+    int[] getStarts() {
+        return starts;
+    }
+
+    /**
+     * @return end offsets (exclusive) of columns of the last line split into ranges
+     */
+    int[] getEnds() {
+        return ends;
+    }
+
+    private int scan(final CharSequence line, final int[] retainedColumns, final boolean stopAfterLastRetainedColumn) throws Exception {
+        final boolean stopEarly = stopAfterLastRetainedColumn && retainedColumns != null;
+        final int length = line.length();
+        int column = 0;
+        int nextRetained = 0;
+        int position = 0;
+        while (true) {
+            boolean retained = retainedColumns == null;
+            if (!retained && nextRetained < retainedColumns.length && retainedColumns[nextRetained] == column) {
+                retained = true;
+                nextRetained++;
+            }
+            int end = qualifier.isEmpty() ? readField(line, position, retained, column) : readQualifiedField(line, position, retained, column);
+            column++;
+            if (end == length || (stopEarly && nextRetained == retainedColumns.length)) {
+                break;
+            }
+            position = end + delimiter.length();
+        }
+        return column;
+    }
+
+    // returns the index of the delimiter ending the field, or the length of the line
+    private int readField(final CharSequence line, final int position, final boolean retained, final int column) {
+        int end = indexOfDelimiter(line, position);
+        if (retained) {
+            int start = position;
+            int stop = end;
+            if (trimWhitespaces) {
+                start = skipWhitespaces(line, start, stop);
+                while (stop > start && line.charAt(stop - 1) <= ' ') {
+                    stop--;
+                }
+            }
+            store(column, line, start, stop);
+        } else {
+            store(column, null, -1, -1);
+        }
+        return end;
+    }
+
+    private int readQualifiedField(final CharSequence line, final int position, final boolean retained, final int column) throws Exception {
+        final int length = line.length();
+        final int qualifierLength = qualifier.length();
+        int start = trimWhitespaces ? skipWhitespaces(line, position, length) : position;
+        if (!startsWith(line, qualifier, start)) {
+            throw notQualified(line, position);
+        }
+        StringBuilder unescaped = null;
+        int chunkStart = start + qualifierLength;
+        int index = chunkStart;
+        while (true) {
+            int closing = indexOf(line, qualifier, index);
+            if (closing < 0) {
+                throw notQualified(line, position);
+            }
+            int afterClosing = closing + qualifierLength;
+            if (startsWith(line, qualifier, afterClosing)) {
+                // escaped qualifier
+                if (retained) {
+                    if (ranges) {
+                        escaped = true;
+                    } else {
+                        if (unescaped == null) {
+                            unescaped = new StringBuilder(afterClosing - chunkStart + 16);
+                        }
+                        unescaped.append(line, chunkStart, afterClosing);
+                    }
+                }
+                index = afterClosing + qualifierLength;
+                chunkStart = index;
+                continue;
+            }
+            int end = trimWhitespaces ? skipWhitespaces(line, afterClosing, length) : afterClosing;
+            if (end == length || startsWith(line, delimiter, end)) {
+                if (!retained) {
+                    store(column, null, -1, -1);
+                } else if (unescaped == null) {
+                    store(column, line, chunkStart, closing);
+                } else {
+                    ensureCapacity(column);
+                    tokens[column] = unescaped.append(line, chunkStart, closing).toString();
+                }
+                return end;
+            }
+            // not a closing qualifier, keep it in the field content
+            index = afterClosing;
+        }
+    }
+
+    private int indexOfDelimiter(final CharSequence line, final int from) {
+        int index = indexOf(line, delimiter, from);
+        return index < 0 ? line.length() : index;
+    }
+
+    // same definition of whitespace as String#trim
+    private static int skipWhitespaces(final CharSequence line, int from, final int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int indexOf(final CharSequence line, final String string, final int from) {
+        if (line instanceof String) {
+            return ((String) line).indexOf(string, from);
+        }
+        int last = line.length() - string.length();
+        for (int i = from; i <= last; i++) {
+            if (startsWith(line, string, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(final CharSequence line, final String string, final int offset) {
+        if (line instanceof String) {
+            return ((String) line).startsWith(string, offset);
+        }
+        if (offset < 0 || offset + string.length() > line.length()) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (line.charAt(offset + i) != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // stores the range [start, end) of the line, or no value if line is null
+    private void store(final int column, final CharSequence line, final int start, final int end) {
+        ensureCapacity(column);
+        if (ranges) {
+            starts[column] = start;
+            ends[column] = end;
+        } else {
+            tokens[column] = line == null ? null : Utils.substring(line, start, end);
+        }
+    }
+
+    private void ensureCapacity(final int column) {
+        if (column == tokens.length) {
+            int capacity = column * 2;
+            tokens = Arrays.copyOf(tokens, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            Arrays.fill(starts, column, capacity, -1);
+        }
+    }
+
+    private Exception notQualified(final CharSequence line, final int position) {
+        String field = line.subSequence(position, indexOfDelimiter(line, position)).toString();
+        return new Exception("field [" + field + "] is not enclosed as expected with '" + qualifier + "'");
+    }
+
+    private static int[] newRanges(final int capacity) {
+        int[] ranges = new int[capacity];
+        Arrays.fill(ranges, -1);
+        return ranges;
+    }
+}
@@ -24,13 +24,17 @@
 package org.jeasy.batch.flatfile;
 
 import org.jeasy.batch.core.mapper.AbstractRecordMapper;
-import org.jeasy.batch.core.mapper.ObjectMapper;
+import org.jeasy.batch.core.mapper.GenerateMappers;
+import org.jeasy.batch.core.mapper.MappingPlanFactory;
 import org.jeasy.batch.core.mapper.RecordMapper;
 import org.jeasy.batch.core.record.GenericRecord;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.core.util.Utils;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * DSV to Object mapper implementation.
@@ -59,9 +63,13 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
     private boolean trimWhitespaces = DEFAULT_WHITESPACE_TRIMMING;
     private String qualifier = DEFAULT_QUALIFIER;
     private int recordExpectedLength;
-    private List<Integer> fieldsPositions;
+    // indexes of retained columns in ascending order, null if all columns are retained
+    private int[] fieldsPositions;
+    // true to stop tokenizing records after the last retained column
+    private boolean projectionPushdown;
     private String[] fieldNames;
     private boolean fieldNamesRetrievedFromHeader;
+    private DelimitedLineTokenizer tokenizer;
 
     /**
      * Create a new {@link DelimitedRecordMapper}.
@@ -72,7 +80,6 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
      */
     public DelimitedRecordMapper(final Class<P> recordClass) {
         super(recordClass);
-        objectMapper = new ObjectMapper<>(recordClass);
     }
 
     /**
@@ -102,19 +109,22 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
 
     /**
      * Create a new {@link DelimitedRecordMapper}.
-     * Expected record size will be calculated from the header record.
+     * Records are tokenized only up to the last retained field, so the length of records
+     * is not checked: records must only have enough fields to contain retained ones.
      *
      * @param recordClass     the target domain object class
      * @param fieldsPositions array of indexes of fields to retain
      */
     public DelimitedRecordMapper(final Class<P> recordClass, final Integer... fieldsPositions) {
         this(recordClass);
-        this.fieldsPositions = Arrays.asList(fieldsPositions);
+        this.fieldsPositions = toSortedPositions(fieldsPositions);
+        this.projectionPushdown = true;
     }
 
     /**
      * Create a new {@link DelimitedRecordMapper}.
-     * Expected record size will be calculated from the header record.
+     * Records are tokenized only up to the last retained field, so the length of records
+     * is not checked: records must only have enough fields to contain retained ones.
      *
      * @param recordClass     the target domain object class
      * @param fieldsPositions array of indexes of fields to retain
@@ -123,7 +133,8 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
     public DelimitedRecordMapper(final Class<P> recordClass, final Integer[] fieldsPositions, final String[] fieldNames) {
         this(recordClass);
         this.fieldNames = fieldNames;
-        this.fieldsPositions = Arrays.asList(fieldsPositions);
+        this.fieldsPositions = toSortedPositions(fieldsPositions);
+        this.projectionPushdown = true;
     }
 
     /**
@@ -137,110 +148,138 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
     public DelimitedRecordMapper(final Class<P> recordClass, final Integer[] fieldsPositions, final String[] fieldNames, final int recordExpectedLength) {
         this(recordClass, fieldsPositions, fieldNames);
         this.recordExpectedLength = recordExpectedLength;
+        // the record length is checked, so records are tokenized entirely
+        this.projectionPushdown = false;
+    }
+
+    /**
+     * Create a new {@link DelimitedRecordMapper} that maps records with plans of the given factory,
+     * usually generated at compile time for a class annotated with {@link GenerateMappers}.
+     * If no field names are specified, they will be retrieved from the header record.
+     *
+     * @param mappingPlanFactory the factory of mapping plans
+     * @param fieldNames         a String array containing target type field names in the same order as in the delimited flat file.
+     */
+    public DelimitedRecordMapper(final MappingPlanFactory<P> mappingPlanFactory, final String... fieldNames) {
+        super(mappingPlanFactory);
+        if (fieldNames.length > 0) {
+            this.fieldNames = fieldNames;
+            this.recordExpectedLength = fieldNames.length;
+        }
     }
 
     @Override
     public Record<P> processRecord(final StringRecord record) throws Exception {
-        List<Field> fields = parseRecord(record);
-        Map<String, String> fieldsContents = new HashMap<>();
-        int index = 0;
-        for (Field field : fields) {
-            String fieldName;
-            if (fieldNamesRetrievedFromHeader) {
-                fieldName = fieldNames[field.getIndex()];
-            } else {
-                fieldName = fieldNames[index++];
+        CharSequence payload = record.getCharSequence();
+        if (fieldNames != null) {
+            // map values from ranges of the record, unless a value needs to be unescaped
+            DelimitedLineTokenizer tokenizer = getTokenizer();
+            int columns = tokenizer.tokenizeRanges(payload, fieldsPositions, projectionPushdown);
+            if (columns >= 0) {
+                checkLength(columns);
+                if (mappingPlan == null) {
+                    mappingPlan = mappingPlanFactory.createMappingPlan(getColumnNames(columns));
+                }
+                return new GenericRecord<>(record.getHeader(), mappingPlan.mapObject(payload, tokenizer.getStarts(), tokenizer.getEnds()));
             }
-            String rawContent = field.getRawContent();
-            fieldsContents.put(fieldName, rawContent);
         }
-        return new GenericRecord<>(record.getHeader(), objectMapper.mapObject(fieldsContents));
+        String[] tokens = tokenize(payload);
+        if (mappingPlan == null) {
+            mappingPlan = mappingPlanFactory.createMappingPlan(getColumnNames(tokens.length));
+        }
+        return new GenericRecord<>(record.getHeader(), mappingPlan.mapObject(tokens));
     }
 
     protected List<Field> parseRecord(final StringRecord record) throws Exception {
 
-        String payload = record.getPayload();
-        String[] tokens = payload.split(delimiter, -1);
-
-        setRecordExpectedLength(tokens);
-        setFieldNames(tokens);
-        checkRecordLength(tokens);
-        checkQualifier(tokens);
+        String[] tokens = tokenize(record.getCharSequence());
 
         List<Field> fields = new ArrayList<>();
-        int index = 0;
-        for (String token : tokens) {
-            token = trimWhitespaces(token);
-            token = removeQualifier(token);
-            fields.add(new Field(index++, token));
-        }
-        if (fieldsPositions != null) {
-            filterFields(fields);
+        for (int index = 0; index < tokens.length; index++) {
+            if (isRetained(index)) {
+                fields.add(new Field(index, tokens[index]));
+            }
         }
         return fields;
     }
 
-    private void checkQualifier(String[] tokens) throws Exception {
-        if (qualifier.length() > 0) {
-            for (String token : tokens) {
-                if (!token.startsWith(qualifier) || !token.endsWith(qualifier)) {
-                    throw new Exception("field [" + token + "] is not enclosed as expected with '" + qualifier + "'");
-                }
-            }
+    // tokens of all columns, null for columns that are not retained
+    private String[] tokenize(final CharSequence payload) throws Exception {
+        String[] tokens = getTokenizer().tokenize(payload, fieldsPositions, projectionPushdown);
+        setFieldNames(tokens);
+        checkLength(tokens.length);
+        return tokens;
+    }
+
+    private DelimitedLineTokenizer getTokenizer() {
+        if (tokenizer == null) {
+            tokenizer = new DelimitedLineTokenizer(delimiter, qualifier, trimWhitespaces);
         }
+        return tokenizer;
     }
 
-    private void checkRecordLength(String[] tokens) throws Exception {
-        if (tokens.length != recordExpectedLength) {
-            throw new Exception("record length (" + tokens.length + " fields) not equal to expected length of "
-                    + recordExpectedLength + " fields");
+    private void checkLength(final int columns) throws Exception {
+        if (projectionPushdown) {
+            checkRetainedFields(columns);
+        } else {
+            setRecordExpectedLength(columns);
+            checkRecordLength(columns);
         }
     }
 
-    private void setFieldNames(String[] tokens) {
-        // convention over configuration : if field names are not specified, retrieve them from the header record (done only once)
-        if (fieldNames == null) {
-            fieldNamesRetrievedFromHeader = true;
-            fieldNames = new String[tokens.length];
-            for (int i = 0; i < tokens.length; i++) {
-                String token = tokens[i];
-                token = trimWhitespaces(token);
-                token = removeQualifier(token);
-                fieldNames[i] = token;
+    // field name of each column, or null if the column is not retained
+    private String[] getColumnNames(final int columnCount) {
+        String[] columnNames = new String[columnCount];
+        int index = 0;
+        for (int column = 0; column < columnCount; column++) {
+            if (!isRetained(column)) {
+                continue;
+            }
+            if (fieldNamesRetrievedFromHeader) {
+                columnNames[column] = fieldNames[column];
+            } else if (index < fieldNames.length) {
+                columnNames[column] = fieldNames[index++];
             }
         }
+        return columnNames;
     }
 
-    private void setRecordExpectedLength(String[] tokens) {
-        // convention over configuration : if expected record size is not specified, calculate it from the header record
-        if (this.recordExpectedLength == 0) {
-            this.recordExpectedLength = tokens.length;
+    private boolean isRetained(final int column) {
+        return fieldsPositions == null || Arrays.binarySearch(fieldsPositions, column) >= 0;
+    }
+
+    private static int[] toSortedPositions(final Integer[] fieldsPositions) {
+        return Arrays.stream(fieldsPositions).mapToInt(Integer::intValue).sorted().distinct().toArray();
+    }
+
+    private void checkRecordLength(final int columns) throws Exception {
+        if (columns != recordExpectedLength) {
+            throw new Exception("record length (" + columns + " fields) not equal to expected length of "
+                    + recordExpectedLength + " fields");
         }
     }
 
-    private void filterFields(List<Field> fields) {
-        Iterator<Field> iterator = fields.iterator();
-        while (iterator.hasNext()) {
-            int index = iterator.next().getIndex();
-            if (!fieldsPositions.contains(index)) {
-                iterator.remove();
-            }
+    private void checkRetainedFields(final int columns) throws Exception {
+        int minimumLength = fieldsPositions.length == 0 ? 0 : fieldsPositions[fieldsPositions.length - 1] + 1;
+        if (columns < minimumLength) {
+            throw new Exception("record length (" + columns + " fields) less than expected minimum length of "
+                    + minimumLength + " fields");
         }
     }
 
-    private String trimWhitespaces(final String token) {
-        if (trimWhitespaces) {
-            return token.trim();
+    private void setFieldNames(String[] tokens) {
+        // convention over configuration : if field names are not specified, retrieve them from the header record (done only once)
+        if (fieldNames == null) {
+            fieldNamesRetrievedFromHeader = true;
+            fieldNames = tokens.clone();
         }
-        return token;
     }
 
-    private String removeQualifier(final String token) {
-        int qualifierLength = qualifier.length();
-        if (qualifierLength > 0) {
-            return token.substring(qualifierLength, token.length() - qualifierLength);
+    private void setRecordExpectedLength(final int columns) {
+        // convention over configuration : if expected record size is not specified, calculate it from the header record
+        if (this.recordExpectedLength == 0) {
+            this.recordExpectedLength = columns;
         }
-        return token;
     }
 
     /*
@@ -253,12 +292,10 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
      * @param delimiter the delimiter to use
      */
     public void setDelimiter(final String delimiter) {
-        String prefix = "";
-        //escape the "pipe" character used in regular expression of String.split method
-        if ("|".equals(delimiter)) {
-            prefix = "\\";
-        }
-        this.delimiter = prefix + delimiter;
+        Utils.checkNotNull(delimiter, "delimiter");
+        Utils.checkArgument(!delimiter.isEmpty(), "The delimiter must not be empty");
+        this.delimiter = delimiter;
+        this.tokenizer = null;
     }
 
     /**
@@ -268,6 +305,7 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
      */
     public void setTrimWhitespaces(final boolean trimWhitespaces) {
         this.trimWhitespaces = trimWhitespaces;
+        this.tokenizer = null;
     }
 
     /**
@@ -277,6 +315,7 @@ public class DelimitedRecordMapper<P> extends AbstractRecordMapper<P> implements
      */
     public void setQualifier(final String qualifier) {
         this.qualifier = qualifier;
+        this.tokenizer = null;
     }
 
 }
@@ -25,11 +25,12 @@ package org.jeasy.batch.flatfile;
 
 import org.jeasy.batch.core.field.BeanFieldExtractor;
 import org.jeasy.batch.core.field.FieldExtractor;
-import org.jeasy.batch.core.marshaller.RecordMarshaller;
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
 
 import java.beans.IntrospectionException;
+import java.io.IOException;
 import java.util.Iterator;
 
 /**
@@ -39,7 +40,7 @@ import java.util.Iterator;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DelimitedRecordMarshaller<P> implements RecordMarshaller<Record<P>, StringRecord> {
+public class DelimitedRecordMarshaller<P> implements StreamingRecordMarshaller<Record<P>, StringRecord> {
 
     /**
      * Default delimiter.
@@ -107,18 +108,32 @@ public class DelimitedRecordMarshaller<P> implements RecordMarshaller<Record<P>,
 
     @Override
     public StringRecord processRecord(final Record<P> record) throws Exception {
-        Iterable<Object> values = fieldExtractor.extractFields(record.getPayload());
         StringBuilder stringBuilder = new StringBuilder();
+        marshal(record, stringBuilder);
+        return new StringRecord(record.getHeader(), stringBuilder.toString());
+    }
+
+    @Override
+    public void marshal(final Record<P> record, final Appendable sink) throws Exception {
+        Iterable<Object> values = fieldExtractor.extractFields(record.getPayload());
         Iterator<?> iterator = values.iterator();
         while (iterator.hasNext()) {
             Object value = iterator.next();
-            stringBuilder.append(qualifier);
-            stringBuilder.append(value);
-            stringBuilder.append(qualifier);
+            sink.append(qualifier);
+            append(sink, value);
+            sink.append(qualifier);
             if (iterator.hasNext()) {
-                stringBuilder.append(delimiter);
+                sink.append(delimiter);
             }
         }
-        return new StringRecord(record.getHeader(), stringBuilder.toString());
+    }
+
+    // same representation as StringBuilder#append(Object)
+    private static void append(final Appendable sink, final Object value) throws IOException {
+        if (value instanceof CharSequence) {
+            sink.append((CharSequence) value);
+        } else {
+            sink.append(String.valueOf(value));
+        }
     }
 }
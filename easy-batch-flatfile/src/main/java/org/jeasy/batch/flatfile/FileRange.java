@@ -0,0 +1,91 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import java.nio.file.Path;
+
+/**
+ * A range of bytes of a flat file, aligned to line boundaries.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @see FlatFileSplitter
+ */
+public class FileRange {
+
+    private final Path path;
+    private final int index;
+    private final long start;
+    private final long end;
+    private final long firstRecordNumber;
+
+    /**
+     * Create a new {@link FileRange}.
+     *
+     * @param path              of the file
+     * @param index             of the range in the file, starting from 0
+     * @param start             offset of the first byte of the range (inclusive)
+     * @param end               offset of the last byte of the range (exclusive)
+     * @param firstRecordNumber number of the first line of the range in the file,
+     *                          or 0 if unknown
+     */
+    public FileRange(final Path path, final int index, final long start, final long end, final long firstRecordNumber) {
+        this.path = path;
+        this.index = index;
+        this.start = start;
+        this.end = end;
+        this.firstRecordNumber = firstRecordNumber;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start;
+    }
+
+    /**
+     * @return the number of the first line of the range in the file, or 0 if unknown
+     */
+    public long getFirstRecordNumber() {
+        return firstRecordNumber;
+    }
+
+    @Override
+    public String toString() {
+        return path.toAbsolutePath() + "[" + start + "-" + end + "]";
+    }
+}
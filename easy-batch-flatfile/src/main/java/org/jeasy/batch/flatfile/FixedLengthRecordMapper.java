@@ -24,16 +24,16 @@
 package org.jeasy.batch.flatfile;
 
 import org.jeasy.batch.core.mapper.AbstractRecordMapper;
-import org.jeasy.batch.core.mapper.ObjectMapper;
+import org.jeasy.batch.core.mapper.GenerateMappers;
+import org.jeasy.batch.core.mapper.MappingPlanFactory;
 import org.jeasy.batch.core.mapper.RecordMapper;
 import org.jeasy.batch.core.record.GenericRecord;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.core.util.Utils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Fixed Length Record to Object mapper implementation.
@@ -52,6 +52,9 @@ public class FixedLengthRecordMapper<P> extends AbstractRecordMapper<P> implemen
     private String[] fieldNames;
     private int recordExpectedLength;
     private boolean trimWhitespaces = DEFAULT_WHITESPACE_TRIMMING;
+    // ranges of mapped fields in the current record, reused from one record to another
+    private int[] starts;
+    private int[] ends;
 
     /**
      * Create a new {@link FixedLengthRecordMapper} instance.
@@ -59,51 +62,77 @@ public class FixedLengthRecordMapper<P> extends AbstractRecordMapper<P> implemen
      * @param recordClass  the target domain object class
      * @param fieldsLength an array of fields length in the same order in the FLR flat file.
      * @param fieldNames   a String array representing fields name in the same order in the FLR flat file.
+     *                     A {@code null} name means that the field is not mapped (it is not even extracted from records).
      */
     public FixedLengthRecordMapper(Class<P> recordClass, int[] fieldsLength, String[] fieldNames) {
         super(recordClass);
+        init(fieldsLength, fieldNames);
+    }
+
+    /**
+     * Create a new {@link FixedLengthRecordMapper} that maps records with plans of the given factory,
+     * usually generated at compile time for a class annotated with {@link GenerateMappers}.
+     *
+     * @param mappingPlanFactory the factory of mapping plans
+     * @param fieldsLength       an array of fields length in the same order in the FLR flat file.
+     * @param fieldNames         a String array representing fields name in the same order in the FLR flat file.
+     *                           A {@code null} name means that the field is not mapped (it is not even extracted from records).
+     */
+    public FixedLengthRecordMapper(MappingPlanFactory<P> mappingPlanFactory, int[] fieldsLength, String[] fieldNames) {
+        super(mappingPlanFactory);
+        init(fieldsLength, fieldNames);
+    }
+
+    private void init(int[] fieldsLength, String[] fieldNames) {
         this.fieldsLength = fieldsLength.clone();
         this.fieldNames = fieldNames.clone();
-        objectMapper = new ObjectMapper<>(recordClass);
         for (int fieldLength : fieldsLength) {
             recordExpectedLength += fieldLength;
         }
         fieldsOffsets = calculateOffsets(fieldsLength);
+        starts = new int[fieldsLength.length];
+        ends = new int[fieldsLength.length];
     }
 
     @Override
     public Record<P> processRecord(final StringRecord record) throws Exception {
-
-        List<Field> fields = parseRecord(record);
-        Map<String, String> fieldsContents = new HashMap<>();
-        for (Field field : fields) {
-            String fieldName = fieldNames[field.getIndex()];
-            String fieldValue = field.getRawContent();
-            fieldsContents.put(fieldName, fieldValue);
+        // values are mapped from ranges of the record, no string is created per field
+        CharSequence payload = record.getCharSequence();
+        checkLength(payload);
+        for (int i = 0; i < fieldsLength.length; i++) {
+            if (i >= fieldNames.length || fieldNames[i] == null) {
+                starts[i] = -1;
+                continue;
+            }
+            starts[i] = trimStart(payload, fieldsOffsets[i], fieldsOffsets[i + 1]);
+            ends[i] = trimEnd(payload, starts[i], fieldsOffsets[i + 1]);
+        }
+        if (mappingPlan == null) {
+            mappingPlan = mappingPlanFactory.createMappingPlan(fieldNames);
         }
-        return new GenericRecord<>(record.getHeader(), objectMapper.mapObject(fieldsContents));
+        return new GenericRecord<>(record.getHeader(), mappingPlan.mapObject(payload, starts, ends));
     }
 
     protected List<Field> parseRecord(final StringRecord record) throws Exception {
 
-        String payload = record.getPayload();
-        int recordLength = payload.length();
-
-        if (recordLength != recordExpectedLength) {
-            throw new Exception("record length " + recordLength + " not equal to expected length of " + recordExpectedLength);
-        }
+        CharSequence payload = record.getCharSequence();
+        checkLength(payload);
 
         List<Field> fields = new ArrayList<>();
         for (int i = 0; i < fieldsLength.length; i++) {
-            String token = payload.substring(fieldsOffsets[i], fieldsOffsets[i + 1]);
-            token = trimWhitespaces(token);
-            Field field = new Field(i, token);
+            Field field = new Field(i, extract(payload, fieldsOffsets[i], fieldsOffsets[i + 1]));
             fields.add(field);
         }
 
         return fields;
     }
 
+    private void checkLength(final CharSequence payload) throws Exception {
+        int recordLength = payload.length();
+        if (recordLength != recordExpectedLength) {
+            throw new Exception("record length " + recordLength + " not equal to expected length of " + recordExpectedLength);
+        }
+    }
 
     // utility method to calculate field offsets used to extract fields from record.
     private int[] calculateOffsets(final int[] lengths) {
@@ -115,11 +144,24 @@ public class FixedLengthRecordMapper<P> extends AbstractRecordMapper<P> implemen
         return offsets;
     }
 
-    private String trimWhitespaces(final String token) {
-        if (trimWhitespaces) {
-            return token.trim();
+    // trim in place (same definition of whitespace as String#trim) to create a single string per field
+    private String extract(final CharSequence payload, final int start, final int end) {
+        int trimmedStart = trimStart(payload, start, end);
+        return Utils.substring(payload, trimmedStart, trimEnd(payload, trimmedStart, end));
+    }
+
+    private int trimStart(final CharSequence payload, int start, final int end) {
+        while (trimWhitespaces && start < end && payload.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(final CharSequence payload, final int start, int end) {
+        while (trimWhitespaces && end > start && payload.charAt(end - 1) <= ' ') {
+            end--;
         }
-        return token;
+        return end;
     }
 
     /**
@@ -24,7 +24,7 @@
 package org.jeasy.batch.flatfile;
 
 import org.jeasy.batch.core.field.FieldExtractor;
-import org.jeasy.batch.core.marshaller.RecordMarshaller;
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
 
@@ -35,7 +35,7 @@ import java.beans.IntrospectionException;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FixedLengthRecordMarshaller<P> implements RecordMarshaller<Record<P>, StringRecord> {
+public class FixedLengthRecordMarshaller<P> implements StreamingRecordMarshaller<Record<P>, StringRecord> {
 
     private DelimitedRecordMarshaller<P> delimitedRecordMarshaller;
 
@@ -65,4 +65,9 @@ public class FixedLengthRecordMarshaller<P> implements RecordMarshaller<Record<P
         return new StringRecord(record.getHeader(), delimitedRecordMarshaller.processRecord(record).getPayload());
     }
 
+    @Override
+    public void marshal(final Record<P> record, final Appendable sink) throws Exception {
+        delimitedRecordMarshaller.marshal(record, sink);
+    }
+
 }
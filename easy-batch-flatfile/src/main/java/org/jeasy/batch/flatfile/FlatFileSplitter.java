@@ -0,0 +1,193 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Split a flat file into byte ranges aligned to line boundaries, so that a single file
+ * can be read in parallel by multiple jobs with a {@link MappedFlatFileRecordReader} per range.
+ *
+ * Ranges have about the same size. If the file has a header line, it is excluded from all ranges.
+ * Optionally, lines of each range are counted so that records read from a range keep
+ * their line number in the file. Counting lines requires scanning the whole file.
+ *
+ * Line terminators must be encoded as single ASCII bytes ('\n' or '\r'), which is
+ * the case in UTF-8 and ISO-8859-* charsets for example.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class FlatFileSplitter {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final boolean header;
+    private final boolean countRecords;
+
+    /**
+     * Create a new {@link FlatFileSplitter} for a file without header.
+     *
+     * @param path of the file to split
+     */
+    public FlatFileSplitter(final Path path) {
+        this(path, false);
+    }
+
+    /**
+     * Create a new {@link FlatFileSplitter}.
+     *
+     * @param path   of the file to split
+     * @param header true if the first line of the file is a header line
+     */
+    public FlatFileSplitter(final Path path, final boolean header) {
+        this(path, header, false);
+    }
+
+    /**
+     * Create a new {@link FlatFileSplitter}.
+     *
+     * @param path         of the file to split
+     * @param header       true if the first line of the file is a header line
+     * @param countRecords true to count lines of each range so that records keep their line number in the file
+     */
+    public FlatFileSplitter(final Path path, final boolean header, final boolean countRecords) {
+        Utils.checkNotNull(path, "path");
+        this.path = path;
+        this.header = header;
+        this.countRecords = countRecords;
+    }
+
+    /**
+     * Split the file into ranges. Ranges may be empty if the file has less lines than partitions.
+     *
+     * @param partitions number of ranges
+     * @return the ranges of the file, in order
+     * @throws IOException if the file cannot be read
+     */
+    public List<FileRange> split(final int partitions) throws IOException {
+        Utils.checkArgument(partitions > 0, "The number of partitions must be greater than zero");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = header ? nextLineStart(channel, 0, size) : 0;
+            long[] boundaries = new long[partitions + 1];
+            boundaries[0] = start;
+            boundaries[partitions] = size;
+            for (int i = 1; i < partitions; i++) {
+                long candidate = start + (size - start) / partitions * i;
+                boundaries[i] = Math.max(boundaries[i - 1], alignToLineStart(channel, candidate, size));
+            }
+
+            List<FileRange> ranges = new ArrayList<>(partitions);
+            long recordNumber = header ? 2 : 1;
+            for (int i = 0; i < partitions; i++) {
+                ranges.add(new FileRange(path, i, boundaries[i], boundaries[i + 1], countRecords ? recordNumber : 0));
+                if (countRecords) {
+                    recordNumber += countLines(channel, boundaries[i], boundaries[i + 1]);
+                }
+            }
+            return ranges;
+        }
+    }
+
+    // offset of the start of the line containing the given offset, or of the next line
+    private long alignToLineStart(FileChannel channel, long offset, long size) throws IOException {
+        if (offset == 0 || offset >= size) {
+            return Math.min(offset, size);
+        }
+        byte previous = readByte(channel, offset - 1);
+        if (previous == LINE_FEED || (previous == CARRIAGE_RETURN && readByte(channel, offset) != LINE_FEED)) {
+            return offset;
+        }
+        return nextLineStart(channel, offset, size);
+    }
+
+    // offset following the first line terminator found from the given offset, or the size of the file
+    private long nextLineStart(FileChannel channel, long offset, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = offset;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte current = buffer.get(i);
+                if (current == LINE_FEED) {
+                    return position + i + 1;
+                }
+                if (current == CARRIAGE_RETURN) {
+                    long next = position + i + 1;
+                    return next < size && readByte(channel, next) == LINE_FEED ? next + 1 : next;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private long countLines(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long lines = 0;
+        byte previous = 0;
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte current = buffer.get(i);
+                // a line feed following a carriage return terminates the same line
+                if (current == CARRIAGE_RETURN || (current == LINE_FEED && previous != CARRIAGE_RETURN)) {
+                    lines++;
+                }
+                previous = current;
+            }
+            position += read;
+        }
+        return lines;
+    }
+
+    private byte readByte(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        if (channel.read(buffer, position) <= 0) {
+            return -1;
+        }
+        return buffer.get(0);
+    }
+}
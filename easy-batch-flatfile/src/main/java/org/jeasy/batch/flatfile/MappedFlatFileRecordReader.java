@@ -0,0 +1,240 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.reader.AbstractFileRecordReader;
+import org.jeasy.batch.core.reader.RecordReader;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * A {@link RecordReader} implementation that reads lines of a flat file mapped in memory.
+ *
+ * The file is mapped by windows (64MB by default) and lines are delimited by scanning bytes,
+ * without decoding characters. Like {@link java.io.BufferedReader#readLine()}, a line is
+ * terminated by a line feed ('\n'), a carriage return ('\r') or a carriage return followed
+ * by a line feed.
+ *
+ * This reader produces {@link MappedStringRecord} instances: the payload of a record is decoded
+ * only when it is requested, and ASCII lines are decoded as a plain copy. It supports charsets
+ * in which line terminators are encoded as single ASCII bytes, like UTF-8 or ISO-8859-1.
+ *
+ * This reader can also read a single {@link FileRange} of a file, as created by a {@link FlatFileSplitter}.
+ * In this case, records are numbered from the first record number of the range if it is known,
+ * otherwise from 1 and the data source name of records contains the byte range.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MappedFlatFileRecordReader extends AbstractFileRecordReader {
+
+    /**
+     * Default size of mapped windows.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final long rangeStart;
+    private final long rangeEnd; // -1 for the end of the file
+    private final long firstRecordNumber;
+    private final String dataSourceName;
+    private int windowSize;
+    private FileChannel channel;
+    // offset of the end of data to read, exclusive
+    private long end;
+    private MappedByteBuffer window;
+    private long windowStart;
+    // position in the file of the next line to read
+    private long position;
+    private long currentRecordNumber;
+
+    /**
+     * Create a new {@link MappedFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     */
+    public MappedFlatFileRecordReader(final Path path) {
+        this(path, Charset.defaultCharset());
+    }
+
+    /**
+     * Create a new {@link MappedFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     */
+    public MappedFlatFileRecordReader(final Path path, final Charset charset) {
+        this(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Create a new {@link MappedFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     * @param windowSize size in bytes of mapped windows of the file. A window is enlarged if a line does not fit in it.
+     */
+    public MappedFlatFileRecordReader(final Path path, final Charset charset, final int windowSize) {
+        this(path, charset, windowSize, 0, -1, 1, path.toAbsolutePath().toString());
+    }
+
+    /**
+     * Create a new {@link MappedFlatFileRecordReader} reading a range of a file.
+     *
+     * @param range of the file to read records from
+     * @param charset of the input file
+     */
+    public MappedFlatFileRecordReader(final FileRange range, final Charset charset) {
+        this(range, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Create a new {@link MappedFlatFileRecordReader} reading a range of a file.
+     *
+     * @param range of the file to read records from
+     * @param charset of the input file
+     * @param windowSize size in bytes of mapped windows of the file. A window is enlarged if a line does not fit in it.
+     */
+    public MappedFlatFileRecordReader(final FileRange range, final Charset charset, final int windowSize) {
+        this(range.getPath(), charset, windowSize, range.getStart(), range.getEnd(),
+                range.getFirstRecordNumber() > 0 ? range.getFirstRecordNumber() : 1,
+                range.getFirstRecordNumber() > 0 ? range.getPath().toAbsolutePath().toString() : range.toString());
+    }
+
+    private MappedFlatFileRecordReader(final Path path, final Charset charset, final int windowSize,
+                                       final long rangeStart, final long rangeEnd, final long firstRecordNumber,
+                                       final String dataSourceName) {
+        super(path, charset);
+        Utils.checkNotNull(charset, "charset");
+        Utils.checkArgument(windowSize > 0, "The window size must be greater than zero");
+        Utils.checkArgument(isSupported(charset), "Line terminators must be encoded as single ASCII bytes in charset " + charset);
+        this.windowSize = windowSize;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.firstRecordNumber = firstRecordNumber;
+        this.dataSourceName = dataSourceName;
+    }
+
+    private static boolean isSupported(Charset charset) {
+        return charset.canEncode()
+                && Arrays.equals(new byte[]{LINE_FEED}, "\n".getBytes(charset))
+                && Arrays.equals(new byte[]{CARRIAGE_RETURN}, "\r".getBytes(charset));
+    }
+
+    @Override
+    public void open() throws Exception {
+        currentRecordNumber = firstRecordNumber - 1;
+        position = rangeStart;
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        end = rangeEnd < 0 ? channel.size() : Math.min(rangeEnd, channel.size());
+        if (position < end) {
+            map(position);
+        }
+    }
+
+    @Override
+    public MappedStringRecord readRecord() throws IOException {
+        if (position >= end) {
+            return null;
+        }
+        while (true) {
+            int start = (int) (position - windowStart);
+            int limit = window.limit();
+            boolean lastWindow = windowStart + limit == end;
+            int index = start;
+            int bits = 0;
+            byte current = 0;
+            while (index < limit) {
+                current = window.get(index);
+                if (current == LINE_FEED || current == CARRIAGE_RETURN) {
+                    break;
+                }
+                bits |= current;
+                index++;
+            }
+            if (index < limit) {
+                int next = index + 1;
+                if (current == CARRIAGE_RETURN) {
+                    if (next == limit && !lastWindow) {
+                        // the next byte may be a line feed of the same terminator, remap to read it
+                        remap(start);
+                        continue;
+                    }
+                    if (next < limit && window.get(next) == LINE_FEED) {
+                        next++;
+                    }
+                }
+                position = windowStart + next;
+                return newRecord(start, index - start, bits);
+            }
+            if (lastWindow) {
+                // last line without terminator
+                position = end;
+                return newRecord(start, limit - start, bits);
+            }
+            remap(start);
+        }
+    }
+
+    private MappedStringRecord newRecord(int offset, int length, int bits) {
+        Header header = new Header(++currentRecordNumber, dataSourceName, new Date());
+        return new MappedStringRecord(header, window, offset, length, (bits & 0x80) == 0, charset);
+    }
+
+    // map a new window starting at the current line, enlarged if the line already starts the current window
+    private void remap(int start) throws IOException {
+        if (start == 0) {
+            if (windowSize == Integer.MAX_VALUE) {
+                throw new IOException("Line " + (currentRecordNumber + 1) + " is too long to be mapped in memory");
+            }
+            windowSize = (int) Math.min((long) windowSize * 2, Integer.MAX_VALUE);
+        }
+        map(position);
+    }
+
+    private void map(long start) throws IOException {
+        long size = Math.min(windowSize, end - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.StringRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link StringRecord} backed by a slice of a memory mapped file.
+ *
+ * The payload is decoded only when it is requested for the first time. Byte aware
+ * components can read the raw bytes of the line with {@link #getBytes()} without decoding it.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MappedStringRecord extends StringRecord {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    private final boolean ascii;
+    private final Charset charset;
+
+    /**
+     * Create a new {@link MappedStringRecord}.
+     *
+     * @param header  the record header
+     * @param buffer  holding the bytes of the record
+     * @param offset  of the first byte of the record in the buffer
+     * @param length  number of bytes of the record
+     * @param ascii   true if all bytes of the record are ASCII characters
+     * @param charset used to decode the payload
+     */
+    public MappedStringRecord(final Header header, final ByteBuffer buffer, final int offset, final int length,
+                              final boolean ascii, final Charset charset) {
+        super(header, null);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.ascii = ascii;
+        this.charset = charset;
+    }
+
+    /**
+     * Return the payload of the record, decoded on first access.
+     *
+     * @return the payload of the record
+     */
+    @Override
+    public String getPayload() {
+        if (payload == null) {
+            byte[] bytes = new byte[length];
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset);
+            source.get(bytes);
+            // ASCII is a subset of all supported charsets and is decoded as a plain copy with ISO-8859-1
+            payload = new String(bytes, ascii ? StandardCharsets.ISO_8859_1 : charset);
+        }
+        return payload;
+    }
+
+    /**
+     * Return a read-only view of the bytes of the record, without line terminator.
+     *
+     * @return the bytes of the record
+     */
+    public ByteBuffer getBytes() {
+        ByteBuffer bytes = buffer.asReadOnlyBuffer();
+        bytes.position(offset);
+        bytes.limit(offset + length);
+        return bytes.slice();
+    }
+
+    /**
+     * @return the number of bytes of the record
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return true if all bytes of the record are ASCII characters
+     */
+    public boolean isAscii() {
+        return ascii;
+    }
+
+    /**
+     * @return the charset of the record
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    @Override
+    public String toString() {
+        getPayload();
+        return super.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.reader.AbstractFileRecordReader;
+import org.jeasy.batch.core.reader.RecordReader;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.core.util.Utils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+/**
+ * A {@link RecordReader} implementation that reads records from a delimited flat file
+ * in which qualified fields may span multiple lines (as allowed by RFC 4180).
+ *
+ * The file is read in a single pass: a line terminator ends a record only if it is not
+ * inside a qualified field. Line terminators inside qualified fields are kept as is in
+ * the payload of records. A doubled qualifier inside a qualified field (an escaped qualifier)
+ * does not end the field.
+ *
+ * This reader produces {@link StringRecord} instances that can be mapped with a
+ * {@link DelimitedRecordMapper} configured with the same qualifier. Records are numbered
+ * by logical record, not by physical line.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MultiLineFlatFileRecordReader extends AbstractFileRecordReader {
+
+    /**
+     * The default data qualifier.
+     */
+    public static final String DEFAULT_QUALIFIER = "\"";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char qualifier;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder payload = new StringBuilder();
+    private Reader reader;
+    private int position;
+    private int limit;
+    // true if the last record ended with a carriage return, which may be followed by a line feed
+    private boolean skipLineFeed;
+    private long currentRecordNumber;
+    private String dataSourceName;
+
+    /**
+     * Create a new {@link MultiLineFlatFileRecordReader} with the default qualifier.
+     *
+     * @param path of the file to read records from
+     */
+    public MultiLineFlatFileRecordReader(final Path path) {
+        this(path, Charset.defaultCharset());
+    }
+
+    /**
+     * Create a new {@link MultiLineFlatFileRecordReader} with the default qualifier.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     */
+    public MultiLineFlatFileRecordReader(final Path path, final Charset charset) {
+        this(path, charset, DEFAULT_QUALIFIER);
+    }
+
+    /**
+     * Create a new {@link MultiLineFlatFileRecordReader}.
+     *
+     * @param path of the file to read records from
+     * @param charset of the input file
+     * @param qualifier of fields, a single character
+     */
+    public MultiLineFlatFileRecordReader(final Path path, final Charset charset, final String qualifier) {
+        super(path, charset);
+        Utils.checkNotNull(qualifier, "qualifier");
+        Utils.checkArgument(qualifier.length() == 1, "The qualifier must be a single character");
+        this.qualifier = qualifier.charAt(0);
+    }
+
+    @Override
+    public void open() throws Exception {
+        currentRecordNumber = 0;
+        position = 0;
+        limit = 0;
+        skipLineFeed = false;
+        dataSourceName = path.toAbsolutePath().toString();
+        reader = new InputStreamReader(Files.newInputStream(path), charset);
+    }
+
+    @Override
+    public StringRecord readRecord() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == '\n') {
+                position++;
+            }
+        }
+        payload.setLength(0);
+        boolean qualified = false;
+        boolean endOfFile = true;
+        while (position < limit || fill()) {
+            endOfFile = false;
+            int start = position;
+            while (position < limit) {
+                char current = buffer[position];
+                if (current == qualifier) {
+                    qualified = !qualified;
+                } else if (!qualified && (current == '\n' || current == '\r')) {
+                    payload.append(buffer, start, position - start);
+                    position++;
+                    skipLineFeed = current == '\r';
+                    return newRecord();
+                }
+                position++;
+            }
+            payload.append(buffer, start, position - start);
+        }
+        // last record without line terminator
+        return endOfFile ? null : newRecord();
+    }
+
+    private StringRecord newRecord() {
+        Header header = new Header(++currentRecordNumber, dataSourceName, new Date());
+        return new StringRecord(header, payload.toString());
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, BUFFER_SIZE);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+}
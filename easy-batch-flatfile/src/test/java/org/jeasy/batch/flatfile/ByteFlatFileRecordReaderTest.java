@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.filter.ByteGrepFilter;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.writer.ByteFileRecordWriter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteFlatFileRecordReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ByteFlatFileRecordReader recordReader;
+
+    @Test
+    public void allLineTerminatorsShouldEndRecords() throws Exception {
+        Path file = write("a\nb\r\nc\rd\n\ne");
+
+        List<ByteRecord> records = readAll(file, ByteFlatFileRecordReader.DEFAULT_BUFFER_SIZE);
+
+        assertThat(records).extracting(this::toString).containsExactly("a", "b", "c", "d", "", "e");
+        assertThat(records).extracting(record -> record.getHeader().getNumber()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(records.get(0).getHeader().getSource()).isEqualTo(file.toAbsolutePath().toString());
+    }
+
+    @Test
+    public void recordsShouldStayValidWhenLinesSpanMultipleBuffers() throws Exception {
+        Path file = write("foo\r\nbar baz qux\r\n\r\nlast line without terminator");
+
+        // lines do not fit in a buffer of 4 bytes, and a carriage return ends a buffer
+        List<ByteRecord> records = readAll(file, 4);
+
+        assertThat(records).extracting(this::toString)
+                .containsExactly("foo", "bar baz qux", "", "last line without terminator");
+    }
+
+    @Test
+    public void whenInputFileIsEmpty_thenReadRecordShouldReturnNull() throws Exception {
+        assertThat(readAll(write(""), 16)).isEmpty();
+    }
+
+    @Test
+    public void bytesShouldBeCopiedUnchangedFromInputToOutput() throws Exception {
+        Path file = write("café au lait\nthé\r\ncafé noir\n");
+        Path output = temporaryFolder.newFile().toPath();
+        ByteGrepFilter filter = new ByteGrepFilter("café", StandardCharsets.UTF_8);
+        ByteFileRecordWriter writer = new ByteFileRecordWriter(output, 16);
+        writer.setLineSeparator(new byte[]{'\n'});
+
+        Batch batch = new Batch();
+        for (ByteRecord record : readAll(file, 8)) {
+            if (filter.processRecord(record) != null) {
+                batch.addRecord(record);
+            }
+        }
+        writer.open();
+        writer.writeRecords(batch);
+        writer.close();
+
+        assertThat(output).usingCharset(StandardCharsets.UTF_8).hasContent("café au lait\ncafé noir\n");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recordReader != null) {
+            recordReader.close();
+        }
+    }
+
+    private String toString(ByteRecord record) {
+        return new String(record.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<ByteRecord> readAll(Path file, int bufferSize) throws Exception {
+        recordReader = new ByteFlatFileRecordReader(file, bufferSize);
+        recordReader.open();
+        List<ByteRecord> records = new ArrayList<>();
+        ByteRecord record;
+        while ((record = recordReader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.filter.GrepFilter;
+import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.CharSequenceRecord;
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharSequenceFlatFileRecordReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private CharSequenceFlatFileRecordReader recordReader;
+
+    @Test
+    public void allLineTerminatorsShouldEndRecords() throws Exception {
+        Path file = write("a\nb\r\nc\rd\n\ne");
+
+        List<CharSequenceRecord> records = readAll(file, CharSequenceFlatFileRecordReader.DEFAULT_BUFFER_SIZE);
+
+        assertThat(records).extracting(StringRecord::getPayload).containsExactly("a", "b", "c", "d", "", "e");
+        assertThat(records).extracting(record -> record.getHeader().getNumber()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(records.get(0).getHeader().getSource()).isEqualTo(file.toAbsolutePath().toString());
+    }
+
+    @Test
+    public void recordsShouldStayValidWhenLinesSpanMultipleBuffers() throws Exception {
+        Path file = write("foo\r\nbar baz qux\r\n\r\nlast line without terminator");
+
+        // lines do not fit in a buffer of 4 characters, and a carriage return ends a buffer
+        List<CharSequenceRecord> records = readAll(file, 4);
+
+        assertThat(records).extracting(record -> record.getCharSequence().toString())
+                .containsExactly("foo", "bar baz qux", "", "last line without terminator");
+    }
+
+    @Test
+    public void recordsShouldStayValidUntilTheirBatchIsWrittenWhenBuffersAreRecycled() throws Exception {
+        Path file = write("aaa\nbbb\nccc\nddd\neee\nfff\nggg\nhhh\niii\n");
+        recordReader = new CharSequenceFlatFileRecordReader(file, StandardCharsets.UTF_8, 8);
+        recordReader.open();
+        List<String> written = new ArrayList<>();
+
+        // batches of two records, written once both records are read
+        List<CharSequenceRecord> batch = new ArrayList<>();
+        CharSequenceRecord record;
+        while ((record = recordReader.readRecord()) != null) {
+            batch.add(record);
+            if (batch.size() == 2) {
+                batch.forEach(r -> written.add(r.getPayload()));
+                batch.clear();
+                recordReader.afterBatchWriting(new Batch());
+            }
+        }
+        batch.forEach(r -> written.add(r.getPayload()));
+
+        assertThat(written).containsExactly("aaa", "bbb", "ccc", "ddd", "eee", "fff", "ggg", "hhh", "iii");
+    }
+
+    @Test
+    public void whenInputFileIsEmpty_thenReadRecordShouldReturnNull() throws Exception {
+        assertThat(readAll(write(""), 16)).isEmpty();
+    }
+
+    @Test
+    public void recordsShouldBeFilteredAndMappedWithoutCopyingTheirPayload() throws Exception {
+        Path file = write("foo,bar,30,1990-12-12,true\nbaz,qux,40,1980-01-01,false\n");
+        GrepFilter filter = new GrepFilter("qux");
+        DelimitedRecordMapper<Person> mapper = new DelimitedRecordMapper<>(Person.class, "firstName", "lastName", "age", "birthDate", "married");
+
+        List<CharSequenceRecord> records = readAll(file, CharSequenceFlatFileRecordReader.DEFAULT_BUFFER_SIZE);
+
+        assertThat(filter.processRecord(records.get(0))).isNull();
+        Person person = mapper.processRecord(filter.processRecord(records.get(1))).getPayload();
+        assertThat(person.getFirstName()).isEqualTo("baz");
+        assertThat(person.getLastName()).isEqualTo("qux");
+        assertThat(person.getAge()).isEqualTo(40);
+        assertThat(person.isMarried()).isFalse();
+    }
+
+    @Test
+    public void recordsShouldBeMappedWithAFixedLengthRecordMapper() throws Exception {
+        Path file = write("foo  bar  30 1990-12-12true \n");
+        FixedLengthRecordMapper<Person> mapper = new FixedLengthRecordMapper<>(Person.class,
+                new int[]{5, 5, 3, 10, 5}, new String[]{"firstName", "lastName", "age", "birthDate", "married"});
+        mapper.setTrimWhitespaces(true);
+
+        Person person = mapper.processRecord(readAll(file, 8).get(0)).getPayload();
+
+        assertThat(person.getFirstName()).isEqualTo("foo");
+        assertThat(person.getLastName()).isEqualTo("bar");
+        assertThat(person.getAge()).isEqualTo(30);
+        assertThat(person.isMarried()).isTrue();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recordReader != null) {
+            recordReader.close();
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<CharSequenceRecord> readAll(Path file, int bufferSize) throws Exception {
+        recordReader = new CharSequenceFlatFileRecordReader(file, StandardCharsets.UTF_8, bufferSize);
+        recordReader.open();
+        List<CharSequenceRecord> records = new ArrayList<>();
+        CharSequenceRecord record;
+        while ((record = recordReader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
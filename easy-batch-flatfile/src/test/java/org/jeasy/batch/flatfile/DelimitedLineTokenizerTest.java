@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DelimitedLineTokenizerTest {
+
+    @Test
+    public void testTokenizationWithoutQualifier() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "", false);
+
+        assertThat(tokenizer.tokenize("foo,bar,,baz ", null)).containsExactly("foo", "bar", "", "baz ");
+        assertThat(tokenizer.tokenize("", null)).containsExactly("");
+        assertThat(tokenizer.tokenize("foo,", null)).containsExactly("foo", "");
+    }
+
+    @Test
+    public void testDelimiterIsMatchedLiterally() throws Exception {
+        assertThat(new DelimitedLineTokenizer(".", "", false).tokenize("a.b.c", null)).containsExactly("a", "b", "c");
+        assertThat(new DelimitedLineTokenizer("|", "", false).tokenize("a|b", null)).containsExactly("a", "b");
+        assertThat(new DelimitedLineTokenizer("::", "", false).tokenize("a::b:c", null)).containsExactly("a", "b:c");
+    }
+
+    @Test
+    public void testWhitespacesTrimming() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "\"", true);
+
+        assertThat(tokenizer.tokenize("  \"foo\" ,\" bar \"  ", null)).containsExactly("foo", " bar ");
+    }
+
+    @Test
+    public void testQualifiedFieldsWithEmbeddedDelimitersAndEscapedQualifiers() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "\"", false);
+
+        assertThat(tokenizer.tokenize("\"a,b\",\"say \"\"hi\"\"\",\"\",\"it\"s\"", null))
+                .containsExactly("a,b", "say \"hi\"", "", "it\"s");
+    }
+
+    @Test
+    public void testUnqualifiedFieldShouldBeRejected() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "'", false);
+
+        assertThatThrownBy(() -> tokenizer.tokenize("'foo',bar", null))
+                .hasMessage("field [bar] is not enclosed as expected with '''");
+        assertThatThrownBy(() -> tokenizer.tokenize("'foo,bar", null))
+                .hasMessage("field ['foo] is not enclosed as expected with '''");
+    }
+
+    @Test
+    public void testOnlyRetainedColumnsShouldBeExtracted() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(";", "'", false);
+
+        assertThat(tokenizer.tokenize("'a';'b;c';'d';'e'", new int[]{1, 3})).containsExactly(null, "b;c", null, "e");
+    }
+
+    @Test
+    public void testWideLines() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "", false);
+        StringBuilder line = new StringBuilder("0");
+        for (int i = 1; i < 100; i++) {
+            line.append(',').append(i);
+        }
+
+        String[] tokens = tokenizer.tokenize(line.toString(), null);
+
+        assertThat(tokens).hasSize(100);
+        assertThat(tokens[99]).isEqualTo("99");
+    }
+
+    @Test
+    public void testScanningShouldStopAfterLastRetainedColumn() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "'", false);
+
+        // the unterminated qualifier after the last retained column is never scanned
+        assertThat(tokenizer.tokenize("'a','b','c','d", new int[]{1}, true)).containsExactly(null, "b");
+        assertThat(tokenizer.tokenize("'a'", new int[]{2}, true)).containsExactly((String) null);
+    }
+
+    @Test
+    public void testTokenizationIntoRanges() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "'", true);
+        CharSequence line = new StringBuilder("'foo', 'bar,baz' ,'qux'");
+
+        assertThat(tokenizer.tokenizeRanges(line, new int[]{0, 1}, false)).isEqualTo(3);
+        assertThat(line.subSequence(tokenizer.getStarts()[0], tokenizer.getEnds()[0]).toString()).isEqualTo("foo");
+        assertThat(line.subSequence(tokenizer.getStarts()[1], tokenizer.getEnds()[1]).toString()).isEqualTo("bar,baz");
+        assertThat(tokenizer.getStarts()[2]).isEqualTo(-1);
+
+        // columns of the previous line are cleared
+        assertThat(tokenizer.tokenizeRanges("'a'", null, false)).isEqualTo(1);
+        assertThat(tokenizer.getStarts()[1]).isEqualTo(-1);
+    }
+
+    @Test
+    public void testEscapedQualifierInRetainedColumnCanNotBeTokenizedIntoRanges() throws Exception {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",", "'", false);
+
+        assertThat(tokenizer.tokenizeRanges("'it''s','foo'", new int[]{0}, false)).isEqualTo(-1);
+        assertThat(tokenizer.tokenizeRanges("'it''s','foo'", new int[]{1}, false)).isEqualTo(2);
+        assertThat(tokenizer.tokenize(new StringBuilder("'it''s','foo'"), null)).containsExactly("it's", "foo");
+    }
+
+}
@@ -28,12 +28,14 @@ import org.jeasy.batch.core.record.StringRecord;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -41,7 +43,8 @@ public class DelimitedRecordMapperTest {
 
     private DelimitedRecordMapper<Person> delimitedRecordMapper;
 
-    @Mock
+    // mappers read payloads with getCharSequence, which returns the stubbed payload
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private StringRecord record, headerRecord;
 
     @Before
@@ -131,6 +134,32 @@ public class DelimitedRecordMapperTest {
         validateRecord(record);
     }
 
+    @Test
+    public void testRecordParsingWithDelimiterInsideQualifiedField() throws Exception {
+        delimitedRecordMapper.setQualifier("\"");
+        when(record.getPayload()).thenReturn("\"foo, \"\"jr\"\"\",\"bar\",\"30\",\"1990-12-12\",\"true\"");
+        List<Field> fields = delimitedRecordMapper.parseRecord(record);
+        assertThat(fields).extracting("rawContent")
+          .containsExactly("foo, \"jr\"", "bar", "30", "1990-12-12", "true");
+    }
+
+    @Test
+    public void testRecordParsingWithRegexMetaCharacterDelimiter() throws Exception {
+        delimitedRecordMapper.setDelimiter(".");
+        when(record.getPayload()).thenReturn("foo.bar.30.1990-12-12.true");
+        validateRecord(record);
+    }
+
+    @Test
+    public void testFieldSubsetMappingWithUnorderedPositions() throws Exception {
+        delimitedRecordMapper = new DelimitedRecordMapper<>(Person.class,
+                new Integer[]{4, 0},
+                new String[]{"firstName", "married"}
+        );
+        List<Field> fields = delimitedRecordMapper.parseRecord(record);
+        assertThat(fields).extracting("index").containsExactly(0, 4);
+    }
+
     @Test
     public void testFieldSubsetMapping() throws Exception {
         delimitedRecordMapper = new DelimitedRecordMapper<>(Person.class,
@@ -185,4 +214,30 @@ public class DelimitedRecordMapperTest {
         assertThat(person.isMarried()).isTrue();
     }
 
+    @Test
+    public void testFieldSubsetMappingShouldNotTokenizeFieldsAfterTheLastRetainedOne() throws Exception {
+        delimitedRecordMapper = new DelimitedRecordMapper<>(Person.class,
+                new Integer[]{0, 2},
+                new String[]{"firstName", "age"}
+        );
+        when(record.getPayload()).thenReturn("foo,bar,30,1990-12-12,true,extra");
+
+        Person person = delimitedRecordMapper.processRecord(record).getPayload();
+
+        assertThat(person.getFirstName()).isEqualTo("foo");
+        assertThat(person.getAge()).isEqualTo(30);
+        assertThat(person.getLastName()).isNull();
+    }
+
+    @Test
+    public void testFieldSubsetMappingShouldRejectRecordsWithoutRetainedFields() {
+        delimitedRecordMapper = new DelimitedRecordMapper<>(Person.class,
+                new Integer[]{0, 4},
+                new String[]{"firstName", "married"}
+        );
+        when(record.getPayload()).thenReturn("foo,bar,30");
+
+        assertThatThrownBy(() -> delimitedRecordMapper.processRecord(record))
+                .hasMessage("record length (3 fields) less than expected minimum length of 5 fields");
+    }
 }
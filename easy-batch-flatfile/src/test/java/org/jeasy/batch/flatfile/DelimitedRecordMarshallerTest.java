@@ -23,21 +23,32 @@
  */
 package org.jeasy.batch.flatfile;
 
+import org.jeasy.batch.core.record.Batch;
 import org.jeasy.batch.core.record.Header;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.core.writer.FileRecordWriter;
+import org.jeasy.batch.core.writer.NioFileRecordWriter;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DelimitedRecordMarshallerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mock
     private Header header;
     @Mock
@@ -64,4 +75,44 @@ public class DelimitedRecordMarshallerTest {
         assertThat(actual.getHeader()).isEqualTo(header);
         assertThat(actual.getPayload()).isEqualTo(expectedPayload);
     }
+
+    @Test
+    public void marshalToSink() throws Exception {
+        StringBuilder sink = new StringBuilder("existing;");
+
+        marshaller.marshal(record, sink);
+
+        assertThat(sink.toString()).isEqualTo("existing;\"foo\",\"bar\",\"false\"");
+    }
+
+    @Test
+    public void recordsShouldBeMarshalledByNioFileRecordWriter() throws Exception {
+        Path path = temporaryFolder.newFile().toPath();
+        NioFileRecordWriter writer = new NioFileRecordWriter(path, 16);
+        writer.setCharset(StandardCharsets.UTF_8);
+        writer.setLineSeparator("\n");
+        writer.setMarshaller(marshaller);
+        when(payload.getLastName()).thenReturn("bär");
+
+        writer.open();
+        writer.writeRecords(new Batch(record, record));
+        writer.close();
+
+        assertThat(path).usingCharset(StandardCharsets.UTF_8)
+                .hasContent("\"foo\",\"bär\",\"false\"\n\"foo\",\"bär\",\"false\"\n");
+    }
+
+    @Test
+    public void recordsShouldBeMarshalledByFileRecordWriter() throws Exception {
+        Path path = temporaryFolder.newFile().toPath();
+        FileRecordWriter writer = new FileRecordWriter(path);
+        writer.setLineSeparator("\n");
+        writer.setMarshaller(marshaller);
+
+        writer.open();
+        writer.writeRecords(new Batch(record));
+        writer.close();
+
+        assertThat(path).hasContent("\"foo\",\"bar\",\"false\"\n");
+    }
 }
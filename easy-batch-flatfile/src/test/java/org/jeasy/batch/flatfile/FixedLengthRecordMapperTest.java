@@ -27,6 +27,7 @@ import org.jeasy.batch.core.record.StringRecord;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -40,7 +41,8 @@ public class FixedLengthRecordMapperTest {
 
     private FixedLengthRecordMapper<Bean> fixedLengthRecordMapper;
 
-    @Mock
+    // mappers read payloads with getCharSequence, which returns the stubbed payload
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private StringRecord record;
 
     @Before
@@ -75,4 +77,18 @@ public class FixedLengthRecordMapperTest {
             .containsExactly("aa", "bb", "cc");
     }
 
+    @Test
+    public void testUnmappedFieldsShouldBeSkipped() throws Exception {
+        fixedLengthRecordMapper = new FixedLengthRecordMapper<>(Bean.class,
+                new int[]{4, 2, 3},
+                new String[]{"field1", null, "field3"});
+        fixedLengthRecordMapper.setTrimWhitespaces(true);
+        when(record.getPayload()).thenReturn("aa  bbccc");
+
+        Bean bean = fixedLengthRecordMapper.processRecord(record).getPayload();
+
+        assertThat(bean.getField1()).isEqualTo("aa");
+        assertThat(bean.getField2()).isNull();
+        assertThat(bean.getField3()).isEqualTo("ccc");
+    }
 }
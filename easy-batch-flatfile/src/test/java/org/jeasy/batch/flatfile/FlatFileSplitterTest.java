@@ -0,0 +1,143 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlatFileSplitterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void rangesShouldBeAlignedToLineBoundariesAndCoverTheWholeFile() throws Exception {
+        Path file = write("line1\nline2\r\nline3\rline4\nline5\r\nline6");
+
+        List<FileRange> ranges = new FlatFileSplitter(file).split(4);
+
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0).getStart()).isEqualTo(0);
+        assertThat(ranges.get(3).getEnd()).isEqualTo(Files.size(file));
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            FileRange range = ranges.get(i);
+            assertThat(range.getIndex()).isEqualTo(i);
+            if (i > 0) {
+                assertThat(range.getStart()).isEqualTo(ranges.get(i - 1).getEnd());
+            }
+            for (StringRecord record : readAll(range)) {
+                lines.add(record.getPayload());
+            }
+        }
+        assertThat(lines).containsExactly("line1", "line2", "line3", "line4", "line5", "line6");
+    }
+
+    @Test
+    public void headerLineShouldBeExcludedFromRanges() throws Exception {
+        Path file = write("id,name\n1,foo\n2,bar\n3,baz\n");
+
+        List<FileRange> ranges = new FlatFileSplitter(file, true).split(2);
+
+        assertThat(ranges.get(0).getStart()).isEqualTo(8);
+        List<String> lines = new ArrayList<>();
+        for (FileRange range : ranges) {
+            for (StringRecord record : readAll(range)) {
+                lines.add(record.getPayload());
+            }
+        }
+        assertThat(lines).containsExactly("1,foo", "2,bar", "3,baz");
+    }
+
+    @Test
+    public void whenRecordsAreCounted_thenRecordsShouldKeepTheirLineNumberInTheFile() throws Exception {
+        Path file = write("id,name\n1,foo\n2,bar\n3,baz\n4,qux\n");
+
+        List<FileRange> ranges = new FlatFileSplitter(file, true, true).split(2);
+        List<StringRecord> secondRange = readAll(ranges.get(1));
+
+        assertThat(ranges.get(0).getFirstRecordNumber()).isEqualTo(2);
+        assertThat(secondRange).isNotEmpty();
+        StringRecord first = secondRange.get(0);
+        assertThat(first.getHeader().getNumber()).isEqualTo(ranges.get(1).getFirstRecordNumber());
+        assertThat(first.getHeader().getNumber()).isEqualTo(Long.parseLong(first.getPayload().substring(0, 1)) + 1);
+        assertThat(first.getHeader().getSource()).isEqualTo(file.toAbsolutePath().toString());
+    }
+
+    @Test
+    public void whenRecordsAreNotCounted_thenTheSourceOfRecordsShouldIdentifyTheRange() throws Exception {
+        Path file = write("1,foo\n2,bar\n3,baz\n4,qux\n");
+
+        FileRange range = new FlatFileSplitter(file).split(2).get(1);
+        List<StringRecord> records = readAll(range);
+
+        assertThat(range.getFirstRecordNumber()).isEqualTo(0);
+        assertThat(records.get(0).getHeader().getNumber()).isEqualTo(1);
+        assertThat(records.get(0).getHeader().getSource()).isEqualTo(file.toAbsolutePath() + "[" + range.getStart() + "-" + range.getEnd() + "]");
+    }
+
+    @Test
+    public void whenThereAreMorePartitionsThanLines_thenSomeRangesShouldBeEmpty() throws Exception {
+        Path file = write("a\nb\n");
+
+        List<FileRange> ranges = new FlatFileSplitter(file).split(5);
+
+        int records = 0;
+        for (FileRange range : ranges) {
+            records += readAll(range).size();
+        }
+        assertThat(records).isEqualTo(2);
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<StringRecord> readAll(FileRange range) throws Exception {
+        MappedFlatFileRecordReader recordReader = new MappedFlatFileRecordReader(range, StandardCharsets.UTF_8, 4);
+        List<StringRecord> records = new ArrayList<>();
+        recordReader.open();
+        try {
+            StringRecord record;
+            while ((record = recordReader.readRecord()) != null) {
+                records.add(record);
+            }
+        } finally {
+            recordReader.close();
+        }
+        return records;
+    }
+}
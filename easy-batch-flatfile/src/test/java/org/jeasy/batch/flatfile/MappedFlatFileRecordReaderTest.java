@@ -0,0 +1,159 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MappedFlatFileRecordReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private MappedFlatFileRecordReader recordReader;
+
+    @Test
+    public void whenInputFileExistsAndIsNotEmpty_thenReadRecordShouldReturnNextRecords() throws Exception {
+        recordReader = new MappedFlatFileRecordReader(Paths.get("src/test/resources/tweets.csv"), StandardCharsets.UTF_8);
+        recordReader.open();
+
+        StringRecord record = recordReader.readRecord();
+        assertThat(record.getHeader().getNumber()).isEqualTo(1L);
+        assertThat(record.getPayload()).isEqualTo("id,user,message");
+
+        record = recordReader.readRecord();
+        assertThat(record.getHeader().getNumber()).isEqualTo(2L);
+        assertThat(record.getPayload()).isEqualTo("1,foo,easy batch rocks! #EasyBatch");
+
+        record = recordReader.readRecord();
+        assertThat(record.getHeader().getNumber()).isEqualTo(3L);
+        assertThat(record.getPayload()).isEqualTo("2,bar,@foo I do confirm :-)");
+
+        assertThat(recordReader.readRecord()).isNull();
+    }
+
+    @Test
+    public void whenInputFileIsEmpty_thenReadRecordShouldReturnNull() throws Exception {
+        recordReader = new MappedFlatFileRecordReader(Paths.get("src/test/resources/empty-file.txt"));
+        recordReader.open();
+
+        assertThat(recordReader.readRecord()).isNull();
+    }
+
+    @Test
+    public void whenInputFileDoesNotExist_thenOpeningTheReaderShouldFail() {
+        recordReader = new MappedFlatFileRecordReader(Paths.get("src/test/resources/foo.bar"));
+
+        assertThatThrownBy(() -> recordReader.open()).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    public void allLineTerminatorsShouldBeSupported() throws Exception {
+        Path file = write("a\nb\r\nc\rd\n\ne");
+
+        assertThat(readAll(file, 1024)).containsExactly("a", "b", "c", "d", "", "e");
+    }
+
+    @Test
+    public void linesCrossingWindowsShouldBeRead() throws Exception {
+        Path file = write("first line\r\nsecond line which is longer than a window\r\nthird\r\n");
+
+        assertThat(readAll(file, 4)).containsExactly("first line", "second line which is longer than a window", "third");
+    }
+
+    @Test
+    public void nonAsciiLinesShouldBeDecodedWithTheCharsetOfTheFile() throws Exception {
+        Path file = write("ascii\ncafé crème\n");
+        recordReader = new MappedFlatFileRecordReader(file, StandardCharsets.UTF_8, 3);
+        recordReader.open();
+
+        MappedStringRecord ascii = recordReader.readRecord();
+        MappedStringRecord nonAscii = recordReader.readRecord();
+
+        assertThat(ascii.isAscii()).isTrue();
+        assertThat(ascii.getPayload()).isEqualTo("ascii");
+        assertThat(nonAscii.isAscii()).isFalse();
+        assertThat(nonAscii.getLength()).isEqualTo(12);
+        assertThat(nonAscii.getPayload()).isEqualTo("café crème");
+    }
+
+    @Test
+    public void bytesOfRecordsShouldBeAvailableWithoutDecoding() throws Exception {
+        Path file = write("foo\nbar\n");
+        recordReader = new MappedFlatFileRecordReader(file, StandardCharsets.UTF_8);
+        recordReader.open();
+        recordReader.readRecord();
+
+        ByteBuffer bytes = recordReader.readRecord().getBytes();
+
+        assertThat(bytes.isReadOnly()).isTrue();
+        assertThat(bytes.remaining()).isEqualTo(3);
+        assertThat(bytes.get(0)).isEqualTo((byte) 'b');
+    }
+
+    @Test
+    public void charsetsWithMultiByteLineTerminatorsShouldBeRejected() {
+        assertThatThrownBy(() -> new MappedFlatFileRecordReader(Paths.get("foo.txt"), StandardCharsets.UTF_16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recordReader != null) {
+            recordReader.close();
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<String> readAll(Path file, int windowSize) throws Exception {
+        recordReader = new MappedFlatFileRecordReader(file, StandardCharsets.UTF_8, windowSize);
+        recordReader.open();
+        List<String> lines = new ArrayList<>();
+        StringRecord record;
+        while ((record = recordReader.readRecord()) != null) {
+            lines.add(record.getPayload());
+        }
+        return lines;
+    }
+}
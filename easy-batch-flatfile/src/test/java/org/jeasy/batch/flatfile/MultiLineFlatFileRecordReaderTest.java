@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.flatfile;
+
+import org.jeasy.batch.core.record.StringRecord;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MultiLineFlatFileRecordReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private MultiLineFlatFileRecordReader recordReader;
+
+    @Test
+    public void lineBreaksInsideQualifiedFieldsShouldNotEndRecords() throws Exception {
+        Path file = write("\"id\",\"message\"\n\"1\",\"hello\nworld\"\r\n\"2\",\"say \"\"hi\"\"\r\nto \"\"foo\"\"\"\n");
+
+        List<StringRecord> records = readAll(file, "\"");
+
+        assertThat(records).extracting(StringRecord::getPayload).containsExactly(
+                "\"id\",\"message\"",
+                "\"1\",\"hello\nworld\"",
+                "\"2\",\"say \"\"hi\"\"\r\nto \"\"foo\"\"\"");
+        assertThat(records).extracting(record -> record.getHeader().getNumber()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void allLineTerminatorsShouldEndRecords() throws Exception {
+        Path file = write("a\nb\r\nc\rd\n\ne");
+
+        assertThat(readAll(file, "'")).extracting(StringRecord::getPayload).containsExactly("a", "b", "c", "d", "", "e");
+    }
+
+    @Test
+    public void whenInputFileIsEmpty_thenReadRecordShouldReturnNull() throws Exception {
+        assertThat(readAll(write(""), "\"")).isEmpty();
+    }
+
+    @Test
+    public void recordsShouldBeMappedWithADelimitedRecordMapper() throws Exception {
+        Path file = write("'foo','bar\nbaz','30','1990-12-12','true'\n");
+        DelimitedRecordMapper<Person> mapper = new DelimitedRecordMapper<>(Person.class, "firstName", "lastName", "age", "birthDate", "married");
+        mapper.setQualifier("'");
+
+        Person person = mapper.processRecord(readAll(file, "'").get(0)).getPayload();
+
+        assertThat(person.getFirstName()).isEqualTo("foo");
+        assertThat(person.getLastName()).isEqualTo("bar\nbaz");
+        assertThat(person.getAge()).isEqualTo(30);
+    }
+
+    @Test
+    public void qualifierShouldBeASingleCharacter() {
+        assertThatThrownBy(() -> new MultiLineFlatFileRecordReader(temporaryFolder.getRoot().toPath(), StandardCharsets.UTF_8, "''"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recordReader != null) {
+            recordReader.close();
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<StringRecord> readAll(Path file, String qualifier) throws Exception {
+        recordReader = new MultiLineFlatFileRecordReader(file, StandardCharsets.UTF_8, qualifier);
+        recordReader.open();
+        List<StringRecord> records = new ArrayList<>();
+        StringRecord record;
+        while ((record = recordReader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
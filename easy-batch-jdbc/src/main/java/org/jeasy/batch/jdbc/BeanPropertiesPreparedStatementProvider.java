@@ -23,13 +23,9 @@
  */
 package org.jeasy.batch.jdbc;
 
+import org.jeasy.batch.core.mapper.BeanAccessor;
 import org.jeasy.batch.core.mapper.BeanIntrospectionException;
 
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.PreparedStatement;
@@ -48,7 +44,7 @@ import static java.lang.String.format;
 public class BeanPropertiesPreparedStatementProvider implements PreparedStatementProvider {
 
     private String[] properties;
-    private PropertyDescriptor[] propertyDescriptors;
+    private BeanAccessor.Property[] accessors;
     private final Map<Class<?>, Integer> javaTypesToSqlTypes = new HashMap<Class<?>, Integer>() {{
         put(boolean.class, Types.BOOLEAN);
         put(Boolean.class, Types.BOOLEAN);
@@ -88,34 +84,35 @@ public class BeanPropertiesPreparedStatementProvider implements PreparedStatemen
      */
     public BeanPropertiesPreparedStatementProvider(Class<?> type, String... properties) throws BeanIntrospectionException {
         this.properties = properties;
-        BeanInfo beanInfo;
-        try {
-            beanInfo = Introspector.getBeanInfo(type);
-            propertyDescriptors = beanInfo.getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            throw new BeanIntrospectionException("Unable to introspect type " + type, e);
+        BeanAccessor<?> beanAccessor = BeanAccessor.of(type);
+        this.accessors = new BeanAccessor.Property[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            BeanAccessor.Property property = beanAccessor.getProperty(properties[i]);
+            if (property != null && property.isReadable()) {
+                accessors[i] = property;
+            }
         }
     }
 
     @Override
     public void prepareStatement(PreparedStatement preparedStatement, Object record) throws SQLException {
         int index = 1;
-        for (String property: properties) {
+        for (int i = 0; i < accessors.length; i++) {
+            BeanAccessor.Property accessor = accessors[i];
+            if (accessor == null) {
+                continue;
+            }
+            Object value;
             try {
-                for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                    if (propertyDescriptor.getName().equals(property)) {
-                        Object value = propertyDescriptor.getReadMethod().invoke(record);
-                        Integer sqlType = javaTypesToSqlTypes.get(value.getClass());
-                        if (sqlType != null) {
-                            preparedStatement.setObject(index++, value, sqlType);
-                        } else {
-                            preparedStatement.setObject(index++, value);
-                        }
-                        break;
-                    }
-                }
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new BeanIntrospectionException(format("Unable to get property %s from type %s", property, record.getClass().getName()), e);
+                value = accessor.get(record);
+            } catch (Exception e) {
+                throw new BeanIntrospectionException(format("Unable to get property %s from type %s", properties[i], record.getClass().getName()), e);
+            }
+            Integer sqlType = javaTypesToSqlTypes.get(value.getClass());
+            if (sqlType != null) {
+                preparedStatement.setObject(index++, value, sqlType);
+            } else {
+                preparedStatement.setObject(index++, value);
             }
         }
     }
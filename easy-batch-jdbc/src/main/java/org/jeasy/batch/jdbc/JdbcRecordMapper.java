@@ -24,14 +24,14 @@
 package org.jeasy.batch.jdbc;
 
 import org.jeasy.batch.core.mapper.AbstractRecordMapper;
+import org.jeasy.batch.core.mapper.GenerateMappers;
+import org.jeasy.batch.core.mapper.MappingPlanFactory;
 import org.jeasy.batch.core.mapper.RecordMapper;
 import org.jeasy.batch.core.record.GenericRecord;
 import org.jeasy.batch.core.record.Record;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * A {@link RecordMapper} that maps database rows to domain objects.
@@ -63,20 +63,38 @@ public class JdbcRecordMapper<P> extends AbstractRecordMapper<P> implements Reco
         this.fields = fields;
     }
 
+    /**
+     * Create a new {@link JdbcRecordMapper} that maps rows with plans of the given factory,
+     * usually generated at compile time for a class annotated with {@link GenerateMappers}.
+     * If no field names are specified, column names will be fetched from the jdbc result set meta data.
+     *
+     * @param mappingPlanFactory the factory of mapping plans
+     * @param fields             the list of fields names
+     */
+    public JdbcRecordMapper(final MappingPlanFactory<P> mappingPlanFactory, final String... fields) {
+        super(mappingPlanFactory);
+        if (fields.length > 0) {
+            this.fields = fields;
+        }
+    }
+
     @Override
     public Record<P> processRecord(final JdbcRecord record) throws Exception {
         ResultSet resultSet = record.getPayload();
         initFieldNames(resultSet);
-        Map<String, String> values = new HashMap<>();
+        if (mappingPlan == null) {
+            mappingPlan = mappingPlanFactory.createMappingPlan(fields);
+        }
+        String[] values = new String[fields.length];
         for (int i = 0; i < fields.length; i++) {
-            values.put(fields[i], resultSet.getString(i + 1));
+            values[i] = resultSet.getString(i + 1);
         }
-        return new GenericRecord<>(record.getHeader(), objectMapper.mapObject(values));
+        return new GenericRecord<>(record.getHeader(), mappingPlan.mapObject(values));
     }
 
     private void initFieldNames(final ResultSet resultSet) throws SQLException {
-        int columnCount = resultSet.getMetaData().getColumnCount();
         if (fields == null) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
             fields = new String[columnCount];
             for (int i = 1; i < columnCount + 1; i++) {
                 fields[i - 1] = resultSet.getMetaData().getColumnLabel(i);
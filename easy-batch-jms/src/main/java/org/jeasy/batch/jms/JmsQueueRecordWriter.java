@@ -24,16 +24,21 @@
 package org.jeasy.batch.jms;
 
 import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.ByteRecord;
 import org.jeasy.batch.core.record.Record;
 import org.jeasy.batch.core.writer.RecordWriter;
 
 import javax.jms.*;
+import java.nio.ByteBuffer;
 
 import static org.jeasy.batch.core.util.Utils.checkNotNull;
 
 /**
  * Sends a Jms message to a given queue.
  *
+ * The payload of records is expected to be a Jms {@link Message}, except for {@link ByteRecord}s
+ * which are sent as {@link BytesMessage}s containing the bytes of the record unchanged.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class JmsQueueRecordWriter implements RecordWriter {
@@ -68,8 +73,23 @@ public class JmsQueueRecordWriter implements RecordWriter {
     @Override
     public void writeRecords(Batch batch) throws Exception {
         for (Record record : batch) {
-            queueSender.send((Message) record.getPayload());
+            if (record instanceof ByteRecord) {
+                queueSender.send(createBytesMessage((ByteRecord) record));
+            } else {
+                queueSender.send((Message) record.getPayload());
+            }
+        }
+    }
+
+    private BytesMessage createBytesMessage(final ByteRecord record) throws JMSException {
+        BytesMessage message = queueSession.createBytesMessage();
+        ByteBuffer payload = record.getPayload();
+        if (payload.hasArray()) {
+            message.writeBytes(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            message.writeBytes(record.toByteArray());
         }
+        return message;
     }
 
     @Override
@@ -24,6 +24,8 @@
 package org.jeasy.batch.jms;
 
 import org.jeasy.batch.core.record.Batch;
+import org.jeasy.batch.core.record.ByteRecord;
+import org.jeasy.batch.core.record.Header;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,6 +33,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.jms.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 
 import static org.mockito.Mockito.*;
 
@@ -52,6 +56,8 @@ public class JmsQueueRecordWriterTest {
     @Mock
     private JmsRecord record;
     @Mock
+    private BytesMessage bytesMessage;
+    @Mock
     private JMSException jmsException;
 
     private JmsQueueRecordWriter jmsQueueRecordWriter;
@@ -74,6 +80,17 @@ public class JmsQueueRecordWriterTest {
         verify(queueSender).send(message);
     }
 
+    @Test
+    public void byteRecordsShouldBeSentAsBytesMessages() throws Exception {
+        when(queueSession.createBytesMessage()).thenReturn(bytesMessage);
+        byte[] bytes = "foo,bar".getBytes(StandardCharsets.UTF_8);
+
+        jmsQueueRecordWriter.writeRecords(new Batch(new ByteRecord(new Header(1L, "test", new Date()), bytes)));
+
+        verify(bytesMessage).writeBytes(bytes, 0, bytes.length);
+        verify(queueSender).send(bytesMessage);
+    }
+
     @Test(expected = Exception.class)
     public void testRecordProcessingWithError() throws Exception {
         doThrow(jmsException).when(queueSender).send(message);
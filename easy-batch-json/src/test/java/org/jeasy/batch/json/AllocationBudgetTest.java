@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.json;
+
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.test.common.AllocationMeter;
+import org.jeasy.batch.test.common.Tweet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Upper bounds of bytes allocated per record when reading and mapping JSON files.
+ * If this test fails, either remove the new allocations from the hot path,
+ * or raise the budget if they are really needed.
+ */
+public class AllocationBudgetTest {
+
+    private static final int RECORDS = 10000;
+
+    // in bytes per record. This test runs in its own fork without escape analysis
+    // (see the allocation-budget execution in the pom).
+    private static final long JSON_MAPPING_BUDGET = 25000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Jsonb jsonb;
+
+    @Before
+    public void setUp() {
+        assumeTrue(AllocationMeter.isSupported());
+        jsonb = JsonbBuilder.create();
+    }
+
+    @Test
+    public void jsonFileMappingShouldStayWithinAllocationBudget() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("[");
+            for (int i = 0; i < RECORDS; i++) {
+                writer.write(i == 0 ? "" : ",");
+                writer.write("{\"id\":" + i + ",\"user\":\"foo\",\"message\":\"Hello world!\"}");
+            }
+            writer.write("]");
+        }
+
+        long allocatedBytesPerRecord = AllocationMeter.allocatedBytesPerRecord(() -> new JobBuilder()
+                .reader(new JsonFileRecordReader(file))
+                .mapper(new JsonRecordMapper<>(jsonb, Tweet.class))
+                .batchSize(100)
+                .build()
+                .call(), RECORDS);
+        assertThat(allocatedBytesPerRecord).isLessThanOrEqualTo(JSON_MAPPING_BUDGET);
+    }
+}
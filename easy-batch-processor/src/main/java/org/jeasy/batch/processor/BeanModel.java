@@ -0,0 +1,241 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile time view of a Java bean: its type and its properties, following the
+ * same JavaBean conventions as {@link java.beans.Introspector}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class BeanModel {
+
+    private final TypeElement type;
+    private final String packageName;
+    private final String typeName;
+    private final String generatedNamePrefix;
+    private final List<BeanProperty> properties;
+
+    private BeanModel(TypeElement type, String packageName, String typeName, String generatedNamePrefix, List<BeanProperty> properties) {
+        this.type = type;
+        this.packageName = packageName;
+        this.typeName = typeName;
+        this.generatedNamePrefix = generatedNamePrefix;
+        this.properties = properties;
+    }
+
+    static BeanModel of(final TypeElement type, final Elements elements, final Types types) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+        // nested beans are referenced by their canonical name and generated classes are prefixed with enclosing type names
+        StringBuilder prefix = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement();
+             enclosing.getKind() != ElementKind.PACKAGE; enclosing = enclosing.getEnclosingElement()) {
+            prefix.insert(0, enclosing.getSimpleName() + "_");
+        }
+
+        return new BeanModel(type, packageName, type.getQualifiedName().toString(), prefix.toString(), collectProperties(type, types));
+    }
+
+    private static List<BeanProperty> collectProperties(final TypeElement type, final Types types) {
+        // walk the hierarchy from the top so that inherited properties come first, in declaration order
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current, types)) {
+            if (current.getQualifiedName().contentEquals(Object.class.getName())) {
+                break;
+            }
+            hierarchy.push(current);
+        }
+
+        Map<String, BeanProperty> properties = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                TypeMirror returnType = method.getReturnType();
+                int parameters = method.getParameters().size();
+                if (parameters == 0 && methodName.startsWith("get") && methodName.length() > 3 && returnType.getKind() != TypeKind.VOID) {
+                    property(properties, methodName.substring(3)).getter(methodName, returnType);
+                } else if (parameters == 0 && methodName.startsWith("is") && methodName.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+                    property(properties, methodName.substring(2)).getter(methodName, returnType);
+                } else if (parameters == 1 && methodName.startsWith("set") && methodName.length() > 3 && returnType.getKind() == TypeKind.VOID) {
+                    property(properties, methodName.substring(3)).setter(methodName, method.getParameters().get(0).asType());
+                }
+            }
+        }
+
+        List<BeanProperty> result = new ArrayList<>();
+        for (BeanProperty property : properties.values()) {
+            if (property.resolve(types)) {
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    private static TypeElement superclassOf(final TypeElement type, final Types types) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) types.asElement(superclass);
+    }
+
+    private static BeanProperty property(final Map<String, BeanProperty> properties, final String suffix) {
+        return properties.computeIfAbsent(decapitalize(suffix), BeanProperty::new);
+    }
+
+    /*
+     * Same rule as java.beans.Introspector#decapitalize: "FooBar" becomes "fooBar" but "URL" stays "URL".
+     */
+    static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    String getGeneratedName(final String suffix) {
+        return generatedNamePrefix + suffix;
+    }
+
+    List<BeanProperty> getProperties() {
+        return properties;
+    }
+
+    boolean hasPublicNoArgConstructor() {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A bean property with its accessors. A property is readable if it has a getter
+     * and writable if it has a setter of the same type.
+     */
+    static class BeanProperty {
+
+        private final String name;
+        private String getter;
+        private TypeMirror getterType;
+        private String setter;
+        private TypeMirror setterType;
+        private TypeMirror type;
+
+        private BeanProperty(String name) {
+            this.name = name;
+        }
+
+        private void getter(String methodName, TypeMirror returnType) {
+            this.getter = methodName;
+            this.getterType = returnType;
+        }
+
+        private void setter(String methodName, TypeMirror parameterType) {
+            this.setter = methodName;
+            this.setterType = parameterType;
+        }
+
+        private boolean resolve(Types types) {
+            if (getter != null && setter != null && !types.isSameType(types.erasure(getterType), types.erasure(setterType))) {
+                // mismatching accessors: like the Introspector, keep the getter only
+                setter = null;
+            }
+            type = getter != null ? getterType : setterType;
+            return !"class".equals(name) && type != null;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getGetter() {
+            return getter;
+        }
+
+        String getSetter() {
+            return setter;
+        }
+
+        boolean isReadable() {
+            return getter != null;
+        }
+
+        boolean isWritable() {
+            return setter != null;
+        }
+
+        TypeMirror getType() {
+            return type;
+        }
+
+        /*
+         * Erased, fully qualified type name, usable as a lookup key and in generated code.
+         */
+        String getTypeName(Types types) {
+            TypeMirror erased = types.erasure(type);
+            if (erased.getKind() == TypeKind.DECLARED) {
+                return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            }
+            return erased.toString();
+        }
+    }
+}
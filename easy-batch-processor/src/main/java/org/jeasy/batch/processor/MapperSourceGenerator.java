@@ -0,0 +1,468 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.processor;
+
+import org.jeasy.batch.processor.BeanModel.BeanProperty;
+
+import javax.lang.model.util.Types;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generate the source code of mappers for a {@link BeanModel}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class MapperSourceGenerator {
+
+    static final String MAPPING_PLAN_FACTORY_SUFFIX = "MappingPlanFactory";
+    static final String FIELD_EXTRACTOR_SUFFIX = "FieldExtractor";
+    static final String PREPARED_STATEMENT_PROVIDER_SUFFIX = "PreparedStatementProvider";
+
+    private static final String CONVERTER_PACKAGE = "org.jeasy.batch.core.converter.";
+
+    /*
+     * Same default converters as the ObjectMapper: property type -> converter class.
+     */
+    private static final Map<String, String> CONVERTERS = new HashMap<>();
+    /*
+     * Primitive types for which converters have a conversion method without boxing.
+     */
+    private static final Map<String, String> PRIMITIVE_CONVERSIONS = new HashMap<>();
+    /*
+     * Converters that do not implement CharSequenceConverter: ranges are copied to a string before conversion.
+     */
+    private static final Set<String> STRING_ONLY_CONVERTERS = new HashSet<>();
+    /*
+     * PreparedStatement setters for types that have one, other types are set with setObject.
+     */
+    private static final Map<String, String> STATEMENT_SETTERS = new HashMap<>();
+
+    static {
+        converter("AtomicIntegerTypeConverter", "java.util.concurrent.atomic.AtomicInteger");
+        converter("AtomicLongTypeConverter", "java.util.concurrent.atomic.AtomicLong");
+        converter("BigDecimalTypeConverter", "java.math.BigDecimal");
+        converter("BigIntegerTypeConverter", "java.math.BigInteger");
+        converter("BooleanTypeConverter", "java.lang.Boolean", "boolean");
+        converter("ByteTypeConverter", "java.lang.Byte", "byte");
+        converter("CharacterTypeConverter", "java.lang.Character", "char");
+        converter("DoubleTypeConverter", "java.lang.Double", "double");
+        converter("FloatTypeConverter", "java.lang.Float", "float");
+        converter("IntegerTypeConverter", "java.lang.Integer", "int");
+        converter("LongTypeConverter", "java.lang.Long", "long");
+        converter("ShortTypeConverter", "java.lang.Short", "short");
+        converter("DateTypeConverter", "java.util.Date");
+        converter("GregorianCalendarTypeConverter", "java.util.Calendar", "java.util.GregorianCalendar");
+        converter("SqlDateTypeConverter", "java.sql.Date");
+        converter("SqlTimeTypeConverter", "java.sql.Time");
+        converter("SqlTimestampTypeConverter", "java.sql.Timestamp");
+        converter("LocalDateConverter", "java.time.LocalDate");
+        converter("LocalTimeConverter", "java.time.LocalTime");
+        converter("LocalDateTimeConverter", "java.time.LocalDateTime");
+
+        STRING_ONLY_CONVERTERS.add("GregorianCalendarTypeConverter");
+
+        PRIMITIVE_CONVERSIONS.put("int", "toInt");
+        PRIMITIVE_CONVERSIONS.put("long", "toLong");
+        PRIMITIVE_CONVERSIONS.put("double", "toDouble");
+        PRIMITIVE_CONVERSIONS.put("boolean", "toBoolean");
+
+        STATEMENT_SETTERS.put("int", "setInt");
+        STATEMENT_SETTERS.put("long", "setLong");
+        STATEMENT_SETTERS.put("double", "setDouble");
+        STATEMENT_SETTERS.put("float", "setFloat");
+        STATEMENT_SETTERS.put("short", "setShort");
+        STATEMENT_SETTERS.put("byte", "setByte");
+        STATEMENT_SETTERS.put("boolean", "setBoolean");
+        STATEMENT_SETTERS.put("java.lang.String", "setString");
+        STATEMENT_SETTERS.put("java.math.BigDecimal", "setBigDecimal");
+        STATEMENT_SETTERS.put("java.sql.Date", "setDate");
+        STATEMENT_SETTERS.put("java.sql.Time", "setTime");
+        STATEMENT_SETTERS.put("java.sql.Timestamp", "setTimestamp");
+    }
+
+    private static void converter(String converter, String... types) {
+        for (String type : types) {
+            CONVERTERS.put(type, converter);
+        }
+    }
+
+    private final Types types;
+
+    MapperSourceGenerator(Types types) {
+        this.types = types;
+    }
+
+    /**
+     * @param property a writable property
+     * @return true if values of this property can be converted from strings
+     */
+    boolean isConvertible(BeanProperty property) {
+        String typeName = property.getTypeName(types);
+        return "java.lang.String".equals(typeName) || CONVERTERS.containsKey(typeName);
+    }
+
+    String generateMappingPlanFactory(BeanModel bean) {
+        String className = bean.getGeneratedName(MAPPING_PLAN_FACTORY_SUFFIX);
+        String type = bean.getTypeName();
+        List<BeanProperty> properties = bean.getProperties();
+
+        SourceBuilder source = new SourceBuilder(bean.getPackageName());
+        source.line("import org.jeasy.batch.core.mapper.MappingPlan;");
+        source.line("import org.jeasy.batch.core.mapper.MappingPlanFactory;");
+        source.line();
+        source.line("/**");
+        source.line(" * {@link MappingPlanFactory} of {@link %s}, generated by the Easy Batch annotation processor.", type);
+        source.line(" */");
+        source.open("public class %s implements MappingPlanFactory<%s>", className, type);
+        source.line();
+
+        TreeSet<String> converters = new TreeSet<>();
+        for (BeanProperty property : properties) {
+            if (property.isWritable() && CONVERTERS.containsKey(property.getTypeName(types))) {
+                converters.add(CONVERTERS.get(property.getTypeName(types)));
+            }
+        }
+        for (String converter : converters) {
+            source.line("private static final %s%s %s = new %s%s();", CONVERTER_PACKAGE, converter, constantName(converter), CONVERTER_PACKAGE, converter);
+        }
+        if (!converters.isEmpty()) {
+            source.line();
+        }
+        source.line("private static final Class<?>[] TYPES = {");
+        for (BeanProperty property : properties) {
+            source.line("        %s.class,", property.getTypeName(types));
+        }
+        source.line("};");
+        source.line();
+
+        source.line("@Override");
+        source.open("public MappingPlan<%s> createMappingPlan(final String... fieldNames)", type);
+        source.line("final int[] fields = new int[fieldNames.length];");
+        source.open("for (int i = 0; i < fieldNames.length; i++)");
+        source.line("fields[i] = indexOf(fieldNames[i]);");
+        source.close();
+        source.open("return new MappingPlan<%s>()", type);
+        source.line();
+        source.line("@Override");
+        source.open("public %s mapObject(final String[] values) throws Exception", type);
+        source.line("%s result = new %s();", type, type);
+        source.line("int length = Math.min(values.length, fields.length);");
+        source.open("for (int i = 0; i < length; i++)");
+        source.line("String value = values[i];");
+        source.open("if (fields[i] < 0 || value == null || value.isEmpty())");
+        source.line("continue;");
+        source.close();
+        source.open("try");
+        source.open("switch (fields[i])");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isWritable() && isConvertible(property)) {
+                source.line("case %d: result.%s(%s); break;", i, property.getSetter(), conversion(property));
+            }
+        }
+        source.line("default: break;");
+        source.close();
+        source.close("} catch (Exception e) {");
+        source.indent();
+        source.line("throw new Exception(String.format(\"Unable to convert %%s to type %%s for field %%s\", value, TYPES[fields[i]], fieldNames[i]), e);");
+        source.close();
+        source.close();
+        source.line("return result;");
+        source.close();
+        source.line();
+        source.line("@Override");
+        source.open("public %s mapObject(final CharSequence record, final int[] starts, final int[] ends) throws Exception", type);
+        source.line("%s result = new %s();", type, type);
+        source.line("int length = Math.min(starts.length, fields.length);");
+        source.open("for (int i = 0; i < length; i++)");
+        source.line("int start = starts[i];");
+        source.line("int end = ends[i];");
+        source.open("if (fields[i] < 0 || start < 0 || start == end)");
+        source.line("continue;");
+        source.close();
+        source.open("try");
+        source.open("switch (fields[i])");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isWritable() && isConvertible(property)) {
+                source.line("case %d: result.%s(%s); break;", i, property.getSetter(), rangeConversion(property));
+            }
+        }
+        source.line("default: break;");
+        source.close();
+        source.close("} catch (Exception e) {");
+        source.indent();
+        source.line("throw new Exception(String.format(\"Unable to convert %%s to type %%s for field %%s\", record.subSequence(start, end), TYPES[fields[i]], fieldNames[i]), e);");
+        source.close();
+        source.close();
+        source.line("return result;");
+        source.close();
+        source.close("};");
+        source.close();
+        source.line();
+
+        source.open("private static int indexOf(final String fieldName)");
+        source.open("if (fieldName == null)");
+        source.line("return -1;");
+        source.close();
+        source.open("switch (fieldName)");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isWritable() && isConvertible(property)) {
+                source.line("case \"%s\": return %d;", property.getName(), i);
+            }
+        }
+        source.line("default: return -1;");
+        source.close();
+        source.close();
+        source.close();
+        return source.toString();
+    }
+
+    String generateFieldExtractor(BeanModel bean) {
+        String className = bean.getGeneratedName(FIELD_EXTRACTOR_SUFFIX);
+        String type = bean.getTypeName();
+        List<BeanProperty> properties = bean.getProperties();
+
+        SourceBuilder source = new SourceBuilder(bean.getPackageName());
+        source.line("import org.jeasy.batch.core.field.FieldExtractor;");
+        source.line();
+        source.line("/**");
+        source.line(" * {@link FieldExtractor} of {@link %s}, generated by the Easy Batch annotation processor.", type);
+        source.line(" */");
+        source.open("public class %s implements FieldExtractor<%s>", className, type);
+        source.line();
+        source.line("private static final String[] READABLE_PROPERTIES = {");
+        for (BeanProperty property : properties) {
+            if (property.isReadable()) {
+                source.line("        \"%s\",", property.getName());
+            }
+        }
+        source.line("};");
+        source.line();
+        source.line("private final int[] fields;");
+        source.line();
+        source.line("/**");
+        source.line(" * Create a new {@link %s}.", className);
+        source.line(" *");
+        source.line(" * @param fields to extract, all readable properties in declaration order if empty");
+        source.line(" */");
+        source.open("public %s(final String... fields)", className);
+        source.line("String[] names = fields.length == 0 ? READABLE_PROPERTIES : fields;");
+        source.line("this.fields = new int[names.length];");
+        source.open("for (int i = 0; i < names.length; i++)");
+        source.line("this.fields[i] = indexOf(names[i]);");
+        source.close();
+        source.close();
+        source.line();
+        source.line("@Override");
+        source.open("public Iterable<Object> extractFields(final %s payload)", type);
+        source.line("Object[] values = new Object[fields.length];");
+        source.open("for (int i = 0; i < fields.length; i++)");
+        source.open("switch (fields[i])");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isReadable()) {
+                source.line("case %d: values[i] = payload.%s(); break;", i, property.getGetter());
+            }
+        }
+        source.line("default: throw new IllegalStateException();");
+        source.close();
+        source.close();
+        source.line("return java.util.Arrays.asList(values);");
+        source.close();
+        source.line();
+        readablePropertyIndex(source, type, properties);
+        source.close();
+        return source.toString();
+    }
+
+    String generatePreparedStatementProvider(BeanModel bean) {
+        String className = bean.getGeneratedName(PREPARED_STATEMENT_PROVIDER_SUFFIX);
+        String type = bean.getTypeName();
+        List<BeanProperty> properties = bean.getProperties();
+
+        SourceBuilder source = new SourceBuilder(bean.getPackageName());
+        source.line("import org.jeasy.batch.jdbc.PreparedStatementProvider;");
+        source.line();
+        source.line("import java.sql.PreparedStatement;");
+        source.line("import java.sql.SQLException;");
+        source.line();
+        source.line("/**");
+        source.line(" * {@link PreparedStatementProvider} of {@link %s}, generated by the Easy Batch annotation processor.", type);
+        source.line(" */");
+        source.open("public class %s implements PreparedStatementProvider", className);
+        source.line();
+        source.line("private final int[] properties;");
+        source.line();
+        source.line("/**");
+        source.line(" * Create a new {@link %s}.", className);
+        source.line(" *");
+        source.line(" * @param properties to set in the statement, in the same order as query parameters");
+        source.line(" */");
+        source.open("public %s(final String... properties)", className);
+        source.line("this.properties = new int[properties.length];");
+        source.open("for (int i = 0; i < properties.length; i++)");
+        source.line("this.properties[i] = indexOf(properties[i]);");
+        source.close();
+        source.close();
+        source.line();
+        source.line("@Override");
+        source.open("public void prepareStatement(final PreparedStatement preparedStatement, final Object record) throws SQLException");
+        source.line("%s payload = (%s) record;", type, type);
+        source.open("for (int i = 0; i < properties.length; i++)");
+        source.line("int index = i + 1;");
+        source.open("switch (properties[i])");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isReadable()) {
+                String setter = STATEMENT_SETTERS.getOrDefault(property.getTypeName(types), "setObject");
+                source.line("case %d: preparedStatement.%s(index, payload.%s()); break;", i, setter, property.getGetter());
+            }
+        }
+        source.line("default: throw new IllegalStateException();");
+        source.close();
+        source.close();
+        source.close();
+        source.line();
+        readablePropertyIndex(source, type, properties);
+        source.close();
+        return source.toString();
+    }
+
+    private void readablePropertyIndex(SourceBuilder source, String type, List<BeanProperty> properties) {
+        source.open("private static int indexOf(final String property)");
+        source.open("switch (property)");
+        for (int i = 0; i < properties.size(); i++) {
+            BeanProperty property = properties.get(i);
+            if (property.isReadable()) {
+                source.line("case \"%s\": return %d;", property.getName(), i);
+            }
+        }
+        source.line("default: throw new IllegalArgumentException(String.format(\"No property %%s found in type %%s\", property, \"%s\"));", type);
+        source.close();
+        source.close();
+    }
+
+    private String conversion(BeanProperty property) {
+        String typeName = property.getTypeName(types);
+        if ("java.lang.String".equals(typeName)) {
+            return "value";
+        }
+        String converter = constantName(CONVERTERS.get(typeName));
+        String primitiveConversion = PRIMITIVE_CONVERSIONS.get(typeName);
+        if (primitiveConversion != null) {
+            return String.format("%s.%s(value, 0, value.length())", converter, primitiveConversion);
+        }
+        return String.format("%s.convert(value)", converter);
+    }
+
+    private String rangeConversion(BeanProperty property) {
+        String typeName = property.getTypeName(types);
+        if ("java.lang.String".equals(typeName)) {
+            return "org.jeasy.batch.core.util.Utils.substring(record, start, end)";
+        }
+        String converter = constantName(CONVERTERS.get(typeName));
+        String primitiveConversion = PRIMITIVE_CONVERSIONS.get(typeName);
+        if (primitiveConversion != null) {
+            return String.format("%s.%s(record, start, end)", converter, primitiveConversion);
+        }
+        if (STRING_ONLY_CONVERTERS.contains(CONVERTERS.get(typeName))) {
+            return String.format("%s.convert(org.jeasy.batch.core.util.Utils.substring(record, start, end))", converter);
+        }
+        return String.format("%s.convert(record, start, end)", converter);
+    }
+
+    /*
+     * IntegerTypeConverter -> INTEGER_TYPE_CONVERTER
+     */
+    private static String constantName(String className) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < className.length(); i++) {
+            char c = className.charAt(i);
+            if (i > 0 && Character.isUpperCase(c)) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+
+    /**
+     * Minimal helper to write indented Java source code.
+     */
+    private static class SourceBuilder {
+
+        private static final String INDENTATION = "    ";
+
+        private final StringBuilder source = new StringBuilder();
+        private int level;
+
+        SourceBuilder(String packageName) {
+            if (!packageName.isEmpty()) {
+                line("package %s;", packageName);
+                line();
+            }
+        }
+
+        void line() {
+            source.append('\n');
+        }
+
+        void line(String format, Object... arguments) {
+            for (int i = 0; i < level; i++) {
+                source.append(INDENTATION);
+            }
+            source.append(String.format(format, arguments)).append('\n');
+        }
+
+        void indent() {
+            level++;
+        }
+
+        void open(String format, Object... arguments) {
+            line(String.format(format, arguments) + " {");
+            indent();
+        }
+
+        void close() {
+            close("}");
+        }
+
+        void close(String closing) {
+            level--;
+            line(closing);
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
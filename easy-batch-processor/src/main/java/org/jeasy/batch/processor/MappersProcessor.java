@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.processor;
+
+import org.jeasy.batch.processor.BeanModel.BeanProperty;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Annotation processor generating mappers for beans annotated with
+ * {@link org.jeasy.batch.core.mapper.GenerateMappers}.
+ *
+ * Generated mappers call getters and setters of the bean directly, so mapping records
+ * to beans (and back) does not involve any reflection at runtime. To use it, add the
+ * {@code easy-batch-processor} module to the compile time classpath (or to the annotation
+ * processor path) of the project.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@SupportedAnnotationTypes(MappersProcessor.GENERATE_MAPPERS)
+public class MappersProcessor extends AbstractProcessor {
+
+    static final String GENERATE_MAPPERS = "org.jeasy.batch.core.mapper.GenerateMappers";
+    private static final String PREPARED_STATEMENT_PROVIDER = "org.jeasy.batch.jdbc.PreparedStatementProvider";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        TypeElement generateMappers = processingEnv.getElementUtils().getTypeElement(GENERATE_MAPPERS);
+        if (generateMappers == null) {
+            return false;
+        }
+        MapperSourceGenerator generator = new MapperSourceGenerator(processingEnv.getTypeUtils());
+        boolean jdbcAvailable = processingEnv.getElementUtils().getTypeElement(PREPARED_STATEMENT_PROVIDER) != null;
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(generateMappers)) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(element, "@GenerateMappers can only be used on concrete classes");
+                continue;
+            }
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                error(element, "@GenerateMappers can only be used on public classes");
+                continue;
+            }
+            BeanModel bean = BeanModel.of((TypeElement) element, processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+            if (isInnerClass(bean.getType())) {
+                error(element, "@GenerateMappers can not be used on inner classes, the class must be static");
+                continue;
+            }
+            if (!bean.hasPublicNoArgConstructor()) {
+                error(element, "@GenerateMappers requires a public no-argument constructor");
+                continue;
+            }
+            for (BeanProperty property : bean.getProperties()) {
+                if (property.isWritable() && !generator.isConvertible(property)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, String.format(
+                            "Type %s of property %s is not supported by generated mapping plans, this property will be ignored",
+                            property.getType(), property.getName()), element);
+                }
+            }
+            write(bean, MapperSourceGenerator.MAPPING_PLAN_FACTORY_SUFFIX, generator.generateMappingPlanFactory(bean));
+            write(bean, MapperSourceGenerator.FIELD_EXTRACTOR_SUFFIX, generator.generateFieldExtractor(bean));
+            if (jdbcAvailable) {
+                write(bean, MapperSourceGenerator.PREPARED_STATEMENT_PROVIDER_SUFFIX, generator.generatePreparedStatementProvider(bean));
+            }
+        }
+        return false;
+    }
+
+    private boolean isInnerClass(TypeElement type) {
+        return type.getEnclosingElement().getKind() != ElementKind.PACKAGE && !type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private void write(BeanModel bean, String suffix, String source) {
+        String packageName = bean.getPackageName();
+        String className = bean.getGeneratedName(suffix);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, bean.getType());
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(bean.getType(), String.format("Unable to write %s: %s", qualifiedName, e.getMessage()));
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
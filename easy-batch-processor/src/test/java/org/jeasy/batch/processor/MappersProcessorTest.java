@@ -0,0 +1,202 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.processor;
+
+import org.jeasy.batch.core.mapper.MappingPlan;
+import org.jeasy.batch.core.record.GenericRecord;
+import org.jeasy.batch.core.record.Header;
+import org.jeasy.batch.core.record.Record;
+import org.jeasy.batch.core.record.StringRecord;
+import org.jeasy.batch.flatfile.DelimitedRecordMapper;
+import org.jeasy.batch.flatfile.DelimitedRecordMarshaller;
+import org.jeasy.batch.flatfile.FixedLengthRecordMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MappersProcessorTest {
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private Header header;
+
+    @Before
+    public void setUp() {
+        header = new Header(1L, "test", null);
+    }
+
+    @Test
+    public void generatedMappingPlanShouldMapValuesByPosition() throws Exception {
+        MappingPlan<Trade> mappingPlan = new TradeMappingPlanFactory()
+                .createMappingPlan("id", "code", null, "quantity", "price", "active", "date", "rank", "unknown");
+
+        Trade trade = mappingPlan.mapObject(new String[]{"1", "ABC", "ignored", "10", "12.50", "true", "2020-01-31", "3", "ignored"});
+
+        assertThat(trade.getId()).isEqualTo(1L);
+        assertThat(trade.getCode()).isEqualTo("ABC");
+        assertThat(trade.getQuantity()).isEqualTo(10);
+        assertThat(trade.getPrice()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(trade.isActive()).isTrue();
+        assertThat(trade.getDate()).isEqualTo(LocalDate.of(2020, 1, 31));
+        assertThat(trade.getRank()).isEqualTo(3);
+    }
+
+    @Test
+    public void generatedMappingPlanShouldIgnoreEmptyValuesAndUnsupportedTypes() throws Exception {
+        MappingPlan<Trade> mappingPlan = new TradeMappingPlanFactory().createMappingPlan("code", "rank", "tags");
+
+        Trade trade = mappingPlan.mapObject(new String[]{"", null, "a,b"});
+
+        assertThat(trade.getCode()).isNull();
+        assertThat(trade.getRank()).isNull();
+        assertThat(trade.getTags()).isNull();
+    }
+
+    @Test
+    public void generatedMappingPlanShouldReportConversionErrors() {
+        MappingPlan<Trade> mappingPlan = new TradeMappingPlanFactory().createMappingPlan("quantity");
+
+        assertThatThrownBy(() -> mappingPlan.mapObject(new String[]{"ten"}))
+                .hasMessage("Unable to convert ten to type int for field quantity")
+                .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void generatedMappingPlanShouldMapCharacterRangesByPosition() throws Exception {
+        MappingPlan<Trade> mappingPlan = new TradeMappingPlanFactory()
+                .createMappingPlan("id", "code", "quantity", "price", "active", "date", "rank", "tags");
+        String record = "1,ABC,10,12.50,true,2020-01-31,,a";
+
+        Trade trade = mappingPlan.mapObject(record,
+                new int[]{0, 2, 6, 9, 15, 20, 31, 32},
+                new int[]{1, 5, 8, 14, 19, 30, 31, 33});
+
+        assertThat(trade.getId()).isEqualTo(1L);
+        assertThat(trade.getCode()).isEqualTo("ABC");
+        assertThat(trade.getQuantity()).isEqualTo(10);
+        assertThat(trade.getPrice()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(trade.isActive()).isTrue();
+        assertThat(trade.getDate()).isEqualTo(LocalDate.of(2020, 1, 31));
+        assertThat(trade.getRank()).isNull();
+        assertThat(trade.getTags()).isNull();
+    }
+
+    @Test
+    public void generatedMappingPlanShouldReportConversionErrorsOfCharacterRanges() {
+        MappingPlan<Trade> mappingPlan = new TradeMappingPlanFactory().createMappingPlan("id", "quantity");
+
+        assertThatThrownBy(() -> mappingPlan.mapObject("1;ten", new int[]{0, 2}, new int[]{1, 5}))
+                .hasMessage("Unable to convert ten to type int for field quantity")
+                .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void generatedMappingPlanFactoryShouldPlugIntoDelimitedRecordMapper() throws Exception {
+        DelimitedRecordMapper<Trade> recordMapper = new DelimitedRecordMapper<>(new TradeMappingPlanFactory(), "id", "code", "quantity");
+
+        Record<Trade> record = recordMapper.processRecord(new StringRecord(header, "1,ABC,10"));
+
+        assertThat(record.getPayload().getId()).isEqualTo(1L);
+        assertThat(record.getPayload().getCode()).isEqualTo("ABC");
+        assertThat(record.getPayload().getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    public void generatedMappingPlanFactoryShouldPlugIntoFixedLengthRecordMapper() throws Exception {
+        FixedLengthRecordMapper<Trade> recordMapper = new FixedLengthRecordMapper<>(new TradeMappingPlanFactory(),
+                new int[]{2, 3, 4}, new String[]{"id", "code", "quantity"});
+
+        Record<Trade> record = recordMapper.processRecord(new StringRecord(header, "01ABC0010"));
+
+        assertThat(record.getPayload().getId()).isEqualTo(1L);
+        assertThat(record.getPayload().getCode()).isEqualTo("ABC");
+        assertThat(record.getPayload().getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    public void generatedFieldExtractorShouldExtractReadablePropertiesInDeclarationOrder() throws Exception {
+        Trade trade = trade();
+
+        Iterable<Object> fields = new TradeFieldExtractor().extractFields(trade);
+
+        assertThat(fields).containsExactly(1L, "ABC", 10, new BigDecimal("12.50"), true,
+                LocalDate.of(2020, 1, 31), 3, Collections.singletonList("a"));
+    }
+
+    @Test
+    public void generatedFieldExtractorShouldPlugIntoDelimitedRecordMarshaller() throws Exception {
+        DelimitedRecordMarshaller<Trade> marshaller = new DelimitedRecordMarshaller<>(
+                new TradeFieldExtractor("code", "quantity", "price"), ";", "");
+
+        Record<String> record = marshaller.processRecord(new GenericRecord<>(header, trade()));
+
+        assertThat(record.getPayload()).isEqualTo("ABC;10;12.50");
+    }
+
+    @Test
+    public void generatedFieldExtractorShouldRejectUnknownProperties() {
+        assertThatThrownBy(() -> new TradeFieldExtractor("unknown"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No property unknown found in type org.jeasy.batch.processor.Trade");
+    }
+
+    @Test
+    public void generatedPreparedStatementProviderShouldUseTypedSetters() throws Exception {
+        new TradePreparedStatementProvider("id", "code", "quantity", "price", "active", "rank")
+                .prepareStatement(preparedStatement, trade());
+
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).setString(2, "ABC");
+        verify(preparedStatement).setInt(3, 10);
+        verify(preparedStatement).setBigDecimal(4, new BigDecimal("12.50"));
+        verify(preparedStatement).setBoolean(5, true);
+        verify(preparedStatement).setObject(6, 3);
+    }
+
+    private Trade trade() {
+        Trade trade = new Trade();
+        trade.setId(1L);
+        trade.setCode("ABC");
+        trade.setQuantity(10);
+        trade.setPrice(new BigDecimal("12.50"));
+        trade.setActive(true);
+        trade.setDate(LocalDate.of(2020, 1, 31));
+        trade.setRank(3);
+        trade.setTags(Collections.singletonList("a"));
+        return trade;
+    }
+}
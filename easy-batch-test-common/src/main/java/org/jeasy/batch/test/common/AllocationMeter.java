@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.test.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+
+/**
+ * Measure the number of bytes allocated by a task, using the thread allocation counters of the JVM.
+ * Used by allocation budget tests to fail the build when a change allocates more than expected
+ * on a hot path.
+ *
+ * The task is run on the calling thread: allocations made by other threads are not measured.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class AllocationMeter {
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASUREMENT_RUNS = 5;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Check if thread allocation counters are supported and enabled in the current JVM.
+     *
+     * @return true if allocations can be measured
+     */
+    public static boolean isSupported() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        return sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Run a task processing a given number of records and return the number of bytes it allocated per record.
+     *
+     * The task is first run a few times to warm up the JVM (class loading, JIT compilation),
+     * then the minimum allocation of a few measured runs is returned, which filters out
+     * noise from one-off allocations.
+     *
+     * @param task to measure
+     * @param records number of records processed by each run of the task
+     * @return the number of bytes allocated per record
+     * @throws Exception if the task fails
+     */
+    public static long allocatedBytesPerRecord(Callable<?> task, long records) throws Exception {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Thread allocation counters are not supported by this JVM");
+        }
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.call();
+        }
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENT_RUNS; i++) {
+            long before = currentThreadAllocatedBytes();
+            task.call();
+            minimum = Math.min(minimum, currentThreadAllocatedBytes() - before);
+        }
+        return minimum / records;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
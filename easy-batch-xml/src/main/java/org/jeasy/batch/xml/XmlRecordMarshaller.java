@@ -23,7 +23,8 @@
  */
 package org.jeasy.batch.xml;
 
-import org.jeasy.batch.core.marshaller.RecordMarshaller;
+import org.jeasy.batch.core.marshaller.AppendableWriter;
+import org.jeasy.batch.core.marshaller.StreamingRecordMarshaller;
 import org.jeasy.batch.core.record.Record;
 
 import javax.xml.bind.JAXBContext;
@@ -38,10 +39,12 @@ import static org.jeasy.batch.core.util.Utils.checkNotNull;
  * Marshals an object to XML using JAXB.
  * The object must be annotated with JAXB annotations.
  *
+ * When marshalling to a sink, JAXB writes to it through an {@link AppendableWriter}.
+ *
  * @param <P> type of the objects to marshal
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class XmlRecordMarshaller<P> implements RecordMarshaller<Record<P>, XmlRecord> {
+public class XmlRecordMarshaller<P> implements StreamingRecordMarshaller<Record<P>, XmlRecord> {
 
     private Marshaller marshaller;
 
@@ -80,4 +83,9 @@ public class XmlRecordMarshaller<P> implements RecordMarshaller<Record<P>, XmlRe
         marshaller.marshal(record.getPayload(), stringWriter);
         return new XmlRecord(record.getHeader(), stringWriter.toString());
     }
+
+    @Override
+    public void marshal(final Record<P> record, final Appendable sink) throws Exception {
+        marshaller.marshal(record.getPayload(), new AppendableWriter(sink));
+    }
 }
@@ -0,0 +1,84 @@
+/**
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.batch.xml;
+
+import org.jeasy.batch.core.job.JobBuilder;
+import org.jeasy.batch.test.common.AllocationMeter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Upper bounds of bytes allocated per record when reading and mapping XML files.
+ * If this test fails, either remove the new allocations from the hot path,
+ * or raise the budget if they are really needed.
+ */
+public class AllocationBudgetTest {
+
+    private static final int RECORDS = 10000;
+
+    // in bytes per record, about 25% above the measure (30335 bytes). This test runs in its
+    // own fork without escape analysis (see the allocation-budget execution in the pom).
+    private static final long XML_MAPPING_BUDGET = 38000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private XmlRecordMapper<Person> recordMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(AllocationMeter.isSupported());
+        recordMapper = new XmlRecordMapper<>(Person.class);
+    }
+
+    @Test
+    public void xmlFileMappingShouldStayWithinAllocationBudget() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("<persons>");
+            for (int i = 0; i < RECORDS; i++) {
+                writer.write("<person><id>" + i + "</id><firstName>foo</firstName><lastName>bar</lastName>"
+                        + "<birthDate>2000-01-01</birthDate><married>true</married></person>");
+            }
+            writer.write("</persons>");
+        }
+
+        long allocatedBytesPerRecord = AllocationMeter.allocatedBytesPerRecord(() -> new JobBuilder()
+                .reader(new XmlFileRecordReader(file, "person"))
+                .mapper(recordMapper)
+                .batchSize(100)
+                .build()
+                .call(), RECORDS);
+        assertThat(allocatedBytesPerRecord).isLessThanOrEqualTo(XML_MAPPING_BUDGET);
+    }
+}
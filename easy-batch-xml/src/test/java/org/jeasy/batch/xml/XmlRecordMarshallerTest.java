@@ -57,4 +57,20 @@ public class XmlRecordMarshallerTest {
         assertThat(actual.getHeader()).isEqualTo(header);
         assertThat(actual.getPayload()).isXmlEqualTo(expected);
     }
+
+    @Test
+    public void testRecordMarshallingToSink() throws Exception {
+        // given
+        Person person = new Person(1, "foo", "bar", null, false);
+        when(record.getPayload()).thenReturn(person);
+        XmlRecordMarshaller<Person> xmlRecordMarshaller = new XmlRecordMarshaller<>(Person.class);
+        StringBuilder sink = new StringBuilder();
+        String expected = "<person><firstName>foo</firstName><id>1</id><lastName>bar</lastName><married>false</married></person>";
+
+        // when
+        xmlRecordMarshaller.marshal(record, sink);
+
+        // then
+        assertThat(sink.toString()).isXmlEqualTo(expected);
+    }
 }